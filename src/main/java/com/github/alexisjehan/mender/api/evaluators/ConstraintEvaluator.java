@@ -25,6 +25,7 @@ package com.github.alexisjehan.mender.api.evaluators;
 
 import com.github.alexisjehan.javanilla.misc.quality.Ensure;
 
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 /**
@@ -40,6 +41,12 @@ public final class ConstraintEvaluator<V> implements Evaluator<V> {
 	 */
 	private final Predicate<V> validator;
 
+	/**
+	 * Column of array values that is the only one read, or {@code -1} if the whole value is read.
+	 * @since 1.1.0
+	 */
+	private final int column;
+
 	/**
 	 * Constructor with a validator {@link Predicate}.
 	 * @param validator the validator {@link Predicate}
@@ -47,8 +54,18 @@ public final class ConstraintEvaluator<V> implements Evaluator<V> {
 	 * @since 1.0.0
 	 */
 	public ConstraintEvaluator(final Predicate<V> validator) {
-		Ensure.notNull("validator", validator);
+		this(Ensure.notNull("validator", validator), -1);
+	}
+
+	/**
+	 * Constructor with a validator {@link Predicate} and a column.
+	 * @param validator the validator {@link Predicate}
+	 * @param column the column of array values that is the only one read, or {@code -1} if the whole value is read
+	 * @since 1.1.0
+	 */
+	private ConstraintEvaluator(final Predicate<V> validator, final int column) {
 		this.validator = validator;
+		this.column = column;
 	}
 
 	/**
@@ -71,4 +88,32 @@ public final class ConstraintEvaluator<V> implements Evaluator<V> {
 	public double evaluate(final V value) {
 		return validator.test(value) ? 1.0d : Double.NaN;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public OptionalInt getColumn() {
+		return -1 != column ? OptionalInt.of(column) : OptionalInt.empty();
+	}
+
+	/**
+	 * Create a new {@code ConstraintEvaluator} instance of array values that only checks the value at the given column
+	 * using the given {@code ConstraintEvaluator}.
+	 * @param constraintEvaluator the {@code ConstraintEvaluator} of the value at the column
+	 * @param column the column
+	 * @param <T> the type of array values' elements
+	 * @return the created {@code ConstraintEvaluator}
+	 * @throws NullPointerException if the {@code ConstraintEvaluator} is {@code null}
+	 * @throws IllegalArgumentException if the column is lower than {@code 0}
+	 * @since 1.1.0
+	 */
+	public static <T> ConstraintEvaluator<T[]> ofColumn(
+			final ConstraintEvaluator<T> constraintEvaluator,
+			final int column
+	) {
+		Ensure.notNull("constraintEvaluator", constraintEvaluator);
+		Ensure.greaterThanOrEqualTo("column", column, 0);
+		return new ConstraintEvaluator<>(values -> constraintEvaluator.isValid(values[column]), column);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A Count-Min sketch that approximately counts keys using a fixed number of counters, based on their hash codes.
+ *
+ * <p><b>Note</b>: A count is never underestimated. With a width of {@code ceil(e / epsilon)} and a depth of
+ * {@code ceil(ln(1 / delta))}, it is overestimated by at most {@code epsilon} times the total number of occurrences
+ * with a probability of at least {@code 1 - delta}. Keys having the same hash code are always counted together.</p>
+ * @since 1.1.0
+ */
+final class CountMinSketch {
+
+	/**
+	 * Counters of each row.
+	 * @since 1.1.0
+	 */
+	private final long[][] counters;
+
+	/**
+	 * Sum of counts.
+	 * @since 1.1.0
+	 */
+	private long size;
+
+	/**
+	 * Constructor with a width and a depth.
+	 * @param width the number of counters of each row
+	 * @param depth the number of rows
+	 * @throws IllegalArgumentException if the width or the depth is lower than {@code 1}
+	 * @since 1.1.0
+	 */
+	CountMinSketch(final int width, final int depth) {
+		Ensure.greaterThanOrEqualTo("width", width, 1);
+		Ensure.greaterThanOrEqualTo("depth", depth, 1);
+		counters = new long[depth][width];
+	}
+
+	/**
+	 * Add an occurrence of the given key.
+	 * @param key the key to add
+	 * @since 1.1.0
+	 */
+	void add(final Object key) {
+		final var hash = mix(null != key ? key.hashCode() : 0);
+		final var step = mix(hash ^ 0x5BD1E995) | 1L;
+		for (var i = 0; i < counters.length; ++i) {
+			++counters[i][index(hash, step, i)];
+		}
+		++size;
+	}
+
+	/**
+	 * Get the approximate number of occurrences of the given key, which is never lower than the exact one.
+	 * @param key the key to count
+	 * @return the approximate number of occurrences
+	 * @since 1.1.0
+	 */
+	long count(final Object key) {
+		final var hash = mix(null != key ? key.hashCode() : 0);
+		final var step = mix(hash ^ 0x5BD1E995) | 1L;
+		var count = Long.MAX_VALUE;
+		for (var i = 0; i < counters.length; ++i) {
+			count = StrictMath.min(count, counters[i][index(hash, step, i)]);
+		}
+		return count;
+	}
+
+	/**
+	 * Get the total number of occurrences.
+	 * @return the total number of occurrences
+	 * @since 1.1.0
+	 */
+	long size() {
+		return size;
+	}
+
+	/**
+	 * Add counters of the given {@code CountMinSketch} of the same depth and width, so that counts remain never
+	 * underestimated.
+	 * @param other the other {@code CountMinSketch}
+	 * @throws IllegalArgumentException if the other {@code CountMinSketch} has not the same depth and width
+	 * @since 1.1.0
+	 */
+	void merge(final CountMinSketch other) {
+		if (counters.length != other.counters.length || counters[0].length != other.counters[0].length) {
+			throw new IllegalArgumentException(
+					"Invalid dimensions: " + other.counters.length + "x" + other.counters[0].length + " (not "
+							+ counters.length + "x" + counters[0].length + " expected)"
+			);
+		}
+		final var otherSize = other.size;
+		for (var i = 0; i < counters.length; ++i) {
+			final var row = counters[i];
+			final var otherRow = other.counters[i];
+			for (var j = 0; j < row.length; ++j) {
+				row[j] += otherRow[j];
+			}
+		}
+		size += otherSize;
+	}
+
+	/**
+	 * Write a snapshot, as the depth and the width followed by the total number of occurrences and every counter.
+	 *
+	 * <p><b>Note</b>: Counters depend on hash codes of keys, so that a snapshot is only valid for keys whose hash codes
+	 * do not change between processes.</p>
+	 * @param output the {@link DataOutput} to write to
+	 * @throws IOException if an I/O error occurs
+	 * @since 1.1.0
+	 */
+	void write(final DataOutput output) throws IOException {
+		output.writeInt(counters.length);
+		output.writeInt(counters[0].length);
+		output.writeLong(size);
+		for (final var row : counters) {
+			for (final var counter : row) {
+				output.writeLong(counter);
+			}
+		}
+	}
+
+	/**
+	 * Replace counters by a snapshot of a sketch of the same depth and width.
+	 * @param input the {@link DataInput} to read from
+	 * @throws IOException if an I/O error occurs or if the snapshot is not valid
+	 * @since 1.1.0
+	 */
+	void read(final DataInput input) throws IOException {
+		final var depth = input.readInt();
+		final var width = input.readInt();
+		Snapshots.ensure(
+				counters.length == depth && counters[0].length == width,
+				"Invalid dimensions: " + depth + "x" + width + " (expected " + counters.length + "x"
+						+ counters[0].length + ")"
+		);
+		final var newSize = input.readLong();
+		Snapshots.ensure(0L <= newSize, "Invalid size: " + newSize + " (expected positive or zero)");
+		final var newCounters = new long[depth][width];
+		for (final var row : newCounters) {
+			for (var i = 0; i < width; ++i) {
+				row[i] = input.readLong();
+			}
+		}
+		for (var i = 0; i < depth; ++i) {
+			System.arraycopy(newCounters[i], 0, counters[i], 0, width);
+		}
+		size = newSize;
+	}
+
+	/**
+	 * Get the index of a counter of the given row, combining two hashes.
+	 * @param hash the first hash
+	 * @param step the second hash, odd
+	 * @param row the row
+	 * @return the index of the counter
+	 * @since 1.1.0
+	 */
+	private int index(final long hash, final long step, final int row) {
+		return (int) Long.remainderUnsigned(hash + row * step, counters[row].length);
+	}
+
+	/**
+	 * Mix the given hash code so that its bits are spread.
+	 * @param hash the hash code
+	 * @return the mixed hash
+	 * @since 1.1.0
+	 */
+	private static long mix(final long hash) {
+		var mixed = hash * 0x9E3779B97F4A7C15L;
+		mixed ^= mixed >>> 32;
+		mixed *= 0xC2B2AE3D27D4EB4FL;
+		return mixed ^ mixed >>> 29;
+	}
+}
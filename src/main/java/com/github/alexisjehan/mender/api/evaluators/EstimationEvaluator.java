@@ -27,7 +27,16 @@ import com.github.alexisjehan.javanilla.misc.quality.Ensure;
 import com.github.alexisjehan.javanilla.util.bag.Bag;
 import com.github.alexisjehan.javanilla.util.bag.MapBag;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 /**
  * An empiric {@link Evaluator} that can be fitted to evaluate transformed values based on their frequency.
@@ -37,16 +46,52 @@ import java.util.function.Function;
 public final class EstimationEvaluator<V> implements Evaluator<V> {
 
 	/**
-	 * Transformer {@link Function}.
-	 * @since 1.0.0
+	 * Kind of {@link Frequencies} counted using a {@link Bag}.
+	 * @since 1.1.0
 	 */
-	private final Function<V, ?> transformer;
+	private static final int BAG_KIND = 1;
 
 	/**
-	 * {@link Bag} to count transformed values.
-	 * @since 1.0.0
+	 * Kind of {@link Frequencies} counted concurrently.
+	 * @since 1.1.0
+	 */
+	private static final int CONCURRENT_KIND = 2;
+
+	/**
+	 * Kind of {@link Frequencies} counted using a {@link CountMinSketch}.
+	 * @since 1.1.0
+	 */
+	private static final int SKETCH_KIND = 3;
+
+	/**
+	 * Kind of {@link Frequencies} counted using a {@link SlidingWindow}.
+	 * @since 1.1.0
+	 */
+	private static final int WINDOW_KIND = 4;
+
+	/**
+	 * Kind of {@link Frequencies} counted using an {@link IntHistogram}.
+	 * @since 1.1.0
+	 */
+	private static final int INT_KIND = 5;
+
+	/**
+	 * Kind of {@link Frequencies} of {@code boolean} transformed values.
+	 * @since 1.1.0
+	 */
+	private static final int BOOLEAN_KIND = 6;
+
+	/**
+	 * {@link Frequencies} of transformed values.
+	 * @since 1.1.0
+	 */
+	private final Frequencies<V> frequencies;
+
+	/**
+	 * Column of array values that is the only one read, or {@code -1} if the whole value is read.
+	 * @since 1.1.0
 	 */
-	private final Bag<Object> bag = new MapBag<>();
+	private final int column;
 
 	/**
 	 * Constructor with a transformer {@link Function}.
@@ -55,8 +100,27 @@ public final class EstimationEvaluator<V> implements Evaluator<V> {
 	 * @since 1.0.0
 	 */
 	public EstimationEvaluator(final Function<V, ?> transformer) {
-		Ensure.notNull("transformer", transformer);
-		this.transformer = transformer;
+		this(newFrequencies(Ensure.notNull("transformer", transformer)));
+	}
+
+	/**
+	 * Constructor with {@link Frequencies}.
+	 * @param frequencies {@link Frequencies} of transformed values
+	 * @since 1.1.0
+	 */
+	private EstimationEvaluator(final Frequencies<V> frequencies) {
+		this(frequencies, -1);
+	}
+
+	/**
+	 * Constructor with {@link Frequencies} and a column.
+	 * @param frequencies {@link Frequencies} of transformed values
+	 * @param column the column of array values that is the only one read, or {@code -1} if the whole value is read
+	 * @since 1.1.0
+	 */
+	private EstimationEvaluator(final Frequencies<V> frequencies, final int column) {
+		this.frequencies = frequencies;
+		this.column = column;
 	}
 
 	/**
@@ -65,7 +129,7 @@ public final class EstimationEvaluator<V> implements Evaluator<V> {
 	 * @since 1.0.0
 	 */
 	public void fit(final V value) {
-		bag.add(transformer.apply(value));
+		frequencies.add(value);
 	}
 
 	/**
@@ -76,10 +140,748 @@ public final class EstimationEvaluator<V> implements Evaluator<V> {
 	 */
 	@Override
 	public double evaluate(final V value) {
-		final var size = bag.size();
+		final var count = frequencies.count(value);
+		final var size = frequencies.size();
 		if (0L == size) {
 			return Double.NaN;
 		}
-		return (double) bag.count(transformer.apply(value)) / size;
+		return (double) count / size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public OptionalInt getColumn() {
+		return -1 != column ? OptionalInt.of(column) : OptionalInt.empty();
+	}
+
+	/**
+	 * Create a new unfitted {@code EstimationEvaluator} of the same kind, with the same transformer and column.
+	 * @return the created {@code EstimationEvaluator}
+	 * @since 1.1.0
+	 */
+	public EstimationEvaluator<V> newUnfitted() {
+		return new EstimationEvaluator<>(frequencies.create(), column);
+	}
+
+	/**
+	 * Add fitted frequencies of transformed values of the given {@code EstimationEvaluator} of the same kind, so that
+	 * {@code EstimationEvaluator}s fitted separately, for instance on shards of values, could be combined.
+	 *
+	 * <p><b>Note</b>: Both {@code EstimationEvaluator}s are expected to use the same transformer.</p>
+	 * @param other the other {@code EstimationEvaluator}
+	 * @throws NullPointerException if the other {@code EstimationEvaluator} is {@code null}
+	 * @throws IllegalArgumentException if the other {@code EstimationEvaluator} is not of the same kind, or has not the
+	 *         same dimensions
+	 * @since 1.1.0
+	 */
+	public void merge(final EstimationEvaluator<V> other) {
+		Ensure.notNull("other", other);
+		frequencies.merge(other.frequencies);
+	}
+
+	/**
+	 * Write a snapshot of fitted frequencies of transformed values using a compact binary format, so that they could
+	 * be read by an {@code EstimationEvaluator} of the same kind without fitting values again.
+	 *
+	 * <p><b>Note</b>: Only {@code null}, {@link String}, {@link Boolean}, {@link Character} and boxed primitive number
+	 * transformed values are supported.</p>
+	 * @param output the {@link DataOutput} to write to
+	 * @throws NullPointerException if the {@link DataOutput} is {@code null}
+	 * @throws IOException if an I/O error occurs or if any transformed value's type is not supported
+	 * @since 1.1.0
+	 */
+	public void write(final DataOutput output) throws IOException {
+		Ensure.notNull("output", output);
+		frequencies.write(output);
+	}
+
+	/**
+	 * Replace fitted frequencies of transformed values by a snapshot written by an {@code EstimationEvaluator} of the
+	 * same kind, transformed values being read one by one from the {@link DataInput}.
+	 *
+	 * <p><b>Note</b>: If an {@link IOException} is thrown, frequencies could be partially replaced.</p>
+	 * @param input the {@link DataInput} to read from
+	 * @throws NullPointerException if the {@link DataInput} is {@code null}
+	 * @throws IOException if an I/O error occurs or if the snapshot is not valid
+	 * @since 1.1.0
+	 */
+	public void read(final DataInput input) throws IOException {
+		Ensure.notNull("input", input);
+		frequencies.read(input);
+	}
+
+	/**
+	 * Get the structure that counts occurrences of the given {@link Frequencies}, which must be of the given type.
+	 * @param frequencies the {@link Frequencies}
+	 * @param type the type of the structure
+	 * @param <C> the type of the structure
+	 * @return the structure that counts occurrences
+	 * @throws IllegalArgumentException if the structure is not of the given type
+	 * @since 1.1.0
+	 */
+	private static <C> C countsOf(final Frequencies<?> frequencies, final Class<C> type) {
+		final var counts = frequencies.getCounts();
+		if (!type.isInstance(counts)) {
+			throw new IllegalArgumentException(
+					"Invalid frequencies kind: " + counts.getClass().getName() + " (not " + type.getName() + " expected)"
+			);
+		}
+		return type.cast(counts);
+	}
+
+	/**
+	 * Create {@link Frequencies} of values transformed by the given {@link Function}, counted using a {@link Bag}.
+	 * @param transformer the transformer {@link Function}
+	 * @param <V> the value's type
+	 * @return the created {@link Frequencies}
+	 * @since 1.1.0
+	 */
+	private static <V> Frequencies<V> newFrequencies(final Function<V, ?> transformer) {
+		final var bag = new MapBag<>();
+		return new Frequencies<>() {
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public void add(final V value) {
+				bag.add(transformer.apply(value));
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public long count(final V value) {
+				return bag.count(transformer.apply(value));
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public long size() {
+				return bag.size();
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public Frequencies<V> create() {
+				return newFrequencies(transformer);
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public Object getCounts() {
+				return bag;
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public void merge(final Frequencies<V> other) {
+				final Bag<?> otherBag = countsOf(other, Bag.class);
+				for (final var entry : otherBag.toMap().entrySet()) {
+					bag.add(entry.getKey(), entry.getValue());
+				}
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public void write(final DataOutput output) throws IOException {
+				output.writeByte(BAG_KIND);
+				Snapshots.writeBag(output, bag);
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public void read(final DataInput input) throws IOException {
+				Snapshots.readKind(input, BAG_KIND);
+				bag.clear();
+				Snapshots.readBag(input, bag);
+			}
+		};
+	}
+
+	/**
+	 * Create a new {@code EstimationEvaluator} instance of array values that only fits and evaluates the value at the
+	 * given column using the given {@code EstimationEvaluator}.
+	 *
+	 * <p><b>Note</b>: Both {@code EstimationEvaluator}s share the same frequencies.</p>
+	 * @param estimationEvaluator the {@code EstimationEvaluator} of the value at the column
+	 * @param column the column
+	 * @param <T> the type of array values' elements
+	 * @return the created {@code EstimationEvaluator}
+	 * @throws NullPointerException if the {@code EstimationEvaluator} is {@code null}
+	 * @throws IllegalArgumentException if the column is lower than {@code 0}
+	 * @since 1.1.0
+	 */
+	public static <T> EstimationEvaluator<T[]> ofColumn(
+			final EstimationEvaluator<T> estimationEvaluator,
+			final int column
+	) {
+		Ensure.notNull("estimationEvaluator", estimationEvaluator);
+		Ensure.greaterThanOrEqualTo("column", column, 0);
+		final var frequencies = estimationEvaluator.frequencies;
+		return new EstimationEvaluator<>(
+				new Frequencies<>() {
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void add(final T[] values) {
+						frequencies.add(values[column]);
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public long count(final T[] values) {
+						return frequencies.count(values[column]);
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public long size() {
+						return frequencies.size();
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public Frequencies<T[]> create() {
+						return ofColumn(new EstimationEvaluator<>(frequencies.create()), column).frequencies;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public Object getCounts() {
+						return frequencies;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					@SuppressWarnings("unchecked")
+					public void merge(final Frequencies<T[]> other) {
+						frequencies.merge(countsOf(other, Frequencies.class));
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void write(final DataOutput output) throws IOException {
+						frequencies.write(output);
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void read(final DataInput input) throws IOException {
+						frequencies.read(input);
+					}
+				},
+				column
+		);
+	}
+
+	/**
+	 * Create a new {@code EstimationEvaluator} instance with a transformer {@link Function}, that could be fitted and
+	 * evaluated concurrently.
+	 *
+	 * <p><b>Note</b>: Transformed values are counted using {@link LongAdder}s, so that concurrent fits scale and
+	 * evaluations do not lock.</p>
+	 * @param transformer the transformer {@link Function}
+	 * @param <V> the value's type
+	 * @return the created {@code EstimationEvaluator}
+	 * @throws NullPointerException if the transformer {@link Function} is {@code null}
+	 * @since 1.1.0
+	 */
+	public static <V> EstimationEvaluator<V> ofConcurrent(final Function<V, ?> transformer) {
+		Ensure.notNull("transformer", transformer);
+		final var counts = new ConcurrentHashMap<Object, LongAdder>();
+		final var size = new LongAdder();
+		return new EstimationEvaluator<>(
+				new Frequencies<>() {
+
+					/**
+					 * {@inheritDoc}
+					 *
+					 * <p><b>Note</b>: The size is incremented before the count, so that a concurrent evaluation does
+					 * not get a count greater than the size.</p>
+					 */
+					@Override
+					public void add(final V value) {
+						size.increment();
+						counts.computeIfAbsent(transformer.apply(value), key -> new LongAdder()).increment();
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public long count(final V value) {
+						final var count = counts.get(transformer.apply(value));
+						return null != count ? count.sum() : 0L;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public long size() {
+						return size.sum();
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public Frequencies<V> create() {
+						return ofConcurrent(transformer).frequencies;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public Object getCounts() {
+						return counts;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void merge(final Frequencies<V> other) {
+						final Map<?, ?> otherCounts = countsOf(other, ConcurrentHashMap.class);
+						for (final var entry : otherCounts.entrySet()) {
+							final var count = ((LongAdder) entry.getValue()).sum();
+							size.add(count);
+							counts.computeIfAbsent(entry.getKey(), key -> new LongAdder()).add(count);
+						}
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void write(final DataOutput output) throws IOException {
+						output.writeByte(CONCURRENT_KIND);
+						output.writeInt(counts.size());
+						for (final var entry : counts.entrySet()) {
+							Snapshots.writeKey(output, entry.getKey());
+							output.writeLong(entry.getValue().sum());
+						}
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void read(final DataInput input) throws IOException {
+						Snapshots.readKind(input, CONCURRENT_KIND);
+						final var distinct = input.readInt();
+						Snapshots.ensure(0 <= distinct, "Invalid distinct: " + distinct + " (expected positive or zero)");
+						counts.clear();
+						size.reset();
+						for (var i = 0; i < distinct; ++i) {
+							final var adder = counts.computeIfAbsent(Snapshots.readKey(input), key -> new LongAdder());
+							final var count = Snapshots.readCount(input);
+							size.add(count);
+							adder.add(count);
+						}
+					}
+				}
+		);
+	}
+
+	/**
+	 * Create a new {@code EstimationEvaluator} instance with a transformer {@link Function}, whose transformed values
+	 * are approximately counted in a fixed memory using a Count-Min sketch of the given width and depth.
+	 *
+	 * <p><b>Note</b>: A score is never underestimated. It is overestimated by at most {@code e / width} with a
+	 * probability of at least {@code 1 - exp(-depth)}, transformed values having the same hash code being always
+	 * counted together.</p>
+	 * @param transformer the transformer {@link Function}
+	 * @param width the number of counters of each row of the sketch
+	 * @param depth the number of rows of the sketch
+	 * @param <V> the value's type
+	 * @return the created {@code EstimationEvaluator}
+	 * @throws NullPointerException if the transformer {@link Function} is {@code null}
+	 * @throws IllegalArgumentException if the width or the depth is lower than {@code 1}
+	 * @since 1.1.0
+	 */
+	public static <V> EstimationEvaluator<V> ofSketch(
+			final Function<V, ?> transformer,
+			final int width,
+			final int depth
+	) {
+		Ensure.notNull("transformer", transformer);
+		final var sketch = new CountMinSketch(width, depth);
+		return new EstimationEvaluator<>(
+				new Frequencies<>() {
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void add(final V value) {
+						sketch.add(transformer.apply(value));
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public long count(final V value) {
+						return sketch.count(transformer.apply(value));
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public long size() {
+						return sketch.size();
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public Frequencies<V> create() {
+						return ofSketch(transformer, width, depth).frequencies;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public Object getCounts() {
+						return sketch;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void merge(final Frequencies<V> other) {
+						sketch.merge(countsOf(other, CountMinSketch.class));
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void write(final DataOutput output) throws IOException {
+						output.writeByte(SKETCH_KIND);
+						sketch.write(output);
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void read(final DataInput input) throws IOException {
+						Snapshots.readKind(input, SKETCH_KIND);
+						sketch.read(input);
+					}
+				}
+		);
+	}
+
+	/**
+	 * Create a new {@code EstimationEvaluator} instance with a transformer {@link Function}, whose transformed values
+	 * are only counted for the most recent fits, using a sliding window of the given number of buckets of the given
+	 * size.
+	 *
+	 * <p><b>Note</b>: Between {@code (bucketCount - 1) * bucketSize} and {@code bucketCount * bucketSize} most recent
+	 * fits are counted, so that the memory is bounded and scores track the recent frequencies.</p>
+	 * @param transformer the transformer {@link Function}
+	 * @param bucketSize the number of fits of each bucket
+	 * @param bucketCount the number of buckets
+	 * @param <V> the value's type
+	 * @return the created {@code EstimationEvaluator}
+	 * @throws NullPointerException if the transformer {@link Function} is {@code null}
+	 * @throws IllegalArgumentException if the bucket size or the bucket count is lower than {@code 1}
+	 * @since 1.1.0
+	 */
+	public static <V> EstimationEvaluator<V> ofWindow(
+			final Function<V, ?> transformer,
+			final int bucketSize,
+			final int bucketCount
+	) {
+		Ensure.notNull("transformer", transformer);
+		final var window = new SlidingWindow(bucketSize, bucketCount);
+		return new EstimationEvaluator<>(
+				new Frequencies<>() {
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void add(final V value) {
+						window.add(transformer.apply(value));
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public long count(final V value) {
+						return window.count(transformer.apply(value));
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public long size() {
+						return window.size();
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public Frequencies<V> create() {
+						return ofWindow(transformer, bucketSize, bucketCount).frequencies;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public Object getCounts() {
+						return window;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void merge(final Frequencies<V> other) {
+						window.merge(countsOf(other, SlidingWindow.class));
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void write(final DataOutput output) throws IOException {
+						output.writeByte(WINDOW_KIND);
+						window.write(output);
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void read(final DataInput input) throws IOException {
+						Snapshots.readKind(input, WINDOW_KIND);
+						window.read(input);
+					}
+				}
+		);
+	}
+
+	/**
+	 * Create a new {@code EstimationEvaluator} instance with a transformer {@link ToIntFunction}, whose transformed
+	 * values are counted without being boxed.
+	 * @param transformer the transformer {@link ToIntFunction}
+	 * @param <V> the value's type
+	 * @return the created {@code EstimationEvaluator}
+	 * @throws NullPointerException if the transformer {@link ToIntFunction} is {@code null}
+	 * @since 1.1.0
+	 */
+	public static <V> EstimationEvaluator<V> ofInt(final ToIntFunction<V> transformer) {
+		Ensure.notNull("transformer", transformer);
+		final var histogram = new IntHistogram();
+		return new EstimationEvaluator<>(
+				new Frequencies<>() {
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void add(final V value) {
+						histogram.add(transformer.applyAsInt(value));
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public long count(final V value) {
+						return histogram.count(transformer.applyAsInt(value));
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public long size() {
+						return histogram.size();
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public Frequencies<V> create() {
+						return ofInt(transformer).frequencies;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public Object getCounts() {
+						return histogram;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void merge(final Frequencies<V> other) {
+						histogram.merge(countsOf(other, IntHistogram.class));
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void write(final DataOutput output) throws IOException {
+						output.writeByte(INT_KIND);
+						histogram.write(output);
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void read(final DataInput input) throws IOException {
+						Snapshots.readKind(input, INT_KIND);
+						histogram.read(input);
+					}
+				}
+		);
+	}
+
+	/**
+	 * Create a new {@code EstimationEvaluator} instance with a transformer {@link Predicate}, whose transformed
+	 * values are counted without being boxed.
+	 * @param transformer the transformer {@link Predicate}
+	 * @param <V> the value's type
+	 * @return the created {@code EstimationEvaluator}
+	 * @throws NullPointerException if the transformer {@link Predicate} is {@code null}
+	 * @since 1.1.0
+	 */
+	public static <V> EstimationEvaluator<V> ofBoolean(final Predicate<V> transformer) {
+		Ensure.notNull("transformer", transformer);
+		final var counts = new long[2];
+		return new EstimationEvaluator<>(
+				new Frequencies<>() {
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void add(final V value) {
+						++counts[transformer.test(value) ? 1 : 0];
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public long count(final V value) {
+						return counts[transformer.test(value) ? 1 : 0];
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public long size() {
+						return counts[0] + counts[1];
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public Frequencies<V> create() {
+						return ofBoolean(transformer).frequencies;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public Object getCounts() {
+						return counts;
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void merge(final Frequencies<V> other) {
+						final var otherCounts = countsOf(other, long[].class);
+						counts[0] += otherCounts[0];
+						counts[1] += otherCounts[1];
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void write(final DataOutput output) throws IOException {
+						output.writeByte(BOOLEAN_KIND);
+						output.writeLong(counts[0]);
+						output.writeLong(counts[1]);
+					}
+
+					/**
+					 * {@inheritDoc}
+					 */
+					@Override
+					public void read(final DataInput input) throws IOException {
+						Snapshots.readKind(input, BOOLEAN_KIND);
+						final var falseCount = input.readLong();
+						final var trueCount = input.readLong();
+						Snapshots.ensure(
+								0L <= falseCount && 0L <= trueCount,
+								"Invalid counts: " + falseCount + " and " + trueCount + " (expected positive or zero)"
+						);
+						counts[0] = falseCount;
+						counts[1] = trueCount;
+					}
+				}
+		);
 	}
-}
\ No newline at end of file
+}
@@ -23,6 +23,8 @@
  */
 package com.github.alexisjehan.mender.api.evaluators;
 
+import java.util.OptionalInt;
+
 /**
  * Interface for a component able to evaluate values.
  *
@@ -41,4 +43,13 @@ public interface Evaluator<V> {
 	 * @since 1.0.0
 	 */
 	double evaluate(V value);
+
+	/**
+	 * Get an {@link OptionalInt} of the column of array values that is the only one read by this evaluator.
+	 * @return an {@link OptionalInt} of the column, empty if the whole value is read
+	 * @since 1.1.0
+	 */
+	default OptionalInt getColumn() {
+		return OptionalInt.empty();
+	}
 }
\ No newline at end of file
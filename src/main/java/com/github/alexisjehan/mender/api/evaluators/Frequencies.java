@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Frequencies of values used by an {@link EstimationEvaluator}.
+ * @param <V> the value's type
+ * @since 1.1.0
+ */
+interface Frequencies<V> {
+
+	/**
+	 * Add an occurrence of the given value.
+	 * @param value the value to add
+	 * @since 1.1.0
+	 */
+	void add(V value);
+
+	/**
+	 * Get the number of occurrences of the given value.
+	 * @param value the value to count
+	 * @return the number of occurrences
+	 * @since 1.1.0
+	 */
+	long count(V value);
+
+	/**
+	 * Get the total number of occurrences.
+	 * @return the total number of occurrences
+	 * @since 1.1.0
+	 */
+	long size();
+
+	/**
+	 * Create new empty {@code Frequencies} of the same kind, with the same transformer.
+	 * @return the created {@code Frequencies}
+	 * @since 1.1.0
+	 */
+	Frequencies<V> create();
+
+	/**
+	 * Get the structure that counts occurrences, so that {@code Frequencies} of the same kind could merge it.
+	 * @return the structure that counts occurrences
+	 * @since 1.1.0
+	 */
+	Object getCounts();
+
+	/**
+	 * Add occurrences of the given {@code Frequencies} of the same kind.
+	 * @param other the other {@code Frequencies}
+	 * @throws IllegalArgumentException if the other {@code Frequencies} are not of the same kind
+	 * @since 1.1.0
+	 */
+	void merge(Frequencies<V> other);
+
+	/**
+	 * Write a snapshot of occurrences.
+	 * @param output the {@link DataOutput} to write to
+	 * @throws IOException if an I/O error occurs or if any transformed value's type is not supported
+	 * @since 1.1.0
+	 */
+	void write(DataOutput output) throws IOException;
+
+	/**
+	 * Replace occurrences by a snapshot written by the same kind of {@code Frequencies}.
+	 * @param input the {@link DataInput} to read from
+	 * @throws IOException if an I/O error occurs or if the snapshot is not valid
+	 * @since 1.1.0
+	 */
+	void read(DataInput input) throws IOException;
+}
@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A histogram that counts {@code int} keys using open addressing with linear probing, without boxing them.
+ * @since 1.1.0
+ */
+final class IntHistogram {
+
+	/**
+	 * Initial capacity, as a power of {@code 2}.
+	 * @since 1.1.0
+	 */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Keys of slots.
+	 * @since 1.1.0
+	 */
+	private int[] keys = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Counts of slots, {@code 0} for a free slot.
+	 * @since 1.1.0
+	 */
+	private long[] counts = new long[INITIAL_CAPACITY];
+
+	/**
+	 * Number of used slots.
+	 * @since 1.1.0
+	 */
+	private int distinct;
+
+	/**
+	 * Sum of counts.
+	 * @since 1.1.0
+	 */
+	private long size;
+
+	/**
+	 * Add an occurrence of the given key.
+	 * @param key the key to add
+	 * @since 1.1.0
+	 */
+	void add(final int key) {
+		add(key, 1L);
+	}
+
+	/**
+	 * Add occurrences of the given key.
+	 * @param key the key to add
+	 * @param count the positive number of occurrences to add
+	 * @since 1.1.0
+	 */
+	private void add(final int key, final long count) {
+		if (keys.length <= 2 * (distinct + 1)) {
+			resize();
+		}
+		final var slot = slot(keys, counts, key);
+		if (0L == counts[slot]) {
+			keys[slot] = key;
+			++distinct;
+		}
+		counts[slot] += count;
+		size += count;
+	}
+
+	/**
+	 * Get the number of occurrences of the given key.
+	 * @param key the key to count
+	 * @return the number of occurrences
+	 * @since 1.1.0
+	 */
+	long count(final int key) {
+		return counts[slot(keys, counts, key)];
+	}
+
+	/**
+	 * Get the total number of occurrences.
+	 * @return the total number of occurrences
+	 * @since 1.1.0
+	 */
+	long size() {
+		return size;
+	}
+
+	/**
+	 * Add occurrences of every key of the given {@code IntHistogram}.
+	 * @param other the other {@code IntHistogram}
+	 * @since 1.1.0
+	 */
+	void merge(final IntHistogram other) {
+		final var otherKeys = other.keys;
+		final var otherCounts = other.counts;
+		for (var i = 0; i < otherKeys.length; ++i) {
+			if (0L != otherCounts[i]) {
+				add(otherKeys[i], otherCounts[i]);
+			}
+		}
+	}
+
+	/**
+	 * Write a snapshot, as the number of used slots followed by each key and its count.
+	 * @param output the {@link DataOutput} to write to
+	 * @throws IOException if an I/O error occurs
+	 * @since 1.1.0
+	 */
+	void write(final DataOutput output) throws IOException {
+		output.writeInt(distinct);
+		for (var i = 0; i < keys.length; ++i) {
+			if (0L != counts[i]) {
+				output.writeInt(keys[i]);
+				output.writeLong(counts[i]);
+			}
+		}
+	}
+
+	/**
+	 * Replace keys by a snapshot, presizing slots so that no resize occurs while reading.
+	 * @param input the {@link DataInput} to read from
+	 * @throws IOException if an I/O error occurs or if the snapshot is not valid
+	 * @since 1.1.0
+	 */
+	void read(final DataInput input) throws IOException {
+		final var newDistinct = input.readInt();
+		Snapshots.ensure(
+				0 <= newDistinct && newDistinct < 1 << 29,
+				"Invalid distinct: " + newDistinct + " (expected between 0 and " + ((1 << 29) - 1) + ")"
+		);
+		var capacity = INITIAL_CAPACITY;
+		while (capacity <= 2 * (newDistinct + 1)) {
+			capacity *= 2;
+		}
+		final var newKeys = new int[capacity];
+		final var newCounts = new long[capacity];
+		var newSize = 0L;
+		for (var i = 0; i < newDistinct; ++i) {
+			final var key = input.readInt();
+			final var count = Snapshots.readCount(input);
+			final var slot = slot(newKeys, newCounts, key);
+			Snapshots.ensure(0L == newCounts[slot], "Duplicate key: " + key);
+			newKeys[slot] = key;
+			newCounts[slot] = count;
+			newSize += count;
+		}
+		keys = newKeys;
+		counts = newCounts;
+		distinct = newDistinct;
+		size = newSize;
+	}
+
+	/**
+	 * Double the capacity, moving every used slot.
+	 * @since 1.1.0
+	 */
+	private void resize() {
+		final var newKeys = new int[2 * keys.length];
+		final var newCounts = new long[2 * counts.length];
+		for (var i = 0; i < keys.length; ++i) {
+			if (0L != counts[i]) {
+				final var slot = slot(newKeys, newCounts, keys[i]);
+				newKeys[slot] = keys[i];
+				newCounts[slot] = counts[i];
+			}
+		}
+		keys = newKeys;
+		counts = newCounts;
+	}
+
+	/**
+	 * Find the slot of the given key, or the free slot where it would be stored.
+	 * @param keys keys of slots
+	 * @param counts counts of slots
+	 * @param key the key to find
+	 * @return the slot
+	 * @since 1.1.0
+	 */
+	private static int slot(final int[] keys, final long[] counts, final int key) {
+		final var mask = keys.length - 1;
+		final var hash = key * 0x9E3779B9;
+		var slot = (hash ^ hash >>> 16) & mask;
+		while (0L != counts[slot] && key != keys[slot]) {
+			slot = slot + 1 & mask;
+		}
+		return slot;
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Interface for a component able to aggregate scores of {@link Evaluator}s between {@code 0} and {@code 1} into a
+ * single score, as a finishing of the sum of their weighted terms.
+ *
+ * <p><b>Note</b>: Terms and the finishing must be increasing, so that a greater sum of terms is a greater score and a
+ * sum of terms could be bounded by the term of {@code 1}. A {@code NaN} term makes the score {@code NaN}.</p>
+ * @since 1.1.0
+ */
+public interface ScoreAggregator {
+
+	/**
+	 * Get the positive weight of the given {@link Evaluator}'s terms.
+	 * @param evaluator the {@link Evaluator}
+	 * @return the weight
+	 * @since 1.1.0
+	 */
+	default double weight(final Evaluator<?> evaluator) {
+		return 1.0d;
+	}
+
+	/**
+	 * Get the term of the given score of an {@link Evaluator}, before being weighted.
+	 * @param score the score, between {@code 0} and {@code 1} or {@code NaN}
+	 * @return the term
+	 * @since 1.1.0
+	 */
+	double term(double score);
+
+	/**
+	 * Aggregate the given sum of weighted terms into a single score.
+	 * @param sum the sum of weighted terms
+	 * @param weightSum the sum of weights
+	 * @return the aggregated score
+	 * @since 1.1.0
+	 */
+	double aggregate(double sum, double weightSum);
+
+	/**
+	 * Create a new {@code ScoreAggregator} instance that aggregates scores as their mean.
+	 * @return the created {@code ScoreAggregator}
+	 * @since 1.1.0
+	 */
+	static ScoreAggregator mean() {
+		return weightedMean(evaluator -> 1.0d);
+	}
+
+	/**
+	 * Create a new {@code ScoreAggregator} instance that aggregates scores as their weighted mean.
+	 * @param weights the {@link ToDoubleFunction} of the positive weight of each {@link Evaluator}
+	 * @return the created {@code ScoreAggregator}
+	 * @throws NullPointerException if the {@link ToDoubleFunction} of weights is {@code null}
+	 * @since 1.1.0
+	 */
+	static ScoreAggregator weightedMean(final ToDoubleFunction<? super Evaluator<?>> weights) {
+		Ensure.notNull("weights", weights);
+		return new ScoreAggregator() {
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public double weight(final Evaluator<?> evaluator) {
+				return weights.applyAsDouble(evaluator);
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public double term(final double score) {
+				return score;
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public double aggregate(final double sum, final double weightSum) {
+				return sum / weightSum;
+			}
+		};
+	}
+
+	/**
+	 * Create a new {@code ScoreAggregator} instance that aggregates scores as their geometric mean, which ranks them
+	 * as their product so that a single low score penalizes the whole score. Logarithms of scores are summed, so that
+	 * products of many scores do not underflow.
+	 *
+	 * <p><b>Note</b>: A score of {@code 0} is replaced by the lowest positive {@code double} value, so that the
+	 * aggregated score is positive and candidates with zero scores are still ranked.</p>
+	 * @return the created {@code ScoreAggregator}
+	 * @since 1.1.0
+	 */
+	static ScoreAggregator geometricMean() {
+		return new ScoreAggregator() {
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public double term(final double score) {
+				return StrictMath.log(StrictMath.max(score, Double.MIN_VALUE));
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public double aggregate(final double sum, final double weightSum) {
+				return StrictMath.exp(sum / weightSum);
+			}
+		};
+	}
+}
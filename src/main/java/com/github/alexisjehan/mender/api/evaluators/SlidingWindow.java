@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.util.bag.Bag;
+import com.github.alexisjehan.javanilla.util.bag.MapBag;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A sliding window that counts the most recent keys using a ring of buckets, the oldest bucket being evicted once the
+ * current one is full.
+ *
+ * <p><b>Note</b>: Between {@code (bucketCount - 1) * bucketSize} and {@code bucketCount * bucketSize} most recent
+ * occurrences are counted, so that the memory is bounded.</p>
+ * @since 1.1.0
+ */
+final class SlidingWindow {
+
+	/**
+	 * Number of occurrences of each bucket.
+	 * @since 1.1.0
+	 */
+	private final int bucketSize;
+
+	/**
+	 * {@link List} of {@link Bag}s of buckets.
+	 * @since 1.1.0
+	 */
+	private final List<Bag<Object>> buckets;
+
+	/**
+	 * {@link Bag} of all buckets.
+	 * @since 1.1.0
+	 */
+	private final Bag<Object> bag = new MapBag<>();
+
+	/**
+	 * Index of the current bucket.
+	 * @since 1.1.0
+	 */
+	private int bucket;
+
+	/**
+	 * Number of occurrences of the current bucket.
+	 * @since 1.1.0
+	 */
+	private int bucketOccurrences;
+
+	/**
+	 * Number of occurrences of all buckets.
+	 * @since 1.1.0
+	 */
+	private long size;
+
+	/**
+	 * Constructor with a bucket size and a bucket count.
+	 * @param bucketSize the number of occurrences of each bucket
+	 * @param bucketCount the number of buckets
+	 * @throws IllegalArgumentException if the bucket size or the bucket count is lower than {@code 1}
+	 * @since 1.1.0
+	 */
+	SlidingWindow(final int bucketSize, final int bucketCount) {
+		Ensure.greaterThanOrEqualTo("bucketSize", bucketSize, 1);
+		Ensure.greaterThanOrEqualTo("bucketCount", bucketCount, 1);
+		this.bucketSize = bucketSize;
+		buckets = new ArrayList<>(bucketCount);
+		for (var i = 0; i < bucketCount; ++i) {
+			buckets.add(new MapBag<>());
+		}
+	}
+
+	/**
+	 * Add an occurrence of the given key, evicting the oldest bucket first if the current one is full.
+	 * @param key the key to add
+	 * @since 1.1.0
+	 */
+	void add(final Object key) {
+		if (bucketSize <= bucketOccurrences) {
+			bucket = (bucket + 1) % buckets.size();
+			final var oldestBucket = buckets.get(bucket);
+			for (final var entry : oldestBucket.toMap().entrySet()) {
+				bag.remove(entry.getKey(), entry.getValue());
+				size -= entry.getValue();
+			}
+			oldestBucket.clear();
+			bucketOccurrences = 0;
+		}
+		buckets.get(bucket).add(key);
+		bag.add(key);
+		++bucketOccurrences;
+		++size;
+	}
+
+	/**
+	 * Get the number of occurrences of the given key in the window.
+	 * @param key the key to count
+	 * @return the number of occurrences
+	 * @since 1.1.0
+	 */
+	long count(final Object key) {
+		return bag.count(key);
+	}
+
+	/**
+	 * Get the number of occurrences in the window.
+	 * @return the number of occurrences
+	 * @since 1.1.0
+	 */
+	long size() {
+		return size;
+	}
+
+	/**
+	 * Get the number of distinct keys in the window.
+	 * @return the number of distinct keys
+	 * @since 1.1.0
+	 */
+	long distinct() {
+		return bag.distinct();
+	}
+
+	/**
+	 * Add occurrences of each bucket of the given {@code SlidingWindow} of the same bucket count to the bucket of the
+	 * same recency.
+	 *
+	 * <p><b>Note</b>: Merged buckets could be greater than the bucket size, so that the window counts the most recent
+	 * occurrences of each merged window.</p>
+	 * @param other the other {@code SlidingWindow}
+	 * @throws IllegalArgumentException if the other {@code SlidingWindow} has not the same bucket count
+	 * @since 1.1.0
+	 */
+	void merge(final SlidingWindow other) {
+		final var bucketCount = buckets.size();
+		if (bucketCount != other.buckets.size()) {
+			throw new IllegalArgumentException(
+					"Invalid bucket count: " + other.buckets.size() + " (not " + bucketCount + " expected)"
+			);
+		}
+		final var otherBucket = other.bucket;
+		for (var i = 0; i < bucketCount; ++i) {
+			final var currentBucket = buckets.get(StrictMath.floorMod(bucket - i, bucketCount));
+			final var otherCounts = other.buckets.get(StrictMath.floorMod(otherBucket - i, bucketCount)).toMap();
+			for (final var entry : otherCounts.entrySet()) {
+				currentBucket.add(entry.getKey(), entry.getValue());
+				bag.add(entry.getKey(), entry.getValue());
+				size += entry.getValue();
+			}
+		}
+		bucketOccurrences = (int) StrictMath.min(buckets.get(bucket).size(), bucketSize);
+	}
+
+	/**
+	 * Write a snapshot, as the bucket size, the bucket count and the index of the current bucket followed by each
+	 * bucket.
+	 * @param output the {@link DataOutput} to write to
+	 * @throws IOException if an I/O error occurs or if any key's type is not supported
+	 * @since 1.1.0
+	 */
+	void write(final DataOutput output) throws IOException {
+		output.writeInt(bucketSize);
+		output.writeInt(buckets.size());
+		output.writeInt(bucket);
+		for (final var currentBucket : buckets) {
+			Snapshots.writeBag(output, currentBucket);
+		}
+	}
+
+	/**
+	 * Replace buckets by a snapshot of a window of the same bucket size and bucket count.
+	 *
+	 * <p><b>Note</b>: Buckets of the snapshot could be greater than the bucket size if the window has been merged.</p>
+	 * @param input the {@link DataInput} to read from
+	 * @throws IOException if an I/O error occurs or if the snapshot is not valid
+	 * @since 1.1.0
+	 */
+	void read(final DataInput input) throws IOException {
+		final var newBucketSize = input.readInt();
+		final var bucketCount = input.readInt();
+		Snapshots.ensure(
+				bucketSize == newBucketSize && buckets.size() == bucketCount,
+				"Invalid dimensions: " + newBucketSize + "x" + bucketCount + " (expected " + bucketSize + "x"
+						+ buckets.size() + ")"
+		);
+		final var newBucket = input.readInt();
+		Snapshots.ensure(
+				0 <= newBucket && newBucket < bucketCount,
+				"Invalid bucket: " + newBucket + " (expected between 0 and " + (bucketCount - 1) + ")"
+		);
+		final var newBuckets = new ArrayList<Bag<Object>>(bucketCount);
+		for (var i = 0; i < bucketCount; ++i) {
+			final var newBag = new MapBag<>();
+			Snapshots.readBag(input, newBag);
+			newBuckets.add(newBag);
+		}
+		bag.clear();
+		size = 0L;
+		for (var i = 0; i < bucketCount; ++i) {
+			final var newBag = newBuckets.get(i);
+			for (final var entry : newBag.toMap().entrySet()) {
+				bag.add(entry.getKey(), entry.getValue());
+			}
+			size += newBag.size();
+			buckets.set(i, newBag);
+		}
+		bucket = newBucket;
+		bucketOccurrences = (int) StrictMath.min(buckets.get(bucket).size(), bucketSize);
+	}
+}
@@ -0,0 +1,302 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import com.github.alexisjehan.javanilla.util.bag.Bag;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utility class to write and read snapshots of fitted {@link Frequencies} using a compact binary format.
+ *
+ * <p><b>Note</b>: Only {@code null}, {@link String}, {@link Boolean}, {@link Character} and boxed primitive number
+ * keys are supported.</p>
+ * @since 1.1.0
+ */
+final class Snapshots {
+
+	/**
+	 * Tag of a {@code null} key.
+	 * @since 1.1.0
+	 */
+	private static final int NULL_TAG = 0;
+
+	/**
+	 * Tag of a {@link String} key.
+	 * @since 1.1.0
+	 */
+	private static final int STRING_TAG = 1;
+
+	/**
+	 * Tag of a {@link Boolean} key.
+	 * @since 1.1.0
+	 */
+	private static final int BOOLEAN_TAG = 2;
+
+	/**
+	 * Tag of a {@link Character} key.
+	 * @since 1.1.0
+	 */
+	private static final int CHARACTER_TAG = 3;
+
+	/**
+	 * Tag of a {@link Byte} key.
+	 * @since 1.1.0
+	 */
+	private static final int BYTE_TAG = 4;
+
+	/**
+	 * Tag of a {@link Short} key.
+	 * @since 1.1.0
+	 */
+	private static final int SHORT_TAG = 5;
+
+	/**
+	 * Tag of an {@link Integer} key.
+	 * @since 1.1.0
+	 */
+	private static final int INTEGER_TAG = 6;
+
+	/**
+	 * Tag of a {@link Long} key.
+	 * @since 1.1.0
+	 */
+	private static final int LONG_TAG = 7;
+
+	/**
+	 * Tag of a {@link Float} key.
+	 * @since 1.1.0
+	 */
+	private static final int FLOAT_TAG = 8;
+
+	/**
+	 * Tag of a {@link Double} key.
+	 * @since 1.1.0
+	 */
+	private static final int DOUBLE_TAG = 9;
+
+	/**
+	 * Maximum number of UTF-8 bytes of a {@link String} key.
+	 * @since 1.1.0
+	 */
+	private static final int MAX_STRING_LENGTH = 1 << 24;
+
+	/**
+	 * Number of bytes of a {@link String} key that are read at once, so that a corrupted number of bytes does not
+	 * allocate more than what is actually read.
+	 * @since 1.1.0
+	 */
+	private static final int STRING_CHUNK_LENGTH = 8192;
+
+	/**
+	 * Constructor not available.
+	 * @since 1.1.0
+	 */
+	private Snapshots() {}
+
+	/**
+	 * Ensure that the given condition of a snapshot is {@code true}.
+	 * @param condition the condition
+	 * @param message the message if the condition is {@code false}
+	 * @throws StreamCorruptedException if the condition is {@code false}
+	 * @since 1.1.0
+	 */
+	static void ensure(final boolean condition, final String message) throws StreamCorruptedException {
+		if (!condition) {
+			throw new StreamCorruptedException(message);
+		}
+	}
+
+	/**
+	 * Read a kind of {@link Frequencies}, that must be the expected one.
+	 * @param input the {@link DataInput} to read from
+	 * @param expectedKind the expected kind
+	 * @throws IOException if an I/O error occurs or if the kind is not the expected one
+	 * @since 1.1.0
+	 */
+	static void readKind(final DataInput input, final int expectedKind) throws IOException {
+		final var kind = input.readByte();
+		ensure(expectedKind == kind, "Invalid kind: " + kind + " (expected " + expectedKind + ")");
+	}
+
+	/**
+	 * Read a number of occurrences, that must be positive.
+	 * @param input the {@link DataInput} to read from
+	 * @return the number of occurrences
+	 * @throws IOException if an I/O error occurs or if the number of occurrences is not positive
+	 * @since 1.1.0
+	 */
+	static long readCount(final DataInput input) throws IOException {
+		final var count = input.readLong();
+		ensure(0L < count, "Invalid count: " + count + " (expected positive)");
+		return count;
+	}
+
+	/**
+	 * Write the given key, prefixed by a tag of its type.
+	 * @param output the {@link DataOutput} to write to
+	 * @param key the key to write
+	 * @throws IOException if an I/O error occurs, if the key's type is not supported or if it is a too long
+	 *         {@link String}
+	 * @since 1.1.0
+	 */
+	static void writeKey(final DataOutput output, final Object key) throws IOException {
+		if (null == key) {
+			output.writeByte(NULL_TAG);
+		} else if (key instanceof String) {
+			final var bytes = ((String) key).getBytes(StandardCharsets.UTF_8);
+			if (MAX_STRING_LENGTH < bytes.length) {
+				throw new NotSerializableException(
+						"Invalid string length: " + bytes.length + " (expected between 0 and " + MAX_STRING_LENGTH + ")"
+				);
+			}
+			output.writeByte(STRING_TAG);
+			output.writeInt(bytes.length);
+			output.write(bytes);
+		} else if (key instanceof Boolean) {
+			output.writeByte(BOOLEAN_TAG);
+			output.writeBoolean((Boolean) key);
+		} else if (key instanceof Character) {
+			output.writeByte(CHARACTER_TAG);
+			output.writeChar((Character) key);
+		} else if (key instanceof Byte) {
+			output.writeByte(BYTE_TAG);
+			output.writeByte((Byte) key);
+		} else if (key instanceof Short) {
+			output.writeByte(SHORT_TAG);
+			output.writeShort((Short) key);
+		} else if (key instanceof Integer) {
+			output.writeByte(INTEGER_TAG);
+			output.writeInt((Integer) key);
+		} else if (key instanceof Long) {
+			output.writeByte(LONG_TAG);
+			output.writeLong((Long) key);
+		} else if (key instanceof Float) {
+			output.writeByte(FLOAT_TAG);
+			output.writeFloat((Float) key);
+		} else if (key instanceof Double) {
+			output.writeByte(DOUBLE_TAG);
+			output.writeDouble((Double) key);
+		} else {
+			throw new NotSerializableException(key.getClass().getName());
+		}
+	}
+
+	/**
+	 * Read a key, prefixed by a tag of its type.
+	 * @param input the {@link DataInput} to read from
+	 * @return the key
+	 * @throws IOException if an I/O error occurs or if the tag is not valid
+	 * @since 1.1.0
+	 */
+	static Object readKey(final DataInput input) throws IOException {
+		final var tag = input.readByte();
+		switch (tag) {
+			case NULL_TAG:
+				return null;
+			case STRING_TAG:
+				return readString(input);
+			case BOOLEAN_TAG:
+				return input.readBoolean();
+			case CHARACTER_TAG:
+				return input.readChar();
+			case BYTE_TAG:
+				return input.readByte();
+			case SHORT_TAG:
+				return input.readShort();
+			case INTEGER_TAG:
+				return input.readInt();
+			case LONG_TAG:
+				return input.readLong();
+			case FLOAT_TAG:
+				return input.readFloat();
+			case DOUBLE_TAG:
+				return input.readDouble();
+			default:
+				throw new StreamCorruptedException("Invalid key tag: " + tag);
+		}
+	}
+
+	/**
+	 * Read a {@link String}, as its number of UTF-8 bytes followed by them, read by chunks.
+	 * @param input the {@link DataInput} to read from
+	 * @return the {@link String}
+	 * @throws IOException if an I/O error occurs or if the number of bytes is not valid
+	 * @since 1.1.0
+	 */
+	private static String readString(final DataInput input) throws IOException {
+		final var length = input.readInt();
+		ensure(
+				0 <= length && MAX_STRING_LENGTH >= length,
+				"Invalid string length: " + length + " (expected between 0 and " + MAX_STRING_LENGTH + ")"
+		);
+		final var chunk = new byte[StrictMath.min(length, STRING_CHUNK_LENGTH)];
+		final var bytes = new ByteArrayOutputStream(chunk.length);
+		for (var remaining = length; 0 < remaining;) {
+			final var chunkLength = StrictMath.min(remaining, chunk.length);
+			input.readFully(chunk, 0, chunkLength);
+			bytes.write(chunk, 0, chunkLength);
+			remaining -= chunkLength;
+		}
+		return bytes.toString(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Write the given {@link Bag} of keys, as its number of distinct keys followed by each key and its count.
+	 * @param output the {@link DataOutput} to write to
+	 * @param bag the {@link Bag} to write
+	 * @throws IOException if an I/O error occurs or if any key's type is not supported
+	 * @since 1.1.0
+	 */
+	static void writeBag(final DataOutput output, final Bag<Object> bag) throws IOException {
+		final var counts = bag.toMap();
+		output.writeInt(counts.size());
+		for (final var entry : counts.entrySet()) {
+			writeKey(output, entry.getKey());
+			output.writeLong(entry.getValue());
+		}
+	}
+
+	/**
+	 * Read keys and their counts into the given empty {@link Bag}.
+	 * @param input the {@link DataInput} to read from
+	 * @param bag the empty {@link Bag} to read into
+	 * @throws IOException if an I/O error occurs or if the snapshot is not valid
+	 * @since 1.1.0
+	 */
+	static void readBag(final DataInput input, final Bag<Object> bag) throws IOException {
+		final var distinct = input.readInt();
+		ensure(0 <= distinct, "Invalid distinct: " + distinct + " (expected positive or zero)");
+		for (var i = 0; i < distinct; ++i) {
+			final var key = readKey(input);
+			bag.add(key, readCount(input));
+		}
+	}
+}
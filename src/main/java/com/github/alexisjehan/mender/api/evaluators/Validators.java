@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class that provides validator {@link Predicate}s of {@link ConstraintEvaluator}s, compiled once so that
+ * testing a value does not allocate.
+ * @since 1.1.0
+ */
+public final class Validators {
+
+	/**
+	 * Length of an ISO-8601 local date.
+	 * @since 1.1.0
+	 */
+	private static final int ISO_DATE_LENGTH = 10;
+
+	/**
+	 * Constructor not available.
+	 * @since 1.1.0
+	 */
+	private Validators() {}
+
+	/**
+	 * Create a validator {@link Predicate} of values that entirely match the given regular expression.
+	 *
+	 * <p><b>Note</b>: The regular expression is compiled once, and each thread reuses its own {@link Matcher}.</p>
+	 * @param regex the regular expression
+	 * @return the created validator {@link Predicate}
+	 * @throws NullPointerException if the regular expression is {@code null}
+	 * @throws java.util.regex.PatternSyntaxException if the regular expression is not valid
+	 * @since 1.1.0
+	 */
+	public static Predicate<String> pattern(final String regex) {
+		Ensure.notNull("regex", regex);
+		final var pattern = Pattern.compile(regex);
+		final var matcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
+		return value -> matcher.get().reset(value).matches();
+	}
+
+	/**
+	 * Create a validator {@link Predicate} of values that are optionally signed decimal numbers, without exponent.
+	 * @return the created validator {@link Predicate}
+	 * @since 1.1.0
+	 */
+	public static Predicate<String> numeric() {
+		return Validators::isNumeric;
+	}
+
+	/**
+	 * Create a validator {@link Predicate} of values that are ISO-8601 local dates such as {@code 2020-02-29}.
+	 * @return the created validator {@link Predicate}
+	 * @since 1.1.0
+	 */
+	public static Predicate<String> isoDate() {
+		return Validators::isIsoDate;
+	}
+
+	/**
+	 * Create a validator {@link Predicate} of values whose length is between the given minimum and maximum.
+	 * @param minLength the minimum length
+	 * @param maxLength the maximum length
+	 * @return the created validator {@link Predicate}
+	 * @throws IllegalArgumentException if the minimum length is lower than {@code 0} or if the maximum length is
+	 *         lower than the minimum length
+	 * @since 1.1.0
+	 */
+	public static Predicate<String> length(final int minLength, final int maxLength) {
+		Ensure.greaterThanOrEqualTo("minLength", minLength, 0);
+		Ensure.greaterThanOrEqualTo("maxLength", maxLength, minLength);
+		return value -> minLength <= value.length() && value.length() <= maxLength;
+	}
+
+	/**
+	 * Create a validator {@link Predicate} of values that are one of the given ones.
+	 * @param values the {@link Collection} of valid values
+	 * @return the created validator {@link Predicate}
+	 * @throws NullPointerException if the {@link Collection} of valid values or any of them is {@code null}
+	 * @throws IllegalArgumentException if the {@link Collection} of valid values is empty
+	 * @since 1.1.0
+	 */
+	public static Predicate<String> oneOf(final Collection<String> values) {
+		Ensure.notNullAndNotNullElements("values", values);
+		Ensure.notNullAndNotEmpty("values", values);
+		return Set.copyOf(values)::contains;
+	}
+
+	/**
+	 * Test if the given {@link CharSequence} is an optionally signed decimal number, without exponent.
+	 * @param charSequence the {@link CharSequence} to test
+	 * @return {@code true} if the {@link CharSequence} is numeric
+	 * @since 1.1.0
+	 */
+	static boolean isNumeric(final CharSequence charSequence) {
+		final var length = charSequence.length();
+		var i = 0;
+		if (0 < length && ('+' == charSequence.charAt(0) || '-' == charSequence.charAt(0))) {
+			++i;
+		}
+		var digits = false;
+		var point = false;
+		for (; i < length; ++i) {
+			final var c = charSequence.charAt(i);
+			if (isDigit(c)) {
+				digits = true;
+			} else if ('.' == c && !point) {
+				point = true;
+			} else {
+				return false;
+			}
+		}
+		return digits;
+	}
+
+	/**
+	 * Test if the given {@link CharSequence} is an ISO-8601 local date of a year between {@code 0000} and
+	 * {@code 9999}.
+	 * @param charSequence the {@link CharSequence} to test
+	 * @return {@code true} if the {@link CharSequence} is an ISO-8601 local date
+	 * @since 1.1.0
+	 */
+	static boolean isIsoDate(final CharSequence charSequence) {
+		if (ISO_DATE_LENGTH != charSequence.length()
+				|| '-' != charSequence.charAt(4)
+				|| '-' != charSequence.charAt(7)) {
+			return false;
+		}
+		final var year = parseDigits(charSequence, 0, 4);
+		final var month = parseDigits(charSequence, 5, 7);
+		final var day = parseDigits(charSequence, 8, 10);
+		if (-1 == year || month < 1 || 12 < month || day < 1) {
+			return false;
+		}
+		final int monthLength;
+		if (2 == month) {
+			monthLength = 0 == year % 4 && (0 != year % 100 || 0 == year % 400) ? 29 : 28;
+		} else if (4 == month || 6 == month || 9 == month || 11 == month) {
+			monthLength = 30;
+		} else {
+			monthLength = 31;
+		}
+		return day <= monthLength;
+	}
+
+	/**
+	 * Parse digits of the given {@link CharSequence} between the given indexes.
+	 * @param charSequence the {@link CharSequence} to parse
+	 * @param from the index of the first digit
+	 * @param to the index after the last digit
+	 * @return the parsed number, or {@code -1} if any character is not a digit
+	 * @since 1.1.0
+	 */
+	private static int parseDigits(final CharSequence charSequence, final int from, final int to) {
+		var number = 0;
+		for (var i = from; i < to; ++i) {
+			final var c = charSequence.charAt(i);
+			if (!isDigit(c)) {
+				return -1;
+			}
+			number = number * 10 + c - '0';
+		}
+		return number;
+	}
+
+	/**
+	 * Test if the given character is an ASCII digit.
+	 * @param c the character to test
+	 * @return {@code true} if the character is an ASCII digit
+	 * @since 1.1.0
+	 */
+	private static boolean isDigit(final char c) {
+		return '0' <= c && c <= '9';
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.mender.api.evaluators.Evaluator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A beam search of the best children of some values, that builds them column by column and only keeps the best
+ * partial ones for each column.
+ *
+ * <p>Partial children are ranked by the sum of the scores of their columns, using {@link Evaluator}s that each depend
+ * on a single column only, so that at most {@code width} partial children are kept for each column. Children are then
+ * found in {@code O(length × width × span)} evaluations, but the best one might not be part of them.</p>
+ *
+ * <p><b>Note</b>: Among partial children with the same score, those extending a better partial child are kept first,
+ * then those that come first in the {@link DsvChildIterator} order.</p>
+ * @since 1.1.0
+ */
+final class DsvBeamSearch {
+
+	/**
+	 * Partial child, linked to the partial child of the previous column.
+	 * @since 1.1.0
+	 */
+	private static final class Prefix {
+
+		/**
+		 * Partial child of the previous column, or {@code null} before the first column.
+		 * @since 1.1.0
+		 */
+		private final Prefix previous;
+
+		/**
+		 * Value of the column, or {@code null} before the first column.
+		 * @since 1.1.0
+		 */
+		private final String value;
+
+		/**
+		 * Offset of the next value to use.
+		 * @since 1.1.0
+		 */
+		private final int offset;
+
+		/**
+		 * Sum of the scores of columns.
+		 * @since 1.1.0
+		 */
+		private final double score;
+
+		/**
+		 * Constructor with a previous partial child, a value, an offset and a score.
+		 * @param previous the partial child of the previous column, or {@code null} before the first column
+		 * @param value the value of the column, or {@code null} before the first column
+		 * @param offset the offset of the next value to use
+		 * @param score the sum of the scores of columns
+		 * @since 1.1.0
+		 */
+		private Prefix(final Prefix previous, final String value, final int offset, final double score) {
+			this.previous = previous;
+			this.value = value;
+			this.offset = offset;
+			this.score = score;
+		}
+
+		/**
+		 * Get the sum of the scores of columns.
+		 * @return the score
+		 * @since 1.1.0
+		 */
+		private double getScore() {
+			return score;
+		}
+
+		/**
+		 * Convert to a child of the given length.
+		 * @param length the length
+		 * @return the child
+		 * @since 1.1.0
+		 */
+		private String[] toChild(final int length) {
+			final var child = new String[length];
+			var prefix = this;
+			for (var c = length - 1; 0 <= c; --c) {
+				child[c] = prefix.value;
+				prefix = prefix.previous;
+			}
+			return child;
+		}
+	}
+
+	/**
+	 * Delimiter.
+	 * @since 1.1.0
+	 */
+	private final String delimiter;
+
+	/**
+	 * Width.
+	 * @since 1.1.0
+	 */
+	private final int width;
+
+	/**
+	 * {@link Evaluator}s of each column.
+	 * @since 1.1.0
+	 */
+	private final Evaluator<String[]>[][] columnEvaluators;
+
+	/**
+	 * Constructor with a delimiter, a width and the {@link Evaluator}s of each column.
+	 * @param delimiter the delimiter
+	 * @param width the width
+	 * @param columnEvaluators the {@link List} of {@link Evaluator}s of each column
+	 * @throws NullPointerException if the delimiter, the {@link List} of {@link Evaluator}s of each column or any of
+	 *         them is {@code null}
+	 * @throws IllegalArgumentException if the width is lower than {@code 1} or if there is less than {@code 2} columns
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	DsvBeamSearch(final String delimiter, final int width, final List<List<Evaluator<String[]>>> columnEvaluators) {
+		Ensure.notNull("delimiter", delimiter);
+		Ensure.greaterThanOrEqualTo("width", width, 1);
+		Ensure.notNullAndNotNullElements("columnEvaluators", columnEvaluators);
+		Ensure.greaterThanOrEqualTo("columnEvaluators size", columnEvaluators.size(), 2);
+		this.delimiter = delimiter;
+		this.width = width;
+		this.columnEvaluators = columnEvaluators.stream()
+				.map(evaluators -> Ensure.notNullAndNotNullElements("columnEvaluators", evaluators)
+						.toArray(Evaluator[]::new))
+				.toArray(Evaluator[][]::new);
+	}
+
+	/**
+	 * Search the best children of the given values, joining consecutive values with the delimiter if there are too
+	 * many of them or shifting them with empty ones if there are not enough.
+	 * @param values values to search the best children of
+	 * @return the {@link List} of at most {@code width} best children, from the best to the worst, empty if every
+	 *         child got an invalid score
+	 * @throws NullPointerException if values are {@code null}
+	 * @throws IllegalArgumentException if values are as many as columns
+	 * @since 1.1.0
+	 */
+	List<String[]> search(final String[] values) {
+		Ensure.notNull("values", values);
+		final var length = columnEvaluators.length;
+		if (length == values.length) {
+			throw new IllegalArgumentException(
+					"Invalid values length: " + values.length + " (not " + length + " expected)"
+			);
+		}
+		final var joins = length < values.length;
+		final var row = new String[length];
+		Arrays.fill(row, Strings.EMPTY);
+		var prefixes = List.of(new Prefix(null, null, 0, 0.0d));
+		for (var c = 0; c < length; ++c) {
+			final var columns = length - c;
+			final var nextPrefixes = new ArrayList<Prefix>();
+			for (final var prefix : prefixes) {
+				final var offset = prefix.offset;
+				final var remaining = values.length - offset;
+				if (joins) {
+					final var maxSpan = remaining - columns + 1;
+					for (var span = maxSpan; 1 <= span && (1 < columns || maxSpan == span); --span) {
+						final var value = DsvChildIterator.join(delimiter, values, offset, offset + span);
+						addPrefix(nextPrefixes, row, c, prefix, value, offset + span);
+					}
+				} else {
+					if (remaining < columns) {
+						addPrefix(nextPrefixes, row, c, prefix, Strings.EMPTY, offset);
+					}
+					if (0 < remaining) {
+						addPrefix(nextPrefixes, row, c, prefix, values[offset], offset + 1);
+					}
+				}
+			}
+			nextPrefixes.sort(Comparator.comparingDouble(Prefix::getScore).reversed());
+			prefixes = nextPrefixes.subList(0, StrictMath.min(width, nextPrefixes.size()));
+		}
+		final var children = new ArrayList<String[]>(prefixes.size());
+		for (final var prefix : prefixes) {
+			children.add(prefix.toChild(length));
+		}
+		return children;
+	}
+
+	/**
+	 * Evaluate the given value of a column following a partial child, then add the resulting partial child if it got a
+	 * valid score.
+	 * @param prefixes partial children to add to
+	 * @param row a row to evaluate the value in
+	 * @param column the column
+	 * @param previous the partial child of the previous column
+	 * @param value the value of the column
+	 * @param offset the offset of the next value to use
+	 * @since 1.1.0
+	 */
+	private void addPrefix(
+			final List<Prefix> prefixes,
+			final String[] row,
+			final int column,
+			final Prefix previous,
+			final String value,
+			final int offset
+	) {
+		row[column] = value;
+		var score = previous.score;
+		for (final var evaluator : columnEvaluators[column]) {
+			score += evaluator.evaluate(row);
+			if (Double.isNaN(score)) {
+				return;
+			}
+		}
+		prefixes.add(new Prefix(previous, value, offset, score));
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * A budget of evaluations for a single {@link DsvMender#mend(String...)} operation, limited by a maximum number of
+ * evaluations and/or a time budget that starts when the budget is created.
+ *
+ * <p><b>Note</b>: This class is not thread-safe, evaluations must be acquired by a single thread.</p>
+ * @since 1.1.0
+ */
+final class DsvBudget {
+
+	/**
+	 * Maximum number of evaluations, or {@code 0} for no limit.
+	 * @since 1.1.0
+	 */
+	private final int maxEvaluations;
+
+	/**
+	 * Time budget in nanoseconds, or {@code -1} for no limit.
+	 * @since 1.1.0
+	 */
+	private final long timeBudgetNanos;
+
+	/**
+	 * Clock {@link LongSupplier} of nanoseconds.
+	 * @since 1.1.0
+	 */
+	private final LongSupplier clock;
+
+	/**
+	 * Start time in nanoseconds.
+	 * @since 1.1.0
+	 */
+	private final long start;
+
+	/**
+	 * Number of acquired evaluations.
+	 * @since 1.1.0
+	 */
+	private int evaluations;
+
+	/**
+	 * Whether an acquisition has been refused.
+	 * @since 1.1.0
+	 */
+	private boolean exhausted;
+
+	/**
+	 * Constructor with a maximum number of evaluations and a time budget, using {@link System#nanoTime()} as the
+	 * clock.
+	 * @param maxEvaluations the maximum number of evaluations, or {@code 0} for no limit
+	 * @param timeBudget the time budget, or {@code null} for no limit
+	 * @throws IllegalArgumentException if the maximum number of evaluations is lower than {@code 0} or if the time
+	 *         budget is not positive
+	 * @since 1.1.0
+	 */
+	DsvBudget(final int maxEvaluations, final Duration timeBudget) {
+		this(maxEvaluations, timeBudget, System::nanoTime);
+	}
+
+	/**
+	 * Constructor with a maximum number of evaluations, a time budget and a clock {@link LongSupplier} of
+	 * nanoseconds.
+	 * @param maxEvaluations the maximum number of evaluations, or {@code 0} for no limit
+	 * @param timeBudget the time budget, or {@code null} for no limit
+	 * @param clock the clock {@link LongSupplier} of nanoseconds
+	 * @throws NullPointerException if the clock {@link LongSupplier} is {@code null}
+	 * @throws IllegalArgumentException if the maximum number of evaluations is lower than {@code 0} or if the time
+	 *         budget is not positive
+	 * @since 1.1.0
+	 */
+	DsvBudget(final int maxEvaluations, final Duration timeBudget, final LongSupplier clock) {
+		Ensure.greaterThanOrEqualTo("maxEvaluations", maxEvaluations, 0);
+		if (null != timeBudget) {
+			Ensure.notNullAndGreaterThan("timeBudget", timeBudget, Duration.ZERO);
+		}
+		Ensure.notNull("clock", clock);
+		this.maxEvaluations = maxEvaluations;
+		if (null == timeBudget) {
+			timeBudgetNanos = -1L;
+		} else if (0 > timeBudget.compareTo(Duration.ofNanos(Long.MAX_VALUE))) {
+			timeBudgetNanos = timeBudget.toNanos();
+		} else {
+			timeBudgetNanos = Long.MAX_VALUE;
+		}
+		this.clock = clock;
+		start = -1L != timeBudgetNanos ? clock.getAsLong() : 0L;
+	}
+
+	/**
+	 * Acquire up to the given number of evaluations.
+	 * @param count the number of evaluations to acquire
+	 * @return the number of acquired evaluations, {@code 0} if the budget is exhausted
+	 * @throws IllegalArgumentException if the number of evaluations is lower than {@code 1}
+	 * @since 1.1.0
+	 */
+	int acquire(final int count) {
+		Ensure.greaterThanOrEqualTo("count", count, 1);
+		if (exhausted
+				|| 0 < maxEvaluations && maxEvaluations <= evaluations
+				|| -1L != timeBudgetNanos && timeBudgetNanos <= clock.getAsLong() - start) {
+			exhausted = true;
+			return 0;
+		}
+		final var acquired = 0 < maxEvaluations ? StrictMath.min(count, maxEvaluations - evaluations) : count;
+		evaluations += acquired;
+		return acquired;
+	}
+
+	/**
+	 * Test if the time budget is elapsed, so that the budget is exhausted, without acquiring any evaluation.
+	 *
+	 * <p><b>Note</b>: This could be used to stop generating candidates that are skipped without being evaluated.</p>
+	 * @return {@code true} if the budget is exhausted
+	 * @since 1.1.0
+	 */
+	boolean isElapsed() {
+		if (!exhausted && -1L != timeBudgetNanos && timeBudgetNanos <= clock.getAsLong() - start) {
+			exhausted = true;
+		}
+		return exhausted;
+	}
+
+	/**
+	 * Get whether an acquisition has been refused, so that some evaluations have not been done.
+	 * @return {@code true} if an acquisition has been refused
+	 * @since 1.1.0
+	 */
+	boolean isExhausted() {
+		return exhausted;
+	}
+}
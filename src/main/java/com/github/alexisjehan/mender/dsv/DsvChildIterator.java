@@ -0,0 +1,571 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * An {@link Iterator} that lazily generates children of parent values, so that each of them can be evaluated then
+ * dropped without materializing all of them.
+ *
+ * <p><b>Note</b>: Children could be iterated using {@link #nextShared()} to avoid copying each of them, then only
+ * copied if they are kept.</p>
+ * @since 1.1.0
+ */
+abstract class DsvChildIterator implements Iterator<String[]> {
+
+	/**
+	 * Validator of a single column of a child while it is being generated.
+	 *
+	 * <p><b>Note</b>: This interface is a {@link FunctionalInterface} whose abstract method is
+	 * {@link #isValid(String[], int)}.</p>
+	 * @since 1.1.0
+	 */
+	@FunctionalInterface
+	interface ColumnValidator {
+
+		/**
+		 * {@link ColumnValidator} that considers every column as valid.
+		 * @since 1.1.0
+		 */
+		ColumnValidator ANY = (child, column) -> true;
+
+		/**
+		 * Test if the value of the child at the given column is valid.
+		 *
+		 * <p><b>Note</b>: Only values of the child from {@code 0} to the given column are generated yet.</p>
+		 * @param child the child being generated
+		 * @param column the column to test
+		 * @return {@code true} if the value at the given column is valid
+		 * @since 1.1.0
+		 */
+		boolean isValid(String[] child, int column);
+
+		/**
+		 * Test if the generation of children has to be interrupted, so that there is no next child.
+		 *
+		 * <p><b>Note</b>: This is tested every {@link #INTERRUPTION_PERIOD} generated columns.</p>
+		 * @return {@code true} if the generation has to be interrupted
+		 * @since 1.1.0
+		 */
+		default boolean isInterrupted() {
+			return false;
+		}
+
+		/**
+		 * Create a {@link ColumnValidator} that validates columns the same way and that interrupts the generation
+		 * once the given {@link BooleanSupplier} is {@code true}.
+		 * @param interrupted the {@link BooleanSupplier} to test if the generation has to be interrupted
+		 * @return the interruptible {@link ColumnValidator}
+		 * @throws NullPointerException if the {@link BooleanSupplier} is {@code null}
+		 * @since 1.1.0
+		 */
+		default ColumnValidator interruptedBy(final BooleanSupplier interrupted) {
+			Ensure.notNull("interrupted", interrupted);
+			final var validator = this;
+			return new ColumnValidator() {
+
+				/**
+				 * {@inheritDoc}
+				 */
+				@Override
+				public boolean isValid(final String[] child, final int column) {
+					return validator.isValid(child, column);
+				}
+
+				/**
+				 * {@inheritDoc}
+				 */
+				@Override
+				public boolean isInterrupted() {
+					return interrupted.getAsBoolean();
+				}
+			};
+		}
+	}
+
+	/**
+	 * Number of generated columns between two tests of {@link ColumnValidator#isInterrupted()}, so that the cost of
+	 * testing is amortized.
+	 * @since 1.1.0
+	 */
+	static final int INTERRUPTION_PERIOD = 1024;
+
+	/**
+	 * {@link DsvChildIterator} that generates a child column by column, each column taking a span of consecutive
+	 * parent values, and that skips every child sharing a prefix with an invalid column.
+	 * @since 1.1.0
+	 */
+	private abstract static class ColumnIterator extends DsvChildIterator {
+
+		/**
+		 * Parent values.
+		 * @since 1.1.0
+		 */
+		private final String[] parent;
+
+		/**
+		 * Child being generated.
+		 * @since 1.1.0
+		 */
+		private final String[] child;
+
+		/**
+		 * {@link ColumnValidator}.
+		 * @since 1.1.0
+		 */
+		private final ColumnValidator validator;
+
+		/**
+		 * Offsets of the first parent value of each column.
+		 * @since 1.1.0
+		 */
+		private final int[] offsets;
+
+		/**
+		 * Spans of parent values of each column.
+		 * @since 1.1.0
+		 */
+		private final int[] spans;
+
+		/**
+		 * Whether there is a next child.
+		 * @since 1.1.0
+		 */
+		private boolean hasNext;
+
+		/**
+		 * Whether the first child has been generated.
+		 * @since 1.1.0
+		 */
+		private boolean started;
+
+		/**
+		 * Whether the child has been returned, so that it has to be advanced before testing if there is a next one.
+		 * @since 1.1.0
+		 */
+		private boolean returned;
+
+		/**
+		 * Number of generated columns since the last test of {@link ColumnValidator#isInterrupted()}.
+		 * @since 1.1.0
+		 */
+		private int steps;
+
+		/**
+		 * Constructor with parent values, a length of children and a {@link ColumnValidator}.
+		 * @param parent parent values
+		 * @param length the length of children
+		 * @param validator the {@link ColumnValidator}
+		 * @since 1.1.0
+		 */
+		private ColumnIterator(final String[] parent, final int length, final ColumnValidator validator) {
+			this.parent = parent;
+			this.validator = validator;
+			child = new String[length];
+			offsets = new int[length];
+			spans = new int[length];
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			if (!started) {
+				hasNext = advance(0, false);
+				started = true;
+			} else if (returned) {
+				hasNext = advance(child.length - 1, true);
+				returned = false;
+			}
+			return hasNext;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		String[] nextShared() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			returned = true;
+			return child;
+		}
+
+		/**
+		 * Advance to the next valid child in depth-first order, starting from the given column.
+		 * @param column the column to start from
+		 * @param resume {@code true} if the span of the given column has to be advanced, {@code false} if it has to be
+		 *        initialized
+		 * @return {@code true} if the child has been advanced, {@code false} if there is no next valid child or if the
+		 *         generation has been interrupted
+		 * @since 1.1.0
+		 */
+		private boolean advance(final int column, final boolean resume) {
+			var j = column;
+			var r = resume;
+			while (true) {
+				if (INTERRUPTION_PERIOD <= ++steps) {
+					steps = 0;
+					if (validator.isInterrupted()) {
+						return false;
+					}
+				}
+				final var remaining = parent.length - offsets[j];
+				final var columns = child.length - j;
+				spans[j] = r ? nextSpan(remaining, columns, spans[j]) : firstSpan(remaining, columns);
+				r = true;
+				if (0 > spans[j]) {
+					if (0 == j) {
+						return false;
+					}
+					--j;
+					continue;
+				}
+				child[j] = value(offsets[j], spans[j]);
+				if (!validator.isValid(child, j)) {
+					continue;
+				}
+				if (child.length - 1 == j) {
+					return true;
+				}
+				offsets[j + 1] = offsets[j] + spans[j];
+				++j;
+				r = false;
+			}
+		}
+
+		/**
+		 * Get the first span of parent values of a column.
+		 * @param remaining the number of remaining parent values, including the column
+		 * @param columns the number of remaining columns, including the column
+		 * @return the first span or {@code -1} if there is none
+		 * @since 1.1.0
+		 */
+		abstract int firstSpan(int remaining, int columns);
+
+		/**
+		 * Get the span of parent values of a column following the given one.
+		 * @param remaining the number of remaining parent values, including the column
+		 * @param columns the number of remaining columns, including the column
+		 * @param span the current span
+		 * @return the next span or {@code -1} if there is none
+		 * @since 1.1.0
+		 */
+		abstract int nextSpan(int remaining, int columns, int span);
+
+		/**
+		 * Get the value of a column from a span of parent values.
+		 * @param offset the offset of the first parent value
+		 * @param span the span of parent values
+		 * @return the value
+		 * @since 1.1.0
+		 */
+		abstract String value(int offset, int span);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String[] next() {
+		return nextShared().clone();
+	}
+
+	/**
+	 * Get the next child without copying it.
+	 *
+	 * <p><b>Note</b>: The returned array might be reused, it is only valid until the next call to {@link #hasNext()}
+	 * or to a next method.</p>
+	 * @return the next child
+	 * @throws NoSuchElementException if there is no next child
+	 * @since 1.1.0
+	 */
+	abstract String[] nextShared();
+
+	/**
+	 * Generate children for every possibility of joining consecutive values with the delimiter the given number of
+	 * times.
+	 * @param delimiter the delimiter
+	 * @param parent parent values
+	 * @param count the number of joins
+	 * @return the {@link DsvChildIterator}
+	 * @throws NullPointerException if the delimiter or parent values are {@code null}
+	 * @throws IllegalArgumentException if the number of joins is not between {@code 1} and the number of parent
+	 *         values minus {@code 1}
+	 * @since 1.1.0
+	 */
+	static DsvChildIterator ofJoins(final String delimiter, final String[] parent, final int count) {
+		return ofJoins(delimiter, parent, count, ColumnValidator.ANY);
+	}
+
+	/**
+	 * Generate valid children for every possibility of joining consecutive values with the delimiter the given number
+	 * of times.
+	 *
+	 * <p><b>Note</b>: Each distinct combination of joined positions is generated once, in lexicographical order, which
+	 * is the order of their first occurrence when joining one position at a time. Children are generated column by
+	 * column, so that every child sharing a prefix with an invalid column is skipped at once.</p>
+	 * @param delimiter the delimiter
+	 * @param parent parent values
+	 * @param count the number of joins
+	 * @param validator the {@link ColumnValidator}
+	 * @return the {@link DsvChildIterator}
+	 * @throws NullPointerException if the delimiter, parent values or the {@link ColumnValidator} are {@code null}
+	 * @throws IllegalArgumentException if the number of joins is not between {@code 1} and the number of parent
+	 *         values minus {@code 1}
+	 * @since 1.1.0
+	 */
+	static DsvChildIterator ofJoins(
+			final String delimiter,
+			final String[] parent,
+			final int count,
+			final ColumnValidator validator
+	) {
+		Ensure.notNull("delimiter", delimiter);
+		Ensure.notNull("parent", parent);
+		Ensure.between("count", count, 1, parent.length - 1);
+		Ensure.notNull("validator", validator);
+		return new ColumnIterator(parent, parent.length - count, validator) {
+
+			/**
+			 * Joined values for each offset and span minus {@code 1}, computed once.
+			 * @since 1.1.0
+			 */
+			private final String[][] values = new String[parent.length][count + 1];
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			int firstSpan(final int remaining, final int columns) {
+				return remaining - columns + 1;
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			int nextSpan(final int remaining, final int columns, final int span) {
+				return 1 < columns && 1 < span ? span - 1 : -1;
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			String value(final int offset, final int span) {
+				if (null == values[offset][span - 1]) {
+					values[offset][span - 1] = join(delimiter, parent, offset, offset + span);
+				}
+				return values[offset][span - 1];
+			}
+		};
+	}
+
+	/**
+	 * Generate children for every possibility of shifting consecutive values with an empty one the given number of
+	 * times.
+	 * @param parent parent values
+	 * @param count the number of shifts
+	 * @return the {@link DsvChildIterator}
+	 * @throws NullPointerException if parent values are {@code null}
+	 * @throws IllegalArgumentException if the number of shifts is lower than {@code 1}
+	 * @since 1.1.0
+	 */
+	static DsvChildIterator ofShifts(final String[] parent, final int count) {
+		return ofShifts(parent, count, ColumnValidator.ANY);
+	}
+
+	/**
+	 * Generate valid children for every possibility of shifting consecutive values with an empty one the given number
+	 * of times.
+	 *
+	 * <p><b>Note</b>: Each distinct combination of shifted positions is generated once, in lexicographical order,
+	 * which is the order of their first occurrence when shifting one position at a time. Children are generated column
+	 * by column, so that every child sharing a prefix with an invalid column is skipped at once.</p>
+	 * @param parent parent values
+	 * @param count the number of shifts
+	 * @param validator the {@link ColumnValidator}
+	 * @return the {@link DsvChildIterator}
+	 * @throws NullPointerException if parent values or the {@link ColumnValidator} are {@code null}
+	 * @throws IllegalArgumentException if the number of shifts is lower than {@code 1}
+	 * @since 1.1.0
+	 */
+	static DsvChildIterator ofShifts(final String[] parent, final int count, final ColumnValidator validator) {
+		Ensure.notNull("parent", parent);
+		Ensure.greaterThanOrEqualTo("count", count, 1);
+		Ensure.notNull("validator", validator);
+		return new ColumnIterator(parent, parent.length + count, validator) {
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			int firstSpan(final int remaining, final int columns) {
+				return remaining < columns ? 0 : nextSpan(remaining, columns, 0);
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			int nextSpan(final int remaining, final int columns, final int span) {
+				return 0 == span && 0 < remaining ? 1 : -1;
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			String value(final int offset, final int span) {
+				return 0 == span ? Strings.EMPTY : parent[offset];
+			}
+		};
+	}
+
+	/**
+	 * Generate children for every possibility of joining consecutive values with the delimiter once, then shifting
+	 * consecutive values with an empty one once.
+	 * @param delimiter the delimiter
+	 * @param parent parent values
+	 * @return the {@link DsvChildIterator}
+	 * @throws NullPointerException if the delimiter or parent values are {@code null}
+	 * @throws IllegalArgumentException if there is less than {@code 2} parent values
+	 * @since 1.1.0
+	 */
+	static DsvChildIterator ofJoinsThenShifts(final String delimiter, final String[] parent) {
+		return ofJoinsThenShifts(delimiter, parent, ColumnValidator.ANY);
+	}
+
+	/**
+	 * Generate valid children for every possibility of joining consecutive values with the delimiter once, then
+	 * shifting consecutive values with an empty one once.
+	 *
+	 * <p><b>Note</b>: Only shifted children are validated, as joined ones do not have the same columns.</p>
+	 * @param delimiter the delimiter
+	 * @param parent parent values
+	 * @param validator the {@link ColumnValidator}
+	 * @return the {@link DsvChildIterator}
+	 * @throws NullPointerException if the delimiter, parent values or the {@link ColumnValidator} are {@code null}
+	 * @throws IllegalArgumentException if there is less than {@code 2} parent values
+	 * @since 1.1.0
+	 */
+	static DsvChildIterator ofJoinsThenShifts(
+			final String delimiter,
+			final String[] parent,
+			final ColumnValidator validator
+	) {
+		Ensure.notNull("validator", validator);
+		final var joinChildren = ofJoins(delimiter, parent, 1);
+		return new DsvChildIterator() {
+
+			/**
+			 * Current {@link DsvChildIterator} of shifting children.
+			 * @since 1.1.0
+			 */
+			private DsvChildIterator shiftChildren = ofShifts(joinChildren.next(), 1, validator);
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public boolean hasNext() {
+				while (!shiftChildren.hasNext() && joinChildren.hasNext()) {
+					shiftChildren = ofShifts(joinChildren.next(), 1, validator);
+				}
+				return shiftChildren.hasNext();
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			String[] nextShared() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return shiftChildren.nextShared();
+			}
+		};
+	}
+
+	/**
+	 * Iterate the given {@link List} of children.
+	 * @param children the {@link List} of children
+	 * @return the {@link DsvChildIterator}
+	 * @throws NullPointerException if the {@link List} of children is {@code null}
+	 * @since 1.1.0
+	 */
+	static DsvChildIterator of(final List<String[]> children) {
+		Ensure.notNull("children", children);
+		final var iterator = children.iterator();
+		return new DsvChildIterator() {
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			String[] nextShared() {
+				return iterator.next();
+			}
+		};
+	}
+
+	/**
+	 * Join values from an index to another with the delimiter.
+	 * @param delimiter the delimiter
+	 * @param values values to join
+	 * @param from the index of the first value (inclusive)
+	 * @param to the index of the last value (exclusive)
+	 * @return the joined value
+	 * @since 1.1.0
+	 */
+	static String join(final String delimiter, final String[] values, final int from, final int to) {
+		if (1 == to - from) {
+			return values[from];
+		}
+		final var builder = new StringBuilder(values[from]);
+		for (var i = from + 1; i < to; ++i) {
+			builder.append(delimiter).append(values[i]);
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,329 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.mender.api.evaluators.ConstraintEvaluator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A group of {@link ConstraintEvaluator}s that validates values by calling them in an adaptive order, so that cheap
+ * and selective ones are called first.
+ *
+ * <p>Some validated values are sampled into a batch. Once the batch is full, every {@link ConstraintEvaluator} is
+ * called and timed over the whole batch, whatever the result of others, so that statistics are neither biased by the
+ * current order nor by the resolution of the timer. {@link ConstraintEvaluator}s are periodically reordered by
+ * increasing rank, which is the duration spent per rejection, ties keeping the given order. Validations stop at the
+ * first {@link ConstraintEvaluator} that rejects values.</p>
+ *
+ * <p><b>Note</b>: Validations could be done concurrently, the number of validations between two samples being then
+ * approximate.</p>
+ * @since 1.1.0
+ */
+final class DsvConstraintOrder {
+
+	/**
+	 * Statistics of a {@link ConstraintEvaluator}.
+	 * @since 1.1.0
+	 */
+	private static final class Entry {
+
+		/**
+		 * {@link ConstraintEvaluator}.
+		 * @since 1.1.0
+		 */
+		private final ConstraintEvaluator<String[]> constraintEvaluator;
+
+		/**
+		 * Number of sampled validations.
+		 * @since 1.1.0
+		 */
+		private final LongAdder validations = new LongAdder();
+
+		/**
+		 * Number of sampled validations that rejected values.
+		 * @since 1.1.0
+		 */
+		private final LongAdder rejections = new LongAdder();
+
+		/**
+		 * Total duration of sampled validations in nanoseconds.
+		 * @since 1.1.0
+		 */
+		private final LongAdder nanos = new LongAdder();
+
+		/**
+		 * Constructor with a {@link ConstraintEvaluator}.
+		 * @param constraintEvaluator the {@link ConstraintEvaluator}
+		 * @since 1.1.0
+		 */
+		private Entry(final ConstraintEvaluator<String[]> constraintEvaluator) {
+			this.constraintEvaluator = constraintEvaluator;
+		}
+
+		/**
+		 * Call the {@link ConstraintEvaluator} with each values of the batch and record results and the duration of
+		 * the whole batch.
+		 * @param batch the batch of values to test
+		 * @return {@code true} if the last values are valid
+		 * @since 1.1.0
+		 */
+		private boolean sample(final List<String[]> batch) {
+			var valid = true;
+			var rejected = 0L;
+			final var start = System.nanoTime();
+			for (final var values : batch) {
+				valid = constraintEvaluator.isValid(values);
+				if (!valid) {
+					++rejected;
+				}
+			}
+			nanos.add(StrictMath.max(System.nanoTime() - start, 0L));
+			validations.add(batch.size());
+			rejections.add(rejected);
+			return valid;
+		}
+
+		/**
+		 * Create a {@link DsvConstraintStatistics} snapshot.
+		 * @return the created {@link DsvConstraintStatistics}
+		 * @since 1.1.0
+		 */
+		private DsvConstraintStatistics toStatistics() {
+			final var validations = this.validations.sum();
+			return new DsvConstraintStatistics(
+					constraintEvaluator,
+					validations,
+					StrictMath.min(rejections.sum(), validations),
+					nanos.sum()
+			);
+		}
+	}
+
+	/**
+	 * Default sample period, so that one validation out of it is sampled.
+	 * @since 1.1.0
+	 */
+	static final int DEFAULT_SAMPLE_PERIOD = 64;
+
+	/**
+	 * Default batch size, so that {@link ConstraintEvaluator}s are timed every time it has been sampled.
+	 * @since 1.1.0
+	 */
+	static final int DEFAULT_BATCH_SIZE = 16;
+
+	/**
+	 * Default reorder period, so that {@link ConstraintEvaluator}s are reordered every time it has been timed.
+	 * @since 1.1.0
+	 */
+	static final int DEFAULT_REORDER_PERIOD = 4;
+
+	/**
+	 * {@link Comparator} of {@link DsvConstraintStatistics} by increasing rank.
+	 * @since 1.1.0
+	 */
+	private static final Comparator<DsvConstraintStatistics> RANK_ORDER = Comparator
+			.comparingDouble(DsvConstraintStatistics::getRank)
+			.thenComparingDouble(DsvConstraintStatistics::getMeanNanos);
+
+	/**
+	 * {@link Entry}s in the given order.
+	 * @since 1.1.0
+	 */
+	private final List<Entry> entries;
+
+	/**
+	 * Sample period.
+	 * @since 1.1.0
+	 */
+	private final int samplePeriod;
+
+	/**
+	 * Batch size.
+	 * @since 1.1.0
+	 */
+	private final int batchSize;
+
+	/**
+	 * Reorder period.
+	 * @since 1.1.0
+	 */
+	private final int reorderPeriod;
+
+	/**
+	 * Batch of sampled values, also used as the lock of sampling.
+	 * @since 1.1.0
+	 */
+	private final List<String[]> batch;
+
+	/**
+	 * Number of validations since the last sample, incremented without synchronization as an approximate count is
+	 * enough.
+	 * @since 1.1.0
+	 */
+	private int calls;
+
+	/**
+	 * Number of timed batches, guarded by the batch.
+	 * @since 1.1.0
+	 */
+	private long batches;
+
+	/**
+	 * {@link Entry}s in the current order.
+	 * @since 1.1.0
+	 */
+	private volatile Entry[] order;
+
+	/**
+	 * Constructor with {@link ConstraintEvaluator}s and default periods.
+	 * @param constraintEvaluators the {@link Collection} of {@link ConstraintEvaluator}s in the initial order
+	 * @throws NullPointerException if the {@link Collection} of {@link ConstraintEvaluator}s or any of them is
+	 *         {@code null}
+	 * @since 1.1.0
+	 */
+	DsvConstraintOrder(final Collection<ConstraintEvaluator<String[]>> constraintEvaluators) {
+		this(constraintEvaluators, DEFAULT_SAMPLE_PERIOD, DEFAULT_BATCH_SIZE, DEFAULT_REORDER_PERIOD);
+	}
+
+	/**
+	 * Constructor with {@link ConstraintEvaluator}s, a sample period, a batch size and a reorder period.
+	 * @param constraintEvaluators the {@link Collection} of {@link ConstraintEvaluator}s in the initial order
+	 * @param samplePeriod the sample period, so that one validation out of it is sampled
+	 * @param batchSize the batch size, so that {@link ConstraintEvaluator}s are timed every time it has been sampled
+	 * @param reorderPeriod the reorder period, so that {@link ConstraintEvaluator}s are reordered every time it has
+	 *        been timed
+	 * @throws NullPointerException if the {@link Collection} of {@link ConstraintEvaluator}s or any of them is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the sample period, the batch size or the reorder period is lower than
+	 *         {@code 1}
+	 * @since 1.1.0
+	 */
+	DsvConstraintOrder(
+			final Collection<ConstraintEvaluator<String[]>> constraintEvaluators,
+			final int samplePeriod,
+			final int batchSize,
+			final int reorderPeriod
+	) {
+		Ensure.notNullAndNotNullElements("constraintEvaluators", constraintEvaluators);
+		Ensure.greaterThanOrEqualTo("samplePeriod", samplePeriod, 1);
+		Ensure.greaterThanOrEqualTo("batchSize", batchSize, 1);
+		Ensure.greaterThanOrEqualTo("reorderPeriod", reorderPeriod, 1);
+		entries = new ArrayList<>(constraintEvaluators.size());
+		for (final var constraintEvaluator : constraintEvaluators) {
+			entries.add(new Entry(constraintEvaluator));
+		}
+		this.samplePeriod = samplePeriod;
+		this.batchSize = batchSize;
+		this.reorderPeriod = reorderPeriod;
+		batch = new ArrayList<>(batchSize);
+		order = entries.toArray(new Entry[0]);
+	}
+
+	/**
+	 * Test if values are valid for every {@link ConstraintEvaluator}.
+	 * @param values values to test
+	 * @return {@code true} if values are valid
+	 * @since 1.1.0
+	 */
+	boolean isValid(final String[] values) {
+		final var order = this.order;
+		if (0 < order.length && samplePeriod <= ++calls) {
+			calls = 0;
+			synchronized (batch) {
+				batch.add(values.clone());
+				if (batchSize == batch.size()) {
+					return sample(order);
+				}
+			}
+		}
+		for (final var entry : order) {
+			if (!entry.constraintEvaluator.isValid(values)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Test if the last values of the full batch are valid for every {@link ConstraintEvaluator}, calling all of them
+	 * with each values of the batch to record statistics, then reorder them if the reorder period has been reached.
+	 *
+	 * <p><b>Note</b>: The batch must be locked.</p>
+	 * @param order {@link Entry}s in the current order
+	 * @return {@code true} if the last values of the batch are valid
+	 * @since 1.1.0
+	 */
+	private boolean sample(final Entry[] order) {
+		var valid = true;
+		for (final var entry : order) {
+			valid &= entry.sample(batch);
+		}
+		batch.clear();
+		if (0L == ++batches % reorderPeriod) {
+			reorder();
+		}
+		return valid;
+	}
+
+	/**
+	 * Reorder {@link ConstraintEvaluator}s by increasing rank, ties keeping the given order.
+	 * @since 1.1.0
+	 */
+	private void reorder() {
+		final var statistics = new ArrayList<DsvConstraintStatistics>(entries.size());
+		for (final var entry : entries) {
+			statistics.add(entry.toStatistics());
+		}
+		final var indexes = new ArrayList<Integer>(entries.size());
+		for (var i = 0; i < entries.size(); ++i) {
+			indexes.add(i);
+		}
+		indexes.sort(Comparator.comparing(statistics::get, RANK_ORDER));
+		final var order = new Entry[entries.size()];
+		for (var i = 0; i < order.length; ++i) {
+			order[i] = entries.get(indexes.get(i));
+		}
+		this.order = order;
+	}
+
+	/**
+	 * Get a snapshot of statistics of {@link ConstraintEvaluator}s, in the current order.
+	 * @return the {@link List} of {@link DsvConstraintStatistics}
+	 * @since 1.1.0
+	 */
+	List<DsvConstraintStatistics> getStatistics() {
+		final var order = this.order;
+		final var statistics = new ArrayList<DsvConstraintStatistics>(order.length);
+		for (final var entry : order) {
+			statistics.add(entry.toStatistics());
+		}
+		return List.copyOf(statistics);
+	}
+}
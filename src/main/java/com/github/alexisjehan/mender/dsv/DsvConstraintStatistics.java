@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.quality.Equals;
+import com.github.alexisjehan.javanilla.misc.quality.HashCode;
+import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import com.github.alexisjehan.javanilla.misc.tuple.Pair;
+import com.github.alexisjehan.mender.api.evaluators.ConstraintEvaluator;
+
+/**
+ * An immutable snapshot of statistics of a {@link ConstraintEvaluator} of a {@link DsvMender}, measured on sampled
+ * validations.
+ *
+ * <p><b>Note</b>: This class implements its own {@link #equals(Object)}, {@link #hashCode()} and {@link #toString()}
+ * methods.</p>
+ * @since 1.1.0
+ */
+public final class DsvConstraintStatistics {
+
+	/**
+	 * {@link ConstraintEvaluator}.
+	 * @since 1.1.0
+	 */
+	private final ConstraintEvaluator<String[]> constraintEvaluator;
+
+	/**
+	 * Number of sampled validations.
+	 * @since 1.1.0
+	 */
+	private final long validations;
+
+	/**
+	 * Number of sampled validations that rejected values.
+	 * @since 1.1.0
+	 */
+	private final long rejections;
+
+	/**
+	 * Total duration of sampled validations in nanoseconds.
+	 * @since 1.1.0
+	 */
+	private final long nanos;
+
+	/**
+	 * Constructor with a {@link ConstraintEvaluator}, its number of sampled validations, the number of them that
+	 * rejected values and their total duration.
+	 * @param constraintEvaluator the {@link ConstraintEvaluator}
+	 * @param validations the number of sampled validations
+	 * @param rejections the number of sampled validations that rejected values
+	 * @param nanos the total duration of sampled validations in nanoseconds
+	 * @throws NullPointerException if the {@link ConstraintEvaluator} is {@code null}
+	 * @throws IllegalArgumentException if the number of sampled validations or the total duration is lower than
+	 *         {@code 0} or if the number of rejections is not between {@code 0} and the number of sampled validations
+	 * @since 1.1.0
+	 */
+	DsvConstraintStatistics(
+			final ConstraintEvaluator<String[]> constraintEvaluator,
+			final long validations,
+			final long rejections,
+			final long nanos
+	) {
+		Ensure.notNull("constraintEvaluator", constraintEvaluator);
+		Ensure.greaterThanOrEqualTo("validations", validations, 0L);
+		Ensure.between("rejections", rejections, 0L, validations);
+		Ensure.greaterThanOrEqualTo("nanos", nanos, 0L);
+		this.constraintEvaluator = constraintEvaluator;
+		this.validations = validations;
+		this.rejections = rejections;
+		this.nanos = nanos;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(final Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (!(object instanceof DsvConstraintStatistics)) {
+			return false;
+		}
+		final var other = (DsvConstraintStatistics) object;
+		return Equals.equals(constraintEvaluator, other.constraintEvaluator)
+				&& Equals.equals(validations, other.validations)
+				&& Equals.equals(rejections, other.rejections)
+				&& Equals.equals(nanos, other.nanos);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		return HashCode.of(
+				HashCode.hashCode(constraintEvaluator),
+				HashCode.hashCode(validations),
+				HashCode.hashCode(rejections),
+				HashCode.hashCode(nanos)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return ToString.of(
+				this,
+				Pair.of("constraintEvaluator", ToString.toString(constraintEvaluator)),
+				Pair.of("validations", ToString.toString(validations)),
+				Pair.of("rejections", ToString.toString(rejections)),
+				Pair.of("nanos", ToString.toString(nanos))
+		);
+	}
+
+	/**
+	 * Get the {@link ConstraintEvaluator}.
+	 * @return the {@link ConstraintEvaluator}
+	 * @since 1.1.0
+	 */
+	public ConstraintEvaluator<String[]> getConstraintEvaluator() {
+		return constraintEvaluator;
+	}
+
+	/**
+	 * Get the number of sampled validations.
+	 * @return the number of sampled validations
+	 * @since 1.1.0
+	 */
+	public long getValidations() {
+		return validations;
+	}
+
+	/**
+	 * Get the number of sampled validations that rejected values.
+	 * @return the number of rejections
+	 * @since 1.1.0
+	 */
+	public long getRejections() {
+		return rejections;
+	}
+
+	/**
+	 * Get the total duration of sampled validations in nanoseconds.
+	 * @return the total duration in nanoseconds
+	 * @since 1.1.0
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	/**
+	 * Get the mean duration of a sampled validation in nanoseconds.
+	 * @return the mean duration in nanoseconds, or {@code NaN} if there is no sampled validation
+	 * @since 1.1.0
+	 */
+	public double getMeanNanos() {
+		return 0L != validations ? (double) nanos / validations : Double.NaN;
+	}
+
+	/**
+	 * Get the ratio of sampled validations that rejected values.
+	 * @return the rejection ratio, or {@code NaN} if there is no sampled validation
+	 * @since 1.1.0
+	 */
+	public double getRejectionRatio() {
+		return 0L != validations ? (double) rejections / validations : Double.NaN;
+	}
+
+	/**
+	 * Get the rank of the {@link ConstraintEvaluator}, which is the expected duration spent per rejection, so that
+	 * cheap and selective {@link ConstraintEvaluator}s have the lowest ranks.
+	 * @return the rank, {@code +Infinity} if no sampled validation rejected values
+	 * @since 1.1.0
+	 */
+	public double getRank() {
+		return 0L != rejections ? (double) nanos / rejections : Double.POSITIVE_INFINITY;
+	}
+}
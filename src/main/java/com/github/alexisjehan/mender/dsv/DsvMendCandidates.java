@@ -0,0 +1,211 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * A collection of {@link DsvMendCandidate}s of a {@link DsvMender#mend(String...)} operation, that keeps the best one
+ * and optionally only a bounded number of the best ones.
+ *
+ * <p>When bounded, candidates are kept in a heap whose head is the worst kept one, so that a child that is not better
+ * than it is dropped without creating its {@link DsvMendCandidate}. Memory is then proportional to the maximum number
+ * of candidates rather than to the number of children.</p>
+ *
+ * <p><b>Note</b>: Among candidates with the same score, those added first are kept, {@code NaN} scores being the
+ * worst.</p>
+ * @since 1.1.0
+ */
+final class DsvMendCandidates {
+
+	/**
+	 * A kept {@link DsvMendCandidate} with its insertion order.
+	 * @since 1.1.0
+	 */
+	private static final class Entry {
+
+		/**
+		 * {@link DsvMendCandidate}.
+		 * @since 1.1.0
+		 */
+		private final DsvMendCandidate candidate;
+
+		/**
+		 * Insertion order.
+		 * @since 1.1.0
+		 */
+		private final long order;
+
+		/**
+		 * Constructor with a {@link DsvMendCandidate} and its insertion order.
+		 * @param candidate the {@link DsvMendCandidate}
+		 * @param order the insertion order
+		 * @since 1.1.0
+		 */
+		private Entry(final DsvMendCandidate candidate, final long order) {
+			this.candidate = candidate;
+			this.order = order;
+		}
+
+		/**
+		 * Get the rank of the score, {@code NaN} being the worst.
+		 * @return the rank of the score
+		 * @since 1.1.0
+		 */
+		private double getRank() {
+			return rank(candidate.getScore());
+		}
+
+		/**
+		 * Get the insertion order.
+		 * @return the insertion order
+		 * @since 1.1.0
+		 */
+		private long getOrder() {
+			return order;
+		}
+	}
+
+	/**
+	 * {@link Comparator} of kept {@link Entry}s, from the worst to the best.
+	 * @since 1.1.0
+	 */
+	private static final Comparator<Entry> WORST_FIRST = Comparator.comparingDouble(Entry::getRank)
+			.thenComparing(Comparator.comparingLong(Entry::getOrder).reversed());
+
+	/**
+	 * Maximum number of candidates, or {@code 0} for no limit.
+	 * @since 1.1.0
+	 */
+	private final int maxCandidates;
+
+	/**
+	 * {@link Set} of kept candidates.
+	 * @since 1.1.0
+	 */
+	private final Set<DsvMendCandidate> candidates = new HashSet<>();
+
+	/**
+	 * Heap of kept candidates, from the worst to the best, if bounded.
+	 * @since 1.1.0
+	 */
+	private final PriorityQueue<Entry> heap;
+
+	/**
+	 * Number of added children.
+	 * @since 1.1.0
+	 */
+	private long count;
+
+	/**
+	 * Best candidate or {@code null}.
+	 * @since 1.1.0
+	 */
+	private DsvMendCandidate bestCandidate;
+
+	/**
+	 * Constructor with a maximum number of candidates.
+	 * @param maxCandidates the maximum number of candidates, or {@code 0} for no limit
+	 * @throws IllegalArgumentException if the maximum number of candidates is lower than {@code 0}
+	 * @since 1.1.0
+	 */
+	DsvMendCandidates(final int maxCandidates) {
+		Ensure.greaterThanOrEqualTo("maxCandidates", maxCandidates, 0);
+		this.maxCandidates = maxCandidates;
+		heap = 0 < maxCandidates ? new PriorityQueue<>(maxCandidates, WORST_FIRST) : null;
+	}
+
+	/**
+	 * Add a child with its score, keeping it as a candidate if there is room for it or if it is better than the worst
+	 * kept one.
+	 * @param child the child
+	 * @param score the score of the child
+	 * @since 1.1.0
+	 */
+	void add(final String[] child, final double score) {
+		final var order = count++;
+		if (null != heap && maxCandidates == heap.size() && heap.peek().getRank() >= rank(score)) {
+			return;
+		}
+		final var candidate = new DsvMendCandidate(child, score);
+		if (!candidates.add(candidate)) {
+			return;
+		}
+		if (!Double.isNaN(score) && (null == bestCandidate || bestCandidate.getScore() < score)) {
+			bestCandidate = candidate;
+		}
+		if (null != heap) {
+			heap.add(new Entry(candidate, order));
+			if (maxCandidates < heap.size()) {
+				candidates.remove(heap.poll().candidate);
+			}
+		}
+	}
+
+	/**
+	 * Get the threshold that the score of a child must be greater than to be kept, which is the score of the worst
+	 * kept candidate if bounded and full.
+	 * @return the threshold, or {@code NaN} if any scored child would be kept
+	 * @since 1.1.0
+	 */
+	double getThreshold() {
+		if (null == heap || maxCandidates != heap.size()) {
+			return Double.NaN;
+		}
+		return heap.peek().candidate.getScore();
+	}
+
+	/**
+	 * Get the {@link Set} of kept candidates.
+	 * @return the {@link Set} of kept candidates
+	 * @since 1.1.0
+	 */
+	Set<DsvMendCandidate> getCandidates() {
+		return candidates;
+	}
+
+	/**
+	 * Get the best candidate.
+	 * @return the best candidate, or {@code null} if no child got a valid score
+	 * @since 1.1.0
+	 */
+	DsvMendCandidate getBestCandidate() {
+		return bestCandidate;
+	}
+
+	/**
+	 * Get the rank of the given score, {@code NaN} being the worst.
+	 * @param score the score
+	 * @return the rank of the score
+	 * @since 1.1.0
+	 */
+	private static double rank(final double score) {
+		return Double.isNaN(score) ? Double.NEGATIVE_INFINITY : score;
+	}
+}
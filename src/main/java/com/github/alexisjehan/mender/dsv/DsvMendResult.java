@@ -59,6 +59,18 @@ public final class DsvMendResult implements MendResult<String[], DsvMendCandidat
 	 */
 	private final DsvMendCandidate bestCandidate;
 
+	/**
+	 * Whether candidates come from a bounded search.
+	 * @since 1.1.0
+	 */
+	private final boolean bounded;
+
+	/**
+	 * Whether candidates come from a search that has been interrupted by a budget.
+	 * @since 1.1.0
+	 */
+	private final boolean partial;
+
 	/**
 	 * Constructor with an initial value, its candidates and the best one.
 	 * @param value the initial value
@@ -70,6 +82,49 @@ public final class DsvMendResult implements MendResult<String[], DsvMendCandidat
 	 * @since 1.0.0
 	 */
 	DsvMendResult(final String[] value, final Set<DsvMendCandidate> candidates, final DsvMendCandidate bestCandidate) {
+		this(value, candidates, bestCandidate, false);
+	}
+
+	/**
+	 * Constructor with an initial value, its candidates, the best one and whether they come from a bounded search.
+	 * @param value the initial value
+	 * @param candidates the {@link Set} of all candidates
+	 * @param bestCandidate the best candidate
+	 * @param bounded {@code true} if candidates come from a bounded search
+	 * @throws NullPointerException if the initial value, the {@link Set} of all candidates or any of them or the best
+	 *         candidate is {@code null}
+	 * @throws IllegalArgumentException if the initial value or the {@link Set} of candidates is empty
+	 * @since 1.1.0
+	 */
+	DsvMendResult(
+			final String[] value,
+			final Set<DsvMendCandidate> candidates,
+			final DsvMendCandidate bestCandidate,
+			final boolean bounded
+	) {
+		this(value, candidates, bestCandidate, bounded, false);
+	}
+
+	/**
+	 * Constructor with an initial value, its candidates, the best one, whether they come from a bounded search and
+	 * whether they come from a search that has been interrupted by a budget.
+	 * @param value the initial value
+	 * @param candidates the {@link Set} of all candidates
+	 * @param bestCandidate the best candidate
+	 * @param bounded {@code true} if candidates come from a bounded search
+	 * @param partial {@code true} if candidates come from a search that has been interrupted by a budget
+	 * @throws NullPointerException if the initial value, the {@link Set} of all candidates or any of them or the best
+	 *         candidate is {@code null}
+	 * @throws IllegalArgumentException if the initial value or the {@link Set} of candidates is empty
+	 * @since 1.1.0
+	 */
+	DsvMendResult(
+			final String[] value,
+			final Set<DsvMendCandidate> candidates,
+			final DsvMendCandidate bestCandidate,
+			final boolean bounded,
+			final boolean partial
+	) {
 		Ensure.notNullAndNotEmpty("value", value);
 		Ensure.notNullAndNotNullElements("value", value);
 		Ensure.notNullAndNotEmpty("candidates", candidates);
@@ -78,6 +133,8 @@ public final class DsvMendResult implements MendResult<String[], DsvMendCandidat
 		this.value = value.clone();
 		this.candidates = Set.copyOf(candidates);
 		this.bestCandidate = bestCandidate;
+		this.bounded = bounded;
+		this.partial = partial;
 	}
 
 	/**
@@ -94,7 +151,9 @@ public final class DsvMendResult implements MendResult<String[], DsvMendCandidat
 		final var other = (DsvMendResult) object;
 		return Equals.equals(value, other.value)
 				&& Equals.equals(candidates, other.candidates)
-				&& Equals.equals(bestCandidate, other.bestCandidate);
+				&& Equals.equals(bestCandidate, other.bestCandidate)
+				&& Equals.equals(bounded, other.bounded)
+				&& Equals.equals(partial, other.partial);
 	}
 
 	/**
@@ -105,7 +164,9 @@ public final class DsvMendResult implements MendResult<String[], DsvMendCandidat
 		return HashCode.of(
 				HashCode.hashCode(value),
 				HashCode.hashCode(candidates),
-				HashCode.hashCode(bestCandidate)
+				HashCode.hashCode(bestCandidate),
+				HashCode.hashCode(bounded),
+				HashCode.hashCode(partial)
 		);
 	}
 
@@ -118,7 +179,9 @@ public final class DsvMendResult implements MendResult<String[], DsvMendCandidat
 				this,
 				Pair.of("value", ToString.toString(value)),
 				Pair.of("candidates", ToString.toString(candidates.size())),
-				Pair.of("bestCandidate", ToString.toString(bestCandidate))
+				Pair.of("bestCandidate", ToString.toString(bestCandidate)),
+				Pair.of("bounded", ToString.toString(bounded)),
+				Pair.of("partial", ToString.toString(partial))
 		);
 	}
 
@@ -145,4 +208,24 @@ public final class DsvMendResult implements MendResult<String[], DsvMendCandidat
 	public DsvMendCandidate getBestCandidate() {
 		return bestCandidate;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Get whether candidates come from a bounded search, so that the best candidate might not be the best of all
+	 * possible ones.
+	 * @return {@code true} if candidates come from a bounded search
+	 * @since 1.1.0
+	 */
+	public boolean isBounded() {
+		return bounded;
+	}
+
+	/**
+	 * Get whether candidates come from a search that has been interrupted by a budget, so that the best candidate is
+	 * only the best one found so far.
+	 * @return {@code true} if candidates come from a search that has been interrupted by a budget
+	 * @since 1.1.0
+	 */
+	public boolean isPartial() {
+		return partial;
+	}
+}
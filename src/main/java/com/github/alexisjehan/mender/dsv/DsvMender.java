@@ -23,23 +23,40 @@
  */
 package com.github.alexisjehan.mender.dsv;
 
-import com.github.alexisjehan.javanilla.lang.Strings;
-import com.github.alexisjehan.javanilla.lang.array.ObjectArrays;
 import com.github.alexisjehan.javanilla.misc.quality.Ensure;
 import com.github.alexisjehan.javanilla.misc.quality.ToString;
 import com.github.alexisjehan.mender.api.MendException;
 import com.github.alexisjehan.mender.api.Mender;
 import com.github.alexisjehan.mender.api.evaluators.ConstraintEvaluator;
 import com.github.alexisjehan.mender.api.evaluators.EstimationEvaluator;
+import com.github.alexisjehan.mender.api.evaluators.Evaluator;
+import com.github.alexisjehan.mender.api.evaluators.ScoreAggregator;
+import com.github.alexisjehan.mender.api.evaluators.Validators;
 
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.DoubleStream;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
@@ -101,7 +118,7 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 	 * {@link Builder}'s optional step to set the maximum depth.
 	 * @since 1.0.0
 	 */
-	public interface OptionalMaxDepthStep extends OptionalEvaluatorStep {
+	public interface OptionalMaxDepthStep extends OptionalBeamWidthStep {
 
 		/**
 		 * Set the maximum depth.
@@ -109,7 +126,159 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 		 * @return the current {@link Builder} at the next step
 		 * @since 1.0.0
 		 */
-		OptionalEvaluatorStep withMaxDepth(int maxDepth);
+		OptionalBeamWidthStep withMaxDepth(int maxDepth);
+	}
+
+	/**
+	 * {@link Builder}'s optional step to set the beam width.
+	 * @since 1.1.0
+	 */
+	public interface OptionalBeamWidthStep extends OptionalMaxCandidatesStep {
+
+		/**
+		 * Set the beam width, so that invalid values with too many or not enough values are mended using a beam search
+		 * that only keeps the given number of best partial candidates for each column.
+		 * @param beamWidth the beam width
+		 * @return the current {@link Builder} at the next step
+		 * @throws IllegalArgumentException if the beam width is lower than {@code 1}
+		 * @since 1.1.0
+		 */
+		OptionalMaxCandidatesStep withBeamWidth(int beamWidth);
+
+		/**
+		 * Enable the segmentation, so that invalid values with too many or not enough values are mended by searching
+		 * the best candidate column by column using a {@link DsvSegmentation} if every {@link Evaluator} has been added
+		 * for some values' indexes, regardless of the maximum depth.
+		 *
+		 * <p><b>Note</b>: Results then only contain the best candidate, whose score is computed the same way as if
+		 * candidates were enumerated.</p>
+		 * @return the current {@link Builder} at the next step
+		 * @since 1.1.0
+		 */
+		OptionalMaxCandidatesStep withSegmentation();
+	}
+
+	/**
+	 * {@link Builder}'s optional step to set the maximum number of candidates.
+	 * @since 1.1.0
+	 */
+	public interface OptionalMaxCandidatesStep extends OptionalExecutorStep {
+
+		/**
+		 * Set the maximum number of candidates, so that only the given number of best candidates are kept in results,
+		 * {@code 1} to only keep the best one.
+		 *
+		 * <p><b>Note</b>: Setting it makes candidates be enumerated rather than searched column by column using a
+		 * {@link DsvSegmentation}, even if the segmentation has been enabled.</p>
+		 * @param maxCandidates the maximum number of candidates
+		 * @return the current {@link Builder} at the next step
+		 * @throws IllegalArgumentException if the maximum number of candidates is lower than {@code 1}
+		 * @since 1.1.0
+		 */
+		OptionalExecutorStep withMaxCandidates(int maxCandidates);
+	}
+
+	/**
+	 * {@link Builder}'s optional step to set the {@link Executor} to score candidates in parallel.
+	 * @since 1.1.0
+	 */
+	public interface OptionalExecutorStep extends OptionalBudgetStep {
+
+		/**
+		 * Score candidates in parallel using the common {@link ForkJoinPool}.
+		 *
+		 * <p><b>Note</b>: Setting it makes candidates be enumerated rather than searched column by column using a
+		 * {@link DsvSegmentation}, even if the segmentation has been enabled.</p>
+		 * @return the current {@link Builder} at the next step
+		 * @since 1.1.0
+		 */
+		default OptionalBudgetStep withParallelism() {
+			return withExecutor(ForkJoinPool.commonPool());
+		}
+
+		/**
+		 * Score candidates in parallel using the given {@link Executor}.
+		 *
+		 * <p><b>Note</b>: {@link Evaluator}s are then called concurrently, they must not be fitted while mending.
+		 * Setting it makes candidates be enumerated rather than searched column by column using a
+		 * {@link DsvSegmentation}, even if the segmentation has been enabled.</p>
+		 * @param executor the {@link Executor}
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the {@link Executor} is {@code null}
+		 * @since 1.1.0
+		 */
+		OptionalBudgetStep withExecutor(Executor executor);
+	}
+
+	/**
+	 * {@link Builder}'s optional step to set the time budget and the maximum number of evaluations of each
+	 * {@link #mend(String...)} operation.
+	 * @since 1.1.0
+	 */
+	public interface OptionalBudgetStep extends OptionalMaxSearchSizeStep {
+
+		/**
+		 * Set the time budget of each {@link #mend(String...)} operation, so that the best candidate found so far is
+		 * returned once it is elapsed.
+		 *
+		 * <p><b>Note</b>: Setting it makes candidates be enumerated rather than searched column by column using a
+		 * {@link DsvSegmentation}, even if the segmentation has been enabled.</p>
+		 * @param timeBudget the time budget
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the time budget is {@code null}
+		 * @throws IllegalArgumentException if the time budget is not positive
+		 * @since 1.1.0
+		 */
+		OptionalBudgetStep withTimeBudget(Duration timeBudget);
+
+		/**
+		 * Set the maximum number of evaluated candidates of each {@link #mend(String...)} operation, so that the best
+		 * candidate found so far is returned once it is reached.
+		 *
+		 * <p><b>Note</b>: Setting it makes candidates be enumerated rather than searched column by column using a
+		 * {@link DsvSegmentation}, even if the segmentation has been enabled.</p>
+		 * @param maxEvaluations the maximum number of evaluated candidates
+		 * @return the current {@link Builder} at the next step
+		 * @throws IllegalArgumentException if the maximum number of evaluated candidates is lower than {@code 1}
+		 * @since 1.1.0
+		 */
+		OptionalBudgetStep withMaxEvaluations(int maxEvaluations);
+	}
+
+	/**
+	 * {@link Builder}'s optional step to set the maximum search size.
+	 * @since 1.1.0
+	 */
+	public interface OptionalMaxSearchSizeStep extends OptionalScoreAggregatorStep {
+
+		/**
+		 * Set the maximum search size, so that values with too many values whose expected number of candidates is
+		 * greater are optimized before being mended.
+		 *
+		 * <p><b>Note</b>: Setting it makes candidates be enumerated rather than searched column by column using a
+		 * {@link DsvSegmentation}, even if the segmentation has been enabled.</p>
+		 * @param maxSearchSize the maximum search size
+		 * @return the current {@link Builder} at the next step
+		 * @throws IllegalArgumentException if the maximum search size is lower than {@code 1}
+		 * @since 1.1.0
+		 */
+		OptionalScoreAggregatorStep withMaxSearchSize(int maxSearchSize);
+	}
+
+	/**
+	 * {@link Builder}'s optional step to set the {@link ScoreAggregator}.
+	 * @since 1.1.0
+	 */
+	public interface OptionalScoreAggregatorStep extends OptionalEvaluatorStep {
+
+		/**
+		 * Set the {@link ScoreAggregator} of scores of {@link Evaluator}s, instead of their mean.
+		 * @param scoreAggregator the {@link ScoreAggregator}
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the {@link ScoreAggregator} is {@code null}
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withScoreAggregator(ScoreAggregator scoreAggregator);
 	}
 
 	/**
@@ -138,6 +307,125 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 		 */
 		OptionalEvaluatorStep withConstraint(Predicate<String> validator, int... indexes);
 
+		/**
+		 * Add a {@link ConstraintEvaluator} on every value, that validates values entirely matching the given regular
+		 * expression compiled once.
+		 * @param regex the regular expression
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the regular expression is {@code null}
+		 * @throws java.util.regex.PatternSyntaxException if the regular expression is not valid
+		 * @see Validators#pattern(String)
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withPatternConstraint(String regex);
+
+		/**
+		 * Add a {@link ConstraintEvaluator} on values at provided indexes, that validates values entirely matching the
+		 * given regular expression compiled once.
+		 * @param regex the regular expression
+		 * @param indexes values' indexes
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the regular expression or the array of indexes is {@code null}
+		 * @throws java.util.regex.PatternSyntaxException if the regular expression is not valid
+		 * @throws IllegalArgumentException if the array of indexes is empty or if any of them is not valid
+		 * @see Validators#pattern(String)
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withPatternConstraint(String regex, int... indexes);
+
+		/**
+		 * Add a {@link ConstraintEvaluator} on every value, that validates optionally signed decimal numbers.
+		 * @return the current {@link Builder} at the next step
+		 * @see Validators#numeric()
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withNumericConstraint();
+
+		/**
+		 * Add a {@link ConstraintEvaluator} on values at provided indexes, that validates optionally signed decimal
+		 * numbers.
+		 * @param indexes values' indexes
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the array of indexes is {@code null}
+		 * @throws IllegalArgumentException if the array of indexes is empty or if any of them is not valid
+		 * @see Validators#numeric()
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withNumericConstraint(int... indexes);
+
+		/**
+		 * Add a {@link ConstraintEvaluator} on every value, that validates ISO-8601 local dates.
+		 * @return the current {@link Builder} at the next step
+		 * @see Validators#isoDate()
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withDateConstraint();
+
+		/**
+		 * Add a {@link ConstraintEvaluator} on values at provided indexes, that validates ISO-8601 local dates.
+		 * @param indexes values' indexes
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the array of indexes is {@code null}
+		 * @throws IllegalArgumentException if the array of indexes is empty or if any of them is not valid
+		 * @see Validators#isoDate()
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withDateConstraint(int... indexes);
+
+		/**
+		 * Add a {@link ConstraintEvaluator} on every value, that validates values whose length is between the given
+		 * minimum and maximum.
+		 * @param minLength the minimum length
+		 * @param maxLength the maximum length
+		 * @return the current {@link Builder} at the next step
+		 * @throws IllegalArgumentException if the minimum length is lower than {@code 0} or if the maximum length is
+		 *         lower than the minimum length
+		 * @see Validators#length(int, int)
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withLengthConstraint(int minLength, int maxLength);
+
+		/**
+		 * Add a {@link ConstraintEvaluator} on values at provided indexes, that validates values whose length is
+		 * between the given minimum and maximum.
+		 * @param minLength the minimum length
+		 * @param maxLength the maximum length
+		 * @param indexes values' indexes
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the array of indexes is {@code null}
+		 * @throws IllegalArgumentException if the minimum length is lower than {@code 0}, if the maximum length is
+		 *         lower than the minimum length, if the array of indexes is empty or if any of them is not valid
+		 * @see Validators#length(int, int)
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withLengthConstraint(int minLength, int maxLength, int... indexes);
+
+		/**
+		 * Add a {@link ConstraintEvaluator} on every value, that validates values that are one of the given ones.
+		 * @param values the {@link Collection} of valid values
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the {@link Collection} of valid values or any of them is {@code null}
+		 * @throws IllegalArgumentException if the {@link Collection} of valid values is empty
+		 * @see Validators#oneOf(Collection)
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withEnumConstraint(Collection<String> values);
+
+		/**
+		 * Add a {@link ConstraintEvaluator} on values at provided indexes, that validates values that are one of the
+		 * given ones.
+		 * @param values the {@link Collection} of valid values
+		 * @param indexes values' indexes
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the {@link Collection} of valid values or any of them or the array of
+		 *         indexes is {@code null}
+		 * @throws IllegalArgumentException if the {@link Collection} of valid values or the array of indexes is empty
+		 *         or if any index is not valid
+		 * @see Validators#oneOf(Collection)
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withEnumConstraint(Collection<String> values, int... indexes);
+
 		/**
 		 * Add an {@link EstimationEvaluator} with the given transformer {@link Function} on every value.
 		 * @param transformer the transformer {@link Function}
@@ -157,6 +445,146 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 		 * @since 1.0.0
 		 */
 		OptionalEvaluatorStep withEstimation(Function<String, ?> transformer, int... indexes);
+
+		/**
+		 * Add an {@link EstimationEvaluator} with the given transformer {@link Function} on every value, that could be
+		 * fitted and evaluated concurrently.
+		 * @param transformer the transformer {@link Function}
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the transformer {@link Function} is {code null}
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withConcurrentEstimation(Function<String, ?> transformer);
+
+		/**
+		 * Add an {@link EstimationEvaluator} with the given transformer {@link Function} on values at provided indexes,
+		 * that could be fitted and evaluated concurrently.
+		 * @param transformer the transformer {@link Function}
+		 * @param indexes values' indexes
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the transformer {@link Function} or the array of indexes is {code null}
+		 * @throws IllegalArgumentException if the array of indexes is empty or if any of them is not valid
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withConcurrentEstimation(Function<String, ?> transformer, int... indexes);
+
+		/**
+		 * Add an {@link EstimationEvaluator} with the given transformer {@link Function} on every value, whose
+		 * transformed values are approximately counted in a fixed memory using a sketch of the given width and depth.
+		 * @param transformer the transformer {@link Function}
+		 * @param width the number of counters of each row of the sketch
+		 * @param depth the number of rows of the sketch
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the transformer {@link Function} is {code null}
+		 * @throws IllegalArgumentException if the width or the depth is lower than {@code 1}
+		 * @see EstimationEvaluator#ofSketch(Function, int, int)
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withSketchEstimation(Function<String, ?> transformer, int width, int depth);
+
+		/**
+		 * Add an {@link EstimationEvaluator} with the given transformer {@link Function} on values at provided indexes,
+		 * whose transformed values are approximately counted in a fixed memory using a sketch of the given width and
+		 * depth.
+		 * @param transformer the transformer {@link Function}
+		 * @param width the number of counters of each row of the sketch
+		 * @param depth the number of rows of the sketch
+		 * @param indexes values' indexes
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the transformer {@link Function} or the array of indexes is {code null}
+		 * @throws IllegalArgumentException if the width or the depth is lower than {@code 1}, if the array of indexes
+		 *         is empty or if any of them is not valid
+		 * @see EstimationEvaluator#ofSketch(Function, int, int)
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withSketchEstimation(
+				Function<String, ?> transformer,
+				int width,
+				int depth,
+				int... indexes
+		);
+
+		/**
+		 * Add an {@link EstimationEvaluator} with the given transformer {@link Function} on every value, whose
+		 * transformed values are only counted for the most recent fits using a sliding window of the given number of
+		 * buckets of the given size.
+		 * @param transformer the transformer {@link Function}
+		 * @param bucketSize the number of fits of each bucket
+		 * @param bucketCount the number of buckets
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the transformer {@link Function} is {code null}
+		 * @throws IllegalArgumentException if the bucket size or the bucket count is lower than {@code 1}
+		 * @see EstimationEvaluator#ofWindow(Function, int, int)
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withWindowEstimation(Function<String, ?> transformer, int bucketSize, int bucketCount);
+
+		/**
+		 * Add an {@link EstimationEvaluator} with the given transformer {@link Function} on values at provided indexes,
+		 * whose transformed values are only counted for the most recent fits using a sliding window of the given number
+		 * of buckets of the given size.
+		 * @param transformer the transformer {@link Function}
+		 * @param bucketSize the number of fits of each bucket
+		 * @param bucketCount the number of buckets
+		 * @param indexes values' indexes
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the transformer {@link Function} or the array of indexes is {code null}
+		 * @throws IllegalArgumentException if the bucket size or the bucket count is lower than {@code 1}, if the array
+		 *         of indexes is empty or if any of them is not valid
+		 * @see EstimationEvaluator#ofWindow(Function, int, int)
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withWindowEstimation(
+				Function<String, ?> transformer,
+				int bucketSize,
+				int bucketCount,
+				int... indexes
+		);
+
+		/**
+		 * Add an {@link EstimationEvaluator} with the given transformer {@link ToIntFunction} on every value, whose
+		 * transformed values are counted without being boxed.
+		 * @param transformer the transformer {@link ToIntFunction}
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the transformer {@link ToIntFunction} is {code null}
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withIntEstimation(ToIntFunction<String> transformer);
+
+		/**
+		 * Add an {@link EstimationEvaluator} with the given transformer {@link ToIntFunction} on values at provided
+		 * indexes, whose transformed values are counted without being boxed.
+		 * @param transformer the transformer {@link ToIntFunction}
+		 * @param indexes values' indexes
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the transformer {@link ToIntFunction} or the array of indexes is
+		 *         {code null}
+		 * @throws IllegalArgumentException if the array of indexes is empty or if any of them is not valid
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withIntEstimation(ToIntFunction<String> transformer, int... indexes);
+
+		/**
+		 * Add an {@link EstimationEvaluator} with the given transformer {@link Predicate} on every value, whose
+		 * transformed values are counted without being boxed.
+		 * @param transformer the transformer {@link Predicate}
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the transformer {@link Predicate} is {code null}
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withBooleanEstimation(Predicate<String> transformer);
+
+		/**
+		 * Add an {@link EstimationEvaluator} with the given transformer {@link Predicate} on values at provided
+		 * indexes, whose transformed values are counted without being boxed.
+		 * @param transformer the transformer {@link Predicate}
+		 * @param indexes values' indexes
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the transformer {@link Predicate} or the array of indexes is {code null}
+		 * @throws IllegalArgumentException if the array of indexes is empty or if any of them is not valid
+		 * @since 1.1.0
+		 */
+		OptionalEvaluatorStep withBooleanEstimation(Predicate<String> transformer, int... indexes);
 	}
 
 	/**
@@ -188,6 +616,30 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 		 */
 		static final int DEFAULT_MAX_DEPTH = 20;
 
+		/**
+		 * Default beam width, for no beam search.
+		 * @since 1.1.0
+		 */
+		static final int DEFAULT_BEAM_WIDTH = 0;
+
+		/**
+		 * Default maximum number of candidates, for no limit.
+		 * @since 1.1.0
+		 */
+		static final int DEFAULT_MAX_CANDIDATES = 0;
+
+		/**
+		 * Default maximum number of evaluated candidates, for no limit.
+		 * @since 1.1.0
+		 */
+		static final int DEFAULT_MAX_EVALUATIONS = 0;
+
+		/**
+		 * Default maximum search size, for no limit.
+		 * @since 1.1.0
+		 */
+		static final int DEFAULT_MAX_SEARCH_SIZE = 0;
+
 		/**
 		 * {@link DsvMender}'s delimiter.
 		 * @since 1.0.0
@@ -206,17 +658,65 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 		 */
 		private int maxDepth = DEFAULT_MAX_DEPTH;
 
+		/**
+		 * {@link DsvMender}'s beam width.
+		 * @since 1.1.0
+		 */
+		private int beamWidth = DEFAULT_BEAM_WIDTH;
+
+		/**
+		 * Whether the {@link DsvMender}'s segmentation is enabled.
+		 * @since 1.1.0
+		 */
+		private boolean segmented;
+
+		/**
+		 * {@link DsvMender}'s maximum number of candidates.
+		 * @since 1.1.0
+		 */
+		private int maxCandidates = DEFAULT_MAX_CANDIDATES;
+
+		/**
+		 * {@link DsvMender}'s {@link Executor} or {@code null}.
+		 * @since 1.1.0
+		 */
+		private Executor executor;
+
+		/**
+		 * {@link DsvMender}'s time budget or {@code null}.
+		 * @since 1.1.0
+		 */
+		private Duration timeBudget;
+
+		/**
+		 * {@link DsvMender}'s maximum number of evaluated candidates.
+		 * @since 1.1.0
+		 */
+		private int maxEvaluations = DEFAULT_MAX_EVALUATIONS;
+
+		/**
+		 * {@link DsvMender}'s maximum search size.
+		 * @since 1.1.0
+		 */
+		private int maxSearchSize = DEFAULT_MAX_SEARCH_SIZE;
+
+		/**
+		 * {@link DsvMender}'s {@link ScoreAggregator}, or {@code null} for the mean.
+		 * @since 1.1.0
+		 */
+		private ScoreAggregator scoreAggregator;
+
 		/**
 		 * {@link DsvMender}'s {@link Set} of {@link ConstraintEvaluator}s.
 		 * @since 1.0.0
 		 */
-		private final Set<ConstraintEvaluator<String[]>> constraintEvaluators = new HashSet<>();
+		private final Set<ConstraintEvaluator<String[]>> constraintEvaluators = new LinkedHashSet<>();
 
 		/**
 		 * {@link DsvMender}'s {@link Set} of {@link EstimationEvaluator}s.
 		 * @since 1.0.0
 		 */
-		private final Set<EstimationEvaluator<String[]>> estimationEvaluators = new HashSet<>();
+		private final Set<EstimationEvaluator<String[]>> estimationEvaluators = new LinkedHashSet<>();
 
 		/**
 		 * {@inheritDoc}
@@ -240,11 +740,83 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 		 * {@inheritDoc}
 		 */
 		@Override
-		public OptionalEvaluatorStep withMaxDepth(final int maxDepth) {
+		public OptionalBeamWidthStep withMaxDepth(final int maxDepth) {
 			this.maxDepth = maxDepth;
 			return this;
 		}
 
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalMaxCandidatesStep withBeamWidth(final int beamWidth) {
+			this.beamWidth = Ensure.greaterThanOrEqualTo("beamWidth", beamWidth, 1);
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalMaxCandidatesStep withSegmentation() {
+			segmented = true;
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalExecutorStep withMaxCandidates(final int maxCandidates) {
+			this.maxCandidates = Ensure.greaterThanOrEqualTo("maxCandidates", maxCandidates, 1);
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalBudgetStep withExecutor(final Executor executor) {
+			this.executor = Ensure.notNull("executor", executor);
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalBudgetStep withTimeBudget(final Duration timeBudget) {
+			this.timeBudget = Ensure.notNullAndGreaterThan("timeBudget", timeBudget, Duration.ZERO);
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalBudgetStep withMaxEvaluations(final int maxEvaluations) {
+			this.maxEvaluations = Ensure.greaterThanOrEqualTo("maxEvaluations", maxEvaluations, 1);
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalScoreAggregatorStep withMaxSearchSize(final int maxSearchSize) {
+			this.maxSearchSize = Ensure.greaterThanOrEqualTo("maxSearchSize", maxSearchSize, 1);
+			return this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withScoreAggregator(final ScoreAggregator scoreAggregator) {
+			this.scoreAggregator = Ensure.notNull("scoreAggregator", scoreAggregator);
+			return this;
+		}
+
 		/**
 		 * {@inheritDoc}
 		 */
@@ -262,11 +834,95 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 			Ensure.notNullAndNotEmpty("indexes", indexes);
 			for (final var index : indexes) {
 				Ensure.between("indexes index", index, 0, length - 1);
-				constraintEvaluators.add(new ConstraintEvaluator<>(values -> validator.test(values[index])));
+				constraintEvaluators.add(ConstraintEvaluator.ofColumn(new ConstraintEvaluator<>(validator), index));
 			}
 			return this;
 		}
 
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withPatternConstraint(final String regex) {
+			return withConstraint(Validators.pattern(regex));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withPatternConstraint(final String regex, final int... indexes) {
+			return withConstraint(Validators.pattern(regex), indexes);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withNumericConstraint() {
+			return withConstraint(Validators.numeric());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withNumericConstraint(final int... indexes) {
+			return withConstraint(Validators.numeric(), indexes);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withDateConstraint() {
+			return withConstraint(Validators.isoDate());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withDateConstraint(final int... indexes) {
+			return withConstraint(Validators.isoDate(), indexes);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withLengthConstraint(final int minLength, final int maxLength) {
+			return withConstraint(Validators.length(minLength, maxLength));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withLengthConstraint(
+				final int minLength,
+				final int maxLength,
+				final int... indexes
+		) {
+			return withConstraint(Validators.length(minLength, maxLength), indexes);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withEnumConstraint(final Collection<String> values) {
+			return withConstraint(Validators.oneOf(values));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withEnumConstraint(final Collection<String> values, final int... indexes) {
+			return withConstraint(Validators.oneOf(values), indexes);
+		}
+
 		/**
 		 * {@inheritDoc}
 		 */
@@ -276,15 +932,160 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 		}
 
 		/**
-		 * {@inheritDoc}
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withEstimation(final Function<String, ?> transformer, final int... indexes) {
+			Ensure.notNull("transformer", transformer);
+			return withEstimations(
+					() -> new EstimationEvaluator<>(transformer),
+					indexes
+			);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withConcurrentEstimation(final Function<String, ?> transformer) {
+			return withConcurrentEstimation(transformer, IntStream.range(0, length).toArray());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withConcurrentEstimation(
+				final Function<String, ?> transformer,
+				final int... indexes
+		) {
+			Ensure.notNull("transformer", transformer);
+			return withEstimations(
+					() -> EstimationEvaluator.ofConcurrent(transformer),
+					indexes
+			);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withSketchEstimation(
+				final Function<String, ?> transformer,
+				final int width,
+				final int depth
+		) {
+			return withSketchEstimation(transformer, width, depth, IntStream.range(0, length).toArray());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withSketchEstimation(
+				final Function<String, ?> transformer,
+				final int width,
+				final int depth,
+				final int... indexes
+		) {
+			Ensure.notNull("transformer", transformer);
+			Ensure.greaterThanOrEqualTo("width", width, 1);
+			Ensure.greaterThanOrEqualTo("depth", depth, 1);
+			return withEstimations(
+					() -> EstimationEvaluator.ofSketch(transformer, width, depth),
+					indexes
+			);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withWindowEstimation(
+				final Function<String, ?> transformer,
+				final int bucketSize,
+				final int bucketCount
+		) {
+			return withWindowEstimation(transformer, bucketSize, bucketCount, IntStream.range(0, length).toArray());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withWindowEstimation(
+				final Function<String, ?> transformer,
+				final int bucketSize,
+				final int bucketCount,
+				final int... indexes
+		) {
+			Ensure.notNull("transformer", transformer);
+			Ensure.greaterThanOrEqualTo("bucketSize", bucketSize, 1);
+			Ensure.greaterThanOrEqualTo("bucketCount", bucketCount, 1);
+			return withEstimations(
+					() -> EstimationEvaluator.ofWindow(transformer, bucketSize, bucketCount),
+					indexes
+			);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withIntEstimation(final ToIntFunction<String> transformer) {
+			return withIntEstimation(transformer, IntStream.range(0, length).toArray());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withIntEstimation(final ToIntFunction<String> transformer, final int... indexes) {
+			Ensure.notNull("transformer", transformer);
+			return withEstimations(
+					() -> EstimationEvaluator.ofInt(transformer),
+					indexes
+			);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withBooleanEstimation(final Predicate<String> transformer) {
+			return withBooleanEstimation(transformer, IntStream.range(0, length).toArray());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public OptionalEvaluatorStep withBooleanEstimation(final Predicate<String> transformer, final int... indexes) {
+			Ensure.notNull("transformer", transformer);
+			return withEstimations(
+					() -> EstimationEvaluator.ofBoolean(transformer),
+					indexes
+			);
+		}
+
+		/**
+		 * Add an {@link EstimationEvaluator} of the column created by the given factory {@link Supplier} for each
+		 * provided index.
+		 * @param factory the factory {@link Supplier} of an {@link EstimationEvaluator} of the value at an index
+		 * @param indexes values' indexes
+		 * @return the current {@link Builder} at the next step
+		 * @throws NullPointerException if the array of indexes is {code null}
+		 * @throws IllegalArgumentException if the array of indexes is empty or if any of them is not valid
+		 * @since 1.1.0
 		 */
-		@Override
-		public OptionalEvaluatorStep withEstimation(final Function<String, ?> transformer, final int... indexes) {
-			Ensure.notNull("transformer", transformer);
+		private OptionalEvaluatorStep withEstimations(
+				final Supplier<EstimationEvaluator<String>> factory,
+				final int... indexes
+		) {
 			Ensure.notNullAndNotEmpty("indexes", indexes);
 			for (final var index : indexes) {
 				Ensure.between("indexes index", index, 0, length - 1);
-				estimationEvaluators.add(new EstimationEvaluator<>(values -> transformer.apply(values[index])));
+				estimationEvaluators.add(EstimationEvaluator.ofColumn(factory.get(), index));
 			}
 			return this;
 		}
@@ -294,10 +1095,43 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 		 */
 		@Override
 		public DsvMender build() {
-			return new DsvMender(delimiter, length, maxDepth, constraintEvaluators, estimationEvaluators);
+			return new DsvMender(
+					delimiter,
+					length,
+					maxDepth,
+					beamWidth,
+					segmented,
+					maxCandidates,
+					executor,
+					timeBudget,
+					maxEvaluations,
+					maxSearchSize,
+					scoreAggregator,
+					constraintEvaluators,
+					estimationEvaluators
+			);
 		}
 	}
 
+	/**
+	 * Magic number of estimations snapshots.
+	 * @since 1.1.0
+	 */
+	private static final int SNAPSHOT_MAGIC = 0x4453564D;
+
+	/**
+	 * Version of the format of estimations snapshots.
+	 * @since 1.1.0
+	 */
+	private static final int SNAPSHOT_VERSION = 1;
+
+	/**
+	 * Maximum number of children whose sum of scores is the best one up to rounding errors that are searched using the
+	 * {@link DsvSegmentation}, then scored again the same way as enumerated candidates.
+	 * @since 1.1.0
+	 */
+	private static final int MAX_SEGMENTED_CHILDREN = 64;
+
 	/**
 	 * Delimiter.
 	 * @since 1.0.0
@@ -316,6 +1150,54 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 	 */
 	private final int maxDepth;
 
+	/**
+	 * Beam width, or {@code 0} for no beam search.
+	 * @since 1.1.0
+	 */
+	private final int beamWidth;
+
+	/**
+	 * Whether the segmentation is enabled.
+	 * @since 1.1.0
+	 */
+	private final boolean segmented;
+
+	/**
+	 * Maximum number of candidates, or {@code 0} for no limit.
+	 * @since 1.1.0
+	 */
+	private final int maxCandidates;
+
+	/**
+	 * {@link Executor} to score candidates in parallel, or {@code null}.
+	 * @since 1.1.0
+	 */
+	private final Executor executor;
+
+	/**
+	 * Time budget of each {@link #mend(String...)} operation, or {@code null} for no limit.
+	 * @since 1.1.0
+	 */
+	private final Duration timeBudget;
+
+	/**
+	 * Maximum number of evaluated candidates of each {@link #mend(String...)} operation, or {@code 0} for no limit.
+	 * @since 1.1.0
+	 */
+	private final int maxEvaluations;
+
+	/**
+	 * Maximum search size of each {@link #mend(String...)} operation, or {@code 0} for no limit.
+	 * @since 1.1.0
+	 */
+	private final int maxSearchSize;
+
+	/**
+	 * {@link ScoreAggregator}, or {@code null} for the mean.
+	 * @since 1.1.0
+	 */
+	private final ScoreAggregator scoreAggregator;
+
 	/**
 	 * {@link Set} of {@link ConstraintEvaluator}s.
 	 * @since 1.0.0
@@ -323,16 +1205,61 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 	private final Set<ConstraintEvaluator<String[]>> constraintEvaluators;
 
 	/**
-	 * {@link Set} of {@link EstimationEvaluator}s.
+	 * {@link Set} of {@link EstimationEvaluator}s, in the iteration order of the given one.
 	 * @since 1.0.0
 	 */
 	private final Set<EstimationEvaluator<String[]>> estimationEvaluators;
 
+	/**
+	 * {@link DsvConstraintOrder} of all {@link ConstraintEvaluator}s.
+	 * @since 1.1.0
+	 */
+	private final DsvConstraintOrder constraintOrder;
+
+	/**
+	 * {@link DsvConstraintOrder} of {@link ConstraintEvaluator}s that depend on a single column, for each column.
+	 * @since 1.1.0
+	 */
+	private final List<DsvConstraintOrder> columnConstraintOrders;
+
+	/**
+	 * {@link List} of all {@link Evaluator}s, whose scores are terms of the {@link ScoreAggregator} if any.
+	 * @since 1.1.0
+	 */
+	private final List<Evaluator<String[]>> evaluators;
+
+	/**
+	 * Sum of weights of all {@link Evaluator}s.
+	 * @since 1.1.0
+	 */
+	private final double weightSum;
+
+	/**
+	 * {@link DsvParallelScorer} if there is an {@link Executor}, {@code null} otherwise.
+	 * @since 1.1.0
+	 */
+	private final DsvParallelScorer parallelScorer;
+
+	/**
+	 * {@link DsvBeamSearch} if the beam width is not {@code 0}, {@code null} otherwise.
+	 * @since 1.1.0
+	 */
+	private final DsvBeamSearch beamSearch;
+
+	/**
+	 * {@link DsvSegmentation} if the segmentation is enabled, every {@link Evaluator} depends on a single column and
+	 * candidates do not have to be enumerated, {@code null} otherwise.
+	 * @since 1.1.0
+	 */
+	private final DsvSegmentation segmentation;
+
 	/**
 	 * Last {@link #mend(String...)} result or {@code null}.
+	 *
+	 * <p><b>Note</b>: If the {@code DsvMender} is shared by several threads, the last written result wins.</p>
 	 * @since 1.0.0
 	 */
-	private DsvMendResult lastResult;
+	private volatile DsvMendResult lastResult;
 
 	/**
 	 * Constructor with a delimiter, a length, a maximum depth, a {@link Set} of {@link ConstraintEvaluator}s and a
@@ -355,17 +1282,150 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 			final int maxDepth,
 			final Set<ConstraintEvaluator<String[]>> constraintEvaluators,
 			final Set<EstimationEvaluator<String[]>> estimationEvaluators
+	) {
+		this(
+				delimiter,
+				length,
+				maxDepth,
+				Builder.DEFAULT_BEAM_WIDTH,
+				false,
+				Builder.DEFAULT_MAX_CANDIDATES,
+				null,
+				null,
+				Builder.DEFAULT_MAX_EVALUATIONS,
+				Builder.DEFAULT_MAX_SEARCH_SIZE,
+				null,
+				constraintEvaluators,
+				estimationEvaluators
+		);
+	}
+
+	/**
+	 * Constructor with a delimiter, a length, a maximum depth, a beam width, whether the segmentation is enabled, a
+	 * maximum number of candidates, an {@link Executor}, a time budget, a maximum number of evaluated candidates, a
+	 * maximum search size, a {@link ScoreAggregator}, a {@link Set} of {@link ConstraintEvaluator}s and a {@link Set}
+	 * of {@link EstimationEvaluator}s.
+	 *
+	 * <p><b>Note</b>: If the beam width is not {@code 0}, invalid values are mended using a {@link DsvBeamSearch}. Else
+	 * if the segmentation is enabled, every {@link Evaluator} has a column and neither the maximum number of
+	 * candidates, the {@link Executor}, the time budget, the maximum number of evaluated candidates nor the maximum
+	 * search size is set, they are mended using a {@link DsvSegmentation}. If there is a {@link ScoreAggregator},
+	 * {@link Evaluator}s are scored as its weighted terms, so that the score of a candidate is still a sum of scores.
+	 * Values are validated by {@link ConstraintEvaluator}s in an adaptive order, starting with the given one.</p>
+	 * @param delimiter the delimiter
+	 * @param length the length
+	 * @param maxDepth the maximum depth
+	 * @param beamWidth the beam width, or {@code 0} for no beam search
+	 * @param segmented {@code true} if the segmentation is enabled
+	 * @param maxCandidates the maximum number of candidates, or {@code 0} for no limit
+	 * @param executor the {@link Executor} to score candidates in parallel, or {@code null} to score them sequentially
+	 * @param timeBudget the time budget of each mend operation, or {@code null} for no limit
+	 * @param maxEvaluations the maximum number of evaluated candidates of each mend operation, or {@code 0} for no
+	 *        limit
+	 * @param maxSearchSize the maximum search size of each mend operation, or {@code 0} for no limit
+	 * @param scoreAggregator the {@link ScoreAggregator}, or {@code null} for the mean
+	 * @param constraintEvaluators the {@link Set} of {@link ConstraintEvaluator}s
+	 * @param estimationEvaluators the {@link Set} of {@link EstimationEvaluator}s
+	 * @throws NullPointerException if the delimiter, the {@link Set} of {@link ConstraintEvaluator}s or any of them
+	 *         or the {@link Set} of {@link EstimationEvaluator}s or any of them is {@code null}
+	 * @throws IllegalArgumentException if delimiter is empty, the length is lower than 2, the maximum depth if lower
+	 *         than 1, the beam width, the maximum number of candidates, the maximum number of evaluated candidates or
+	 *         the maximum search size is lower than 0, the time budget is not positive, if any {@link Evaluator}'s
+	 *         column is not valid or if any {@link Evaluator}'s weight is not positive and finite
+	 * @since 1.1.0
+	 */
+	DsvMender(
+			final String delimiter,
+			final int length,
+			final int maxDepth,
+			final int beamWidth,
+			final boolean segmented,
+			final int maxCandidates,
+			final Executor executor,
+			final Duration timeBudget,
+			final int maxEvaluations,
+			final int maxSearchSize,
+			final ScoreAggregator scoreAggregator,
+			final Set<ConstraintEvaluator<String[]>> constraintEvaluators,
+			final Set<EstimationEvaluator<String[]>> estimationEvaluators
 	) {
 		Ensure.notNullAndNotEmpty("delimiter", delimiter);
 		Ensure.greaterThanOrEqualTo("length", length, 2);
 		Ensure.greaterThanOrEqualTo("maxDepth", maxDepth, 1);
+		Ensure.greaterThanOrEqualTo("beamWidth", beamWidth, 0);
+		Ensure.greaterThanOrEqualTo("maxCandidates", maxCandidates, 0);
+		if (null != timeBudget) {
+			Ensure.notNullAndGreaterThan("timeBudget", timeBudget, Duration.ZERO);
+		}
+		Ensure.greaterThanOrEqualTo("maxEvaluations", maxEvaluations, 0);
+		Ensure.greaterThanOrEqualTo("maxSearchSize", maxSearchSize, 0);
 		Ensure.notNullAndNotNullElements("constraintEvaluators", constraintEvaluators);
 		Ensure.notNullAndNotNullElements("estimationEvaluators", estimationEvaluators);
 		this.delimiter = delimiter;
 		this.length = length;
 		this.maxDepth = maxDepth;
-		this.constraintEvaluators = Set.copyOf(constraintEvaluators);
-		this.estimationEvaluators = Set.copyOf(estimationEvaluators);
+		this.beamWidth = beamWidth;
+		this.segmented = segmented;
+		this.maxCandidates = maxCandidates;
+		this.executor = executor;
+		this.timeBudget = timeBudget;
+		this.maxEvaluations = maxEvaluations;
+		this.maxSearchSize = maxSearchSize;
+		this.scoreAggregator = scoreAggregator;
+		parallelScorer = null != executor ? new DsvParallelScorer(executor) : null;
+		this.constraintEvaluators = Collections.unmodifiableSet(new LinkedHashSet<>(constraintEvaluators));
+		this.estimationEvaluators = Collections.unmodifiableSet(new LinkedHashSet<>(estimationEvaluators));
+		final var columnConstraintEvaluators = new ArrayList<List<ConstraintEvaluator<String[]>>>(length);
+		for (var i = 0; i < length; ++i) {
+			columnConstraintEvaluators.add(new ArrayList<>());
+		}
+		for (final var constraintEvaluator : this.constraintEvaluators) {
+			final var column = constraintEvaluator.getColumn();
+			if (column.isPresent()) {
+				Ensure.between("constraintEvaluators column", column.getAsInt(), 0, length - 1);
+				columnConstraintEvaluators.get(column.getAsInt()).add(constraintEvaluator);
+			}
+		}
+		constraintOrder = new DsvConstraintOrder(this.constraintEvaluators);
+		columnConstraintOrders = columnConstraintEvaluators.stream()
+				.map(DsvConstraintOrder::new)
+				.collect(Collectors.toUnmodifiableList());
+		final var evaluators = new ArrayList<Evaluator<String[]>>(this.constraintEvaluators);
+		evaluators.addAll(this.estimationEvaluators);
+		var weightSum = (double) evaluators.size();
+		if (null != scoreAggregator) {
+			weightSum = 0.0d;
+			for (var i = 0; i < evaluators.size(); ++i) {
+				final var scoredEvaluator = new DsvScoredEvaluator(evaluators.get(i), scoreAggregator);
+				weightSum += scoredEvaluator.getWeight();
+				evaluators.set(i, scoredEvaluator);
+			}
+		}
+		final var columnEvaluators = new ArrayList<List<Evaluator<String[]>>>(length);
+		for (var i = 0; i < length; ++i) {
+			columnEvaluators.add(new ArrayList<>());
+		}
+		final var otherEvaluators = new ArrayList<Evaluator<String[]>>();
+		for (final var evaluator : evaluators) {
+			final var column = evaluator.getColumn();
+			if (column.isPresent()) {
+				Ensure.between("evaluators column", column.getAsInt(), 0, length - 1);
+				columnEvaluators.get(column.getAsInt()).add(evaluator);
+			} else {
+				otherEvaluators.add(evaluator);
+			}
+		}
+		this.evaluators = List.copyOf(evaluators);
+		this.weightSum = weightSum;
+		beamSearch = 0 < beamWidth ? new DsvBeamSearch(delimiter, beamWidth, columnEvaluators) : null;
+		final var enumerated = 0 < maxCandidates
+				|| null != executor
+				|| null != timeBudget
+				|| 0 < maxEvaluations
+				|| 0 < maxSearchSize;
+		segmentation = segmented && !enumerated && !evaluators.isEmpty() && otherEvaluators.isEmpty()
+				? new DsvSegmentation(delimiter, columnEvaluators)
+				: null;
 	}
 
 	/**
@@ -375,15 +1435,19 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 	 * @since 1.0.0
 	 */
 	private boolean isValid(final String[] values) {
-		if (length != values.length) {
-			return false;
-		}
-		for (final var constraintEvaluator : constraintEvaluators) {
-			if (!constraintEvaluator.isValid(values)) {
-				return false;
-			}
-		}
-		return true;
+		return length == values.length && constraintOrder.isValid(values);
+	}
+
+	/**
+	 * Test if the value at the given column of a child being generated is valid based on {@link ConstraintEvaluator}s
+	 * that depend on this column only.
+	 * @param child the child being generated
+	 * @param column the column to test
+	 * @return {@code true} if the value at the given column is valid
+	 * @since 1.1.0
+	 */
+	private boolean isValid(final String[] child, final int column) {
+		return columnConstraintOrders.get(column).isValid(child);
 	}
 
 	/**
@@ -398,12 +1462,15 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 	 */
 	public String[] optimize(final int threshold, final String row) {
 		Ensure.notNull("row", row);
-		return optimize(threshold, Strings.split(delimiter, row).toArray(String[]::new));
+		return optimize(threshold, DsvSplitter.split(delimiter, row));
 	}
 
 	/**
 	 * Could optimize given values by merging consecutive empty values to improve the {@link #mend(String...)}
 	 * operation.
+	 *
+	 * <p><b>Note</b>: Longest runs of consecutive empty values are merged first, until there are not too many values
+	 * anymore.</p>
 	 * @param threshold the threshold of consecutive empty values to keep
 	 * @param values values to optimize
 	 * @return optimized values
@@ -414,42 +1481,132 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 	public String[] optimize(final int threshold, final String... values) {
 		Ensure.greaterThanOrEqualTo("threshold", threshold, 0);
 		Ensure.notNullAndNotNullElements("values", values);
-		var optimizedValues = values.clone();
-		while (length < optimizedValues.length) {
-			var from = 0;
-			var to = 0;
-			var index = -1;
-			for (var i = 0; i < optimizedValues.length; ++i) {
-				if (-1 == index && optimizedValues[i].isEmpty()) {
-					index = i;
-					continue;
-				}
-				if (-1 != index && !optimizedValues[i].isEmpty()) {
-					if (to - from < i - index) {
-						from = index;
-						to = i;
-					}
-					index = -1;
-				}
+		if (length >= values.length) {
+			return values.clone();
+		}
+		final var counts = new int[values.length + 1];
+		var run = 0;
+		for (final var value : values) {
+			if (value.isEmpty()) {
+				++run;
+			} else if (0 < run) {
+				++counts[run];
+				run = 0;
+			}
+		}
+		if (0 < run) {
+			++counts[run];
+		}
+		final var kept = 2L * threshold + 1L;
+		var reduction = 0;
+		var minRun = values.length + 1;
+		var minRunCount = 0;
+		for (var i = values.length; kept < i && length < values.length - reduction; --i) {
+			for (var j = 0; j < counts[i] && length < values.length - reduction; ++j) {
+				reduction += i - (int) kept;
+				minRun = i;
+				minRunCount = j + 1;
+			}
+		}
+		if (0 == reduction) {
+			return values.clone();
+		}
+		final var optimizedValues = new String[values.length - reduction];
+		var index = 0;
+		var minRunIndex = 0;
+		var from = 0;
+		while (from < values.length) {
+			if (!values[from].isEmpty()) {
+				optimizedValues[index++] = values[from++];
+				continue;
 			}
-			if (-1 != index && to - from < optimizedValues.length - index) {
-				from = index;
-				to = optimizedValues.length;
+			var to = from + 1;
+			while (to < values.length && values[to].isEmpty()) {
+				++to;
 			}
-			if (to - from > 2 * threshold + 1) {
-				for (var i = from + threshold + 1; i < to - threshold; ++i) {
-					optimizedValues = ObjectArrays.remove(optimizedValues, from + threshold + 1);
-					optimizedValues[from + threshold] += delimiter;
-				}
+			if (minRun < to - from || minRun == to - from && minRunIndex++ < minRunCount) {
+				System.arraycopy(values, from, optimizedValues, index, threshold);
+				index += threshold;
+				optimizedValues[index++] = delimiter.repeat(to - from - (int) kept);
+				System.arraycopy(values, to - threshold, optimizedValues, index, threshold);
+				index += threshold;
+			} else {
+				System.arraycopy(values, from, optimizedValues, index, to - from);
+				index += to - from;
+			}
+			from = to;
+		}
+		return optimizedValues;
+	}
+
+	/**
+	 * Optimize given values with the greatest threshold so that the expected number of candidates is not greater than
+	 * the maximum search size, or with a threshold of {@code 0} if there is none.
+	 * @param values values to optimize
+	 * @return optimized values, or given values if they do not need to be optimized
+	 * @since 1.1.0
+	 */
+	private String[] optimize(final String[] values) {
+		if (maxSearchSize >= countChildren(values.length, length)) {
+			return values;
+		}
+		var maxRun = 0;
+		var run = 0;
+		for (final var value : values) {
+			run = value.isEmpty() ? run + 1 : 0;
+			maxRun = StrictMath.max(maxRun, run);
+		}
+		var optimizedValues = optimize(0, values);
+		var low = 1;
+		var high = (maxRun - 2) / 2;
+		while (low <= high) {
+			final var threshold = (low + high) >>> 1;
+			final var thresholdValues = optimize(threshold, values);
+			if (maxSearchSize >= countChildren(thresholdValues.length, length)) {
+				optimizedValues = thresholdValues;
+				low = threshold + 1;
 			} else {
-				break;
+				high = threshold - 1;
 			}
 		}
 		return optimizedValues;
 	}
 
+	/**
+	 * Count the expected number of children of the given length generated from parent values of the given length,
+	 * saturated to {@link Long#MAX_VALUE}.
+	 * @param parentLength the length of parent values
+	 * @param length the length of children
+	 * @return the expected number of children
+	 * @since 1.1.0
+	 */
+	static long countChildren(final int parentLength, final int length) {
+		final int n;
+		final int k;
+		if (length < parentLength) {
+			n = parentLength - 1;
+			k = StrictMath.min(length - 1, parentLength - length);
+		} else {
+			n = length;
+			k = StrictMath.min(parentLength, length - parentLength);
+		}
+		var count = 1L;
+		for (var i = 1; i <= k; ++i) {
+			final var factor = n - k + i;
+			if (count > Long.MAX_VALUE / factor) {
+				return Long.MAX_VALUE;
+			}
+			count = count * factor / i;
+		}
+		return count;
+	}
+
 	/**
 	 * Mend the given DSV row if needed.
+	 *
+	 * <p><b>Note</b>: The row is split once into an array of the expected length, only the rest of it being split
+	 * again if it has more values. If there is no {@link ConstraintEvaluator}, a row with the expected number of
+	 * values is considered as valid without being tested.</p>
 	 * @param row the row to mend
 	 * @return best fixed values
 	 * @throws MendException might occur if mending the value is not possible
@@ -458,11 +1615,48 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 	 */
 	public String[] mend(final String row) {
 		Ensure.notNull("row", row);
-		return mend(Strings.split(delimiter, row).toArray(String[]::new));
+		final var values = split(row);
+		if (constraintEvaluators.isEmpty() && length == values.length) {
+			lastResult = null;
+			fit(values);
+			return values;
+		}
+		return mendValues(values);
+	}
+
+	/**
+	 * Split the given DSV row into an array of the expected length, then into an exactly-sized one reusing its values
+	 * if the row has another number of values.
+	 * @param row the row to split
+	 * @return values of the row
+	 * @since 1.1.0
+	 */
+	private String[] split(final String row) {
+		final var values = new String[length];
+		final var count = DsvSplitter.split(delimiter, row, values);
+		return length == count ? values : DsvSplitter.split(delimiter, row, values, count);
 	}
 
 	/**
 	 * Mend given values if needed.
+	 *
+	 * <p><b>Note</b>: If the beam width has been set, the best candidate of values with too many or not enough values
+	 * is searched among those kept by a {@link DsvBeamSearch} regardless of the maximum depth, and the result is
+	 * bounded. Else if the segmentation has been enabled, every {@link Evaluator} has been added using the
+	 * {@link Builder} for some values' indexes and neither the maximum number of candidates, an {@link Executor}, a
+	 * time budget, a maximum number of evaluated candidates nor the maximum search size has been set, the best
+	 * candidate is searched using a {@link DsvSegmentation} regardless of the maximum depth, and the result only
+	 * contains the best candidate. Otherwise, candidates are generated value by value and those having a value that is
+	 * not valid for a {@link ConstraintEvaluator} added using the {@link Builder} are skipped without being evaluated,
+	 * so that they are not part of the result. If the maximum number of candidates has been set, the result only
+	 * contains this number of best candidates. If an {@link Executor} has been set, candidates are scored in parallel
+	 * with the same result. Scores of {@link Evaluator}s added using the {@link Builder} are computed once for each
+	 * distinct value of their column. If a time budget or a maximum number of evaluated candidates has been set,
+	 * candidates are not limited by the maximum depth, and once the budget is exhausted the best candidate found so far
+	 * is returned and the result is partial, the time budget being also tested while skipping candidates. If the
+	 * maximum search size has been set and values with too many values would generate more candidates, they are
+	 * optimized beforehand with the greatest threshold that generates few enough candidates if any, {@code 0}
+	 * otherwise, and optimized values are the only candidate if they are valid.</p>
 	 * @param values values to mend
 	 * @return best fixed values
 	 * @throws MendException might occur if mending the value is not possible
@@ -472,123 +1666,346 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 	@Override
 	public String[] mend(final String... values) {
 		Ensure.notNullAndNotNullElements("values", values);
+		return mendValues(values);
+	}
+
+	/**
+	 * Mend given values that are not {@code null} if needed.
+	 * @param values values to mend
+	 * @return best fixed values
+	 * @throws MendException might occur if mending the value is not possible
+	 * @since 1.1.0
+	 */
+	private String[] mendValues(final String[] values) {
 		lastResult = null;
 		if (isValid(values)) {
-			for (final var estimationEvaluator : estimationEvaluators) {
-				estimationEvaluator.fit(values);
-			}
+			fit(values);
 			return values;
 		}
-		final var depth = StrictMath.abs(length - values.length - 2);
-		Ensure.lowerThanOrEqualTo("values depth", depth, maxDepth);
-		final var children = new ArrayList<String[]>();
-		if (length < values.length) {
-			children.addAll(generateJoinChildren(values));
-			for (var i = length; i < values.length - 1; ++i) {
-				final var tmpChildren = children.toArray(String[][]::new);
-				children.clear();
-				for (final var tmpChild : tmpChildren) {
-					children.addAll(generateJoinChildren(tmpChild));
+		final var result = search(values, true);
+		lastResult = result;
+		return result.getBestCandidate().getValue();
+	}
+
+	/**
+	 * Search the best candidate of given invalid values.
+	 * @param values invalid values to mend
+	 * @param parallel {@code true} if candidates could be scored in parallel using the {@link Executor}
+	 * @return the {@link DsvMendResult}
+	 * @throws MendException might occur if mending the value is not possible
+	 * @since 1.1.0
+	 */
+	private DsvMendResult search(final String[] values, final boolean parallel) {
+		if (null == beamSearch && null != segmentation && length != values.length) {
+			final var scorer = new DsvScoreMemo(evaluators, length, this::aggregate, false);
+			final var candidates = new DsvMendCandidates(1);
+			for (final var child : segmentation.searchBest(values, MAX_SEGMENTED_CHILDREN)) {
+				final var optionalCandidateScore = scorer.apply(child);
+				if (optionalCandidateScore.isPresent()) {
+					candidates.add(child, optionalCandidateScore.getAsDouble());
 				}
 			}
-		} else if (length > values.length) {
-			children.addAll(generateShiftChildren(values));
-			for (var i = length; i > values.length + 1; --i) {
-				final var tmpChildren = children.toArray(String[][]::new);
-				children.clear();
-				for (final var tmpChild : tmpChildren) {
-					children.addAll(generateShiftChildren(tmpChild));
-				}
+			final var bestCandidate = candidates.getBestCandidate();
+			if (null == bestCandidate) {
+				throw newNoSolutionException(values);
 			}
+			return new DsvMendResult(values, Set.of(bestCandidate), bestCandidate);
+		}
+		final var budget = new DsvBudget(maxEvaluations, timeBudget);
+		final var bounded = null != beamSearch && length != values.length;
+		final DsvChildIterator children;
+		if (bounded) {
+			children = DsvChildIterator.of(beamSearch.search(values));
 		} else {
-			final var tmpChildren = generateJoinChildren(values);
-			for (final var tmpChild : tmpChildren) {
-				children.addAll(generateShiftChildren(tmpChild));
+			final var parent = 0 < maxSearchSize && length < values.length ? optimize(values) : values;
+			if (null == timeBudget && 0 == maxEvaluations) {
+				final var depth = StrictMath.abs(length - parent.length - 2);
+				Ensure.lowerThanOrEqualTo("values depth", depth, maxDepth);
+			}
+			final DsvChildIterator.ColumnValidator columnValidator = this::isValid;
+			final var validator = null != timeBudget
+					? columnValidator.interruptedBy(budget::isElapsed)
+					: columnValidator;
+			if (length < parent.length) {
+				children = DsvChildIterator.ofJoins(delimiter, parent, parent.length - length, validator);
+			} else if (length > parent.length) {
+				children = DsvChildIterator.ofShifts(parent, length - parent.length, validator);
+			} else if (values != parent && isValid(parent)) {
+				children = DsvChildIterator.of(List.<String[]>of(parent));
+			} else {
+				children = DsvChildIterator.ofJoinsThenShifts(delimiter, parent, validator);
 			}
 		}
-		final var candidates = new HashSet<DsvMendCandidate>();
-		DsvMendCandidate bestCandidate = null;
-		for (final var child : children) {
-			final var optionalCandidateScore = DoubleStream.concat(
-							constraintEvaluators.stream()
-									.mapToDouble(
-											constraintEvaluator ->
-													constraintEvaluator.evaluate(child)
-									),
-							estimationEvaluators.stream()
-									.mapToDouble(
-											estimationEvaluator ->
-													estimationEvaluator.evaluate(child)
-									)
-					)
-					.average();
-			if (optionalCandidateScore.isPresent()) {
-				final var candidateScore = optionalCandidateScore.getAsDouble();
-				final var candidate = new DsvMendCandidate(child, candidateScore);
-				candidates.add(candidate);
-				if (!Double.isNaN(candidateScore)
-						&& (null == bestCandidate || bestCandidate.getScore() < candidateScore)) {
-					bestCandidate = candidate;
+		final var scoredInParallel = parallel && null != parallelScorer;
+		final var scorer = new DsvScoreMemo(evaluators, length, this::aggregate, scoredInParallel);
+		final var candidates = new DsvMendCandidates(maxCandidates);
+		if (scoredInParallel) {
+			parallelScorer.score(children, scorer, candidates, budget);
+		} else {
+			while (children.hasNext() && 0 < budget.acquire(1)) {
+				final var child = children.nextShared();
+				final var optionalCandidateScore = scorer.apply(child, candidates.getThreshold());
+				if (optionalCandidateScore.isPresent()) {
+					candidates.add(child, optionalCandidateScore.getAsDouble());
 				}
 			}
 		}
+		final var bestCandidate = candidates.getBestCandidate();
 		if (null == bestCandidate) {
-			throw new MendException(
-					"No solution for values: "
-							+ ToString.toString(values)
-							+ " (consider using others constraints and estimations)"
-			);
+			throw newNoSolutionException(values);
 		}
-		lastResult = new DsvMendResult(values, candidates, bestCandidate);
-		return bestCandidate.getValue();
+		return new DsvMendResult(values, candidates.getCandidates(), bestCandidate, bounded, budget.isExhausted());
 	}
 
 	/**
-	 * Generate a {@link List} of every possibility of joining consecutive values with the delimiter.
-	 * @param parent parent values
-	 * @return a {@link List} of joining possibilities
-	 * @since 1.0.0
+	 * Fit {@link EstimationEvaluator}s with every valid row of the given {@link List}, as the first pass of a two-pass
+	 * mending before {@link #mendAll(List)}, so that the quality does not depend on the order of rows.
+	 *
+	 * <p><b>Note</b>: Rows are split into one shard for each available processor, whose valid rows fit unfitted
+	 * copies of {@link EstimationEvaluator}s in parallel using the {@link Executor} if it has been set, the common
+	 * {@link ForkJoinPool} otherwise. Copies are then merged in the order of shards.</p>
+	 * @param rows the {@link List} of rows to fit
+	 * @return the number of valid rows that have been fitted
+	 * @throws NullPointerException if the {@link List} of rows or any of them is {@code null}
+	 * @since 1.1.0
 	 */
-	private List<String[]> generateJoinChildren(final String[] parent) {
-		final var children = new ArrayList<String[]>(parent.length - 1);
-		for (var i = 0; i < parent.length - 1; ++i) {
-			final var child = new String[parent.length - 1];
-			for (var j = 0; j < parent.length - 1; ++j) {
-				if (j == i) {
-					child[j] = parent[j] + delimiter + parent[j + 1];
-				} else {
-					child[j] = parent[j < i ? j : j + 1];
+	public long fitAll(final List<String> rows) {
+		Ensure.notNullAndNotNullElements("rows", rows);
+		final var shards = runShards(rows, shard -> {
+			final var shardEstimationEvaluators = new ArrayList<EstimationEvaluator<String[]>>(
+					estimationEvaluators.size()
+			);
+			for (final var estimationEvaluator : estimationEvaluators) {
+				shardEstimationEvaluators.add(estimationEvaluator.newUnfitted());
+			}
+			final var values = new String[length];
+			var count = 0L;
+			for (final var row : shard) {
+				if (length == DsvSplitter.split(delimiter, row, values) && isValid(values)) {
+					for (final var shardEstimationEvaluator : shardEstimationEvaluators) {
+						shardEstimationEvaluator.fit(values);
+					}
+					++count;
 				}
 			}
-			children.add(child);
+			return Map.entry(count, shardEstimationEvaluators);
+		});
+		var count = 0L;
+		for (final var shard : shards) {
+			count += shard.getKey();
+			final var shardEstimationEvaluators = shard.getValue().iterator();
+			for (final var estimationEvaluator : estimationEvaluators) {
+				estimationEvaluator.merge(shardEstimationEvaluators.next());
+			}
 		}
-		return children;
+		return count;
 	}
 
 	/**
-	 * Generate a {@link List} of every possibility of shifting consecutive values with an empty one.
-	 * @param parent parent values
-	 * @return a {@link List} of shifting possibilities
-	 * @since 1.0.0
+	 * Mend every row of the given {@link List} if needed, as the second pass of a two-pass mending after
+	 * {@link #fitAll(List)}, against frozen {@link EstimationEvaluator}s.
+	 *
+	 * <p><b>Note</b>: Rows are split into one shard for each available processor, that are mended in parallel using
+	 * the {@link Executor} if it has been set, the common {@link ForkJoinPool} otherwise. Valid rows are not fitted,
+	 * candidates of a row are scored sequentially and the last result is not updated.</p>
+	 * @param rows the {@link List} of rows to mend
+	 * @return a {@link List} of best fixed values of each row, in the same order
+	 * @throws MendException might occur if mending any row is not possible
+	 * @throws NullPointerException if the {@link List} of rows or any of them is {@code null}
+	 * @since 1.1.0
 	 */
-	private List<String[]> generateShiftChildren(final String[] parent) {
-		final var children = new ArrayList<String[]>(parent.length + 1);
-		for (var i = 0; i < parent.length + 1; ++i) {
-			final var child = new String[parent.length + 1];
-			for (var j = 0; j < parent.length + 1; ++j) {
-				if (j == i) {
-					child[j] = Strings.EMPTY;
-				} else {
-					child[j] = parent[j < i ? j : j - 1];
-				}
+	public List<String[]> mendAll(final List<String> rows) {
+		Ensure.notNullAndNotNullElements("rows", rows);
+		final var shards = runShards(rows, shard -> {
+			final var mendedShard = new ArrayList<String[]>(shard.size());
+			for (final var row : shard) {
+				final var values = split(row);
+				mendedShard.add(isValid(values) ? values : search(values, false).getBestCandidate().getValue());
+			}
+			return mendedShard;
+		});
+		final var mendedRows = new ArrayList<String[]>(rows.size());
+		for (final var shard : shards) {
+			mendedRows.addAll(shard);
+		}
+		return mendedRows;
+	}
+
+	/**
+	 * Split rows into one shard for each available processor and apply the given task to each of them in parallel
+	 * using the {@link Executor} if it has been set, the common {@link ForkJoinPool} otherwise.
+	 * @param rows the {@link List} of rows
+	 * @param task the task {@link Function} of a shard
+	 * @param <R> the result's type
+	 * @return a {@link List} of results of each shard, in the order of rows
+	 * @since 1.1.0
+	 */
+	private <R> List<R> runShards(final List<String> rows, final Function<List<String>, R> task) {
+		final var size = rows.size();
+		final var shardCount = StrictMath.max(1, StrictMath.min(size, Runtime.getRuntime().availableProcessors()));
+		final var futures = new ArrayList<CompletableFuture<R>>(shardCount);
+		for (var i = 0; i < shardCount; ++i) {
+			final var shard = rows.subList((int) ((long) i * size / shardCount), (int) ((i + 1L) * size / shardCount));
+			futures.add(
+					CompletableFuture.supplyAsync(
+							() -> task.apply(shard),
+							null != executor ? executor : ForkJoinPool.commonPool()
+					)
+			);
+		}
+		final var results = new ArrayList<R>(shardCount);
+		for (final var future : futures) {
+			results.add(DsvParallelScorer.join(future));
+		}
+		return results;
+	}
+
+	/**
+	 * Fit all {@link EstimationEvaluator}s with the given valid values.
+	 * @param values valid values to fit
+	 * @since 1.1.0
+	 */
+	private void fit(final String[] values) {
+		for (final var estimationEvaluator : estimationEvaluators) {
+			estimationEvaluator.fit(values);
+		}
+	}
+
+	/**
+	 * Add fitted frequencies of {@link EstimationEvaluator}s of the given {@code DsvMender} of the same configuration,
+	 * so that {@code DsvMender}s fitted separately, for instance on shards of a file in parallel, could be combined.
+	 *
+	 * <p><b>Note</b>: {@link EstimationEvaluator}s are merged in the iteration order of the {@link Set}s given at the
+	 * construction, which is the order of calls of the {@link Builder}. If an {@link EstimationEvaluator} is not of
+	 * the same kind, previous ones are merged anyway.</p>
+	 * @param other the other {@code DsvMender}
+	 * @throws NullPointerException if the other {@code DsvMender} is {@code null}
+	 * @throws IllegalArgumentException if the other {@code DsvMender} has not the same length, or not the same
+	 *         {@link EstimationEvaluator}s kinds and columns
+	 * @since 1.1.0
+	 */
+	public void merge(final DsvMender other) {
+		Ensure.notNull("other", other);
+		if (length != other.length || estimationEvaluators.size() != other.estimationEvaluators.size()) {
+			throw new IllegalArgumentException(
+					"Invalid configuration: " + other.estimationEvaluators.size() + " estimations of length "
+							+ other.length + " (not " + estimationEvaluators.size() + " estimations of length "
+							+ length + " expected)"
+			);
+		}
+		final var otherEstimationEvaluators = List.copyOf(other.estimationEvaluators);
+		var i = 0;
+		for (final var estimationEvaluator : estimationEvaluators) {
+			final var otherEstimationEvaluator = otherEstimationEvaluators.get(i++);
+			if (!estimationEvaluator.getColumn().equals(otherEstimationEvaluator.getColumn())) {
+				throw new IllegalArgumentException(
+						"Invalid column: " + otherEstimationEvaluator.getColumn() + " (not "
+								+ estimationEvaluator.getColumn() + " expected)"
+				);
 			}
-			children.add(child);
 		}
-		return children;
+		i = 0;
+		for (final var estimationEvaluator : estimationEvaluators) {
+			estimationEvaluator.merge(otherEstimationEvaluators.get(i++));
+		}
+	}
+
+	/**
+	 * Write a snapshot of fitted {@link EstimationEvaluator}s using a compact and versioned binary format, so that a
+	 * {@code DsvMender} of the same configuration could read it to be warmed up without fitting values again.
+	 *
+	 * <p><b>Note</b>: {@link EstimationEvaluator}s are written in the iteration order of the {@link Set} given at the
+	 * construction, which is the order of calls of the {@link Builder}.</p>
+	 * @param outputStream the {@link OutputStream} to write to, that is flushed but not closed
+	 * @throws NullPointerException if the {@link OutputStream} is {@code null}
+	 * @throws IOException if an I/O error occurs or if any transformed value's type is not supported
+	 * @since 1.1.0
+	 */
+	public void writeEstimations(final OutputStream outputStream) throws IOException {
+		Ensure.notNull("outputStream", outputStream);
+		final var output = new DataOutputStream(new BufferedOutputStream(outputStream));
+		output.writeInt(SNAPSHOT_MAGIC);
+		output.writeInt(SNAPSHOT_VERSION);
+		output.writeInt(length);
+		output.writeInt(estimationEvaluators.size());
+		for (final var estimationEvaluator : estimationEvaluators) {
+			output.writeInt(estimationEvaluator.getColumn().orElse(-1));
+			estimationEvaluator.write(output);
+		}
+		output.flush();
+	}
+
+	/**
+	 * Replace fitted {@link EstimationEvaluator}s by a snapshot written by a {@code DsvMender} of the same
+	 * configuration, streaming transformed values from the {@link InputStream} without any intermediate copy.
+	 *
+	 * <p><b>Note</b>: The {@link InputStream} is read without any buffer, so that it should be buffered.</p>
+	 * @param inputStream the {@link InputStream} to read from, that is not closed
+	 * @throws NullPointerException if the {@link InputStream} is {@code null}
+	 * @throws IOException if an I/O error occurs or if the snapshot is not valid for this configuration
+	 * @since 1.1.0
+	 */
+	public void readEstimations(final InputStream inputStream) throws IOException {
+		Ensure.notNull("inputStream", inputStream);
+		final var input = new DataInputStream(inputStream);
+		final var magic = input.readInt();
+		if (SNAPSHOT_MAGIC != magic) {
+			throw new StreamCorruptedException("Invalid magic: " + Integer.toHexString(magic));
+		}
+		final var version = input.readInt();
+		if (SNAPSHOT_VERSION != version) {
+			throw new StreamCorruptedException(
+					"Unsupported version: " + version + " (expected " + SNAPSHOT_VERSION + ")"
+			);
+		}
+		final var snapshotLength = input.readInt();
+		final var count = input.readInt();
+		if (length != snapshotLength || estimationEvaluators.size() != count) {
+			throw new StreamCorruptedException(
+					"Invalid configuration: " + count + " estimations of length " + snapshotLength + " (expected "
+							+ estimationEvaluators.size() + " estimations of length " + length + ")"
+			);
+		}
+		for (final var estimationEvaluator : estimationEvaluators) {
+			final var column = input.readInt();
+			if (estimationEvaluator.getColumn().orElse(-1) != column) {
+				throw new StreamCorruptedException(
+						"Invalid column: " + column + " (expected " + estimationEvaluator.getColumn().orElse(-1) + ")"
+				);
+			}
+			estimationEvaluator.read(input);
+		}
+	}
+
+	/**
+	 * Aggregate the given sum of scores of all {@link Evaluator}s.
+	 * @param score the sum of scores
+	 * @return the aggregated score
+	 * @since 1.1.0
+	 */
+	private double aggregate(final double score) {
+		return null != scoreAggregator ? scoreAggregator.aggregate(score, weightSum) : score / evaluators.size();
+	}
+
+	/**
+	 * Create a new {@link MendException} for the given values that could not be mended.
+	 * @param values values that could not be mended
+	 * @return the created {@link MendException}
+	 * @since 1.1.0
+	 */
+	private static MendException newNoSolutionException(final String[] values) {
+		return new MendException(
+				"No solution for values: "
+						+ ToString.toString(values)
+						+ " (consider using others constraints and estimations)"
+		);
 	}
 
 	/**
 	 * {@inheritDoc}
+	 *
+	 * <p><b>Note</b>: If the {@code DsvMender} is shared by several threads, the result of the {@code mend} operation
+	 * that finished last is returned, whichever thread called it.</p>
 	 */
 	@Override
 	public Optional<DsvMendResult> getLastResult() {
@@ -622,6 +2039,78 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 		return maxDepth;
 	}
 
+	/**
+	 * Get the beam width.
+	 * @return the beam width, or {@code 0} for no beam search
+	 * @since 1.1.0
+	 */
+	public int getBeamWidth() {
+		return beamWidth;
+	}
+
+	/**
+	 * Test if the segmentation is enabled.
+	 * @return {@code true} if the segmentation is enabled
+	 * @since 1.1.0
+	 */
+	public boolean isSegmented() {
+		return segmented;
+	}
+
+	/**
+	 * Get the maximum number of candidates.
+	 * @return the maximum number of candidates, or {@code 0} for no limit
+	 * @since 1.1.0
+	 */
+	public int getMaxCandidates() {
+		return maxCandidates;
+	}
+
+	/**
+	 * Get an {@link Optional} of the {@link Executor} to score candidates in parallel.
+	 * @return an {@link Optional} of the {@link Executor}
+	 * @since 1.1.0
+	 */
+	public Optional<Executor> getExecutor() {
+		return Optional.ofNullable(executor);
+	}
+
+	/**
+	 * Get an {@link Optional} of the time budget of each {@link #mend(String...)} operation.
+	 * @return an {@link Optional} of the time budget
+	 * @since 1.1.0
+	 */
+	public Optional<Duration> getTimeBudget() {
+		return Optional.ofNullable(timeBudget);
+	}
+
+	/**
+	 * Get the maximum number of evaluated candidates of each {@link #mend(String...)} operation.
+	 * @return the maximum number of evaluated candidates, or {@code 0} for no limit
+	 * @since 1.1.0
+	 */
+	public int getMaxEvaluations() {
+		return maxEvaluations;
+	}
+
+	/**
+	 * Get the maximum search size of each {@link #mend(String...)} operation.
+	 * @return the maximum search size, or {@code 0} for no limit
+	 * @since 1.1.0
+	 */
+	public int getMaxSearchSize() {
+		return maxSearchSize;
+	}
+
+	/**
+	 * Get the {@link ScoreAggregator}.
+	 * @return an {@link Optional} of the {@link ScoreAggregator}, empty for the mean
+	 * @since 1.1.0
+	 */
+	public Optional<ScoreAggregator> getScoreAggregator() {
+		return Optional.ofNullable(scoreAggregator);
+	}
+
 	/**
 	 * Get the {@link Set} of {@link ConstraintEvaluator}s.
 	 * @return the {@link Set} of {@link ConstraintEvaluator}s
@@ -631,6 +2120,17 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 		return constraintEvaluators;
 	}
 
+	/**
+	 * Get a snapshot of statistics of {@link ConstraintEvaluator}s, measured on sampled validations of values. They
+	 * are in the current order of validations, {@link ConstraintEvaluator}s being periodically reordered so that cheap
+	 * and selective ones are called first.
+	 * @return the {@link List} of {@link DsvConstraintStatistics}
+	 * @since 1.1.0
+	 */
+	public List<DsvConstraintStatistics> getConstraintStatistics() {
+		return constraintOrder.getStatistics();
+	}
+
 	/**
 	 * Get the {@link Set} of {@link EstimationEvaluator}s.
 	 * @return the {@link Set} of {@link EstimationEvaluator}s
@@ -673,8 +2173,8 @@ public final class DsvMender implements Mender<String[], DsvMendResult> {
 		return builder()
 				.withDelimiter(delimiter)
 				.withLength(length)
-				.withEstimation(String::isEmpty)
-				.withEstimation(String::length)
+				.withBooleanEstimation(String::isEmpty)
+				.withIntEstimation(String::length)
 				.build();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * A scorer of children that splits them into batches, scores batches in parallel using an {@link Executor}, then adds
+ * their scores to {@link DsvMendCandidates} in the order of children.
+ *
+ * <p>Because scores are added in the same order as if they were computed sequentially, the best candidate is the same
+ * one, ties included. At most {@code window} batches are pending at the same time, so that children are still
+ * generated lazily.</p>
+ * @since 1.1.0
+ */
+final class DsvParallelScorer {
+
+	/**
+	 * Default number of children of a batch.
+	 * @since 1.1.0
+	 */
+	static final int DEFAULT_BATCH_SIZE = 1024;
+
+	/**
+	 * {@link Executor}.
+	 * @since 1.1.0
+	 */
+	private final Executor executor;
+
+	/**
+	 * Number of children of a batch.
+	 * @since 1.1.0
+	 */
+	private final int batchSize;
+
+	/**
+	 * Maximum number of pending batches.
+	 * @since 1.1.0
+	 */
+	private final int window;
+
+	/**
+	 * Constructor with an {@link Executor}, using the default batch size and twice the number of available
+	 * processors as the window.
+	 * @param executor the {@link Executor}
+	 * @throws NullPointerException if the {@link Executor} is {@code null}
+	 * @since 1.1.0
+	 */
+	DsvParallelScorer(final Executor executor) {
+		this(executor, DEFAULT_BATCH_SIZE, 2 * Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructor with an {@link Executor}, a batch size and a window.
+	 * @param executor the {@link Executor}
+	 * @param batchSize the number of children of a batch
+	 * @param window the maximum number of pending batches
+	 * @throws NullPointerException if the {@link Executor} is {@code null}
+	 * @throws IllegalArgumentException if the batch size or the window is lower than {@code 1}
+	 * @since 1.1.0
+	 */
+	DsvParallelScorer(final Executor executor, final int batchSize, final int window) {
+		Ensure.notNull("executor", executor);
+		Ensure.greaterThanOrEqualTo("batchSize", batchSize, 1);
+		Ensure.greaterThanOrEqualTo("window", window, 1);
+		this.executor = executor;
+		this.batchSize = batchSize;
+		this.window = window;
+	}
+
+	/**
+	 * Score children with the given scorer {@link Function} and add them to {@link DsvMendCandidates} if they got a
+	 * score, until the {@link DsvBudget} is exhausted.
+	 *
+	 * <p><b>Note</b>: If children fit in a single batch, they are scored by the current thread. Evaluations are
+	 * acquired from the {@link DsvBudget} batch by batch by the current thread.</p>
+	 * @param children the {@link Iterator} of children
+	 * @param scorer the scorer {@link Function}
+	 * @param candidates {@link DsvMendCandidates} to add to
+	 * @param budget the {@link DsvBudget}
+	 * @throws NullPointerException if the {@link Iterator} of children, the scorer {@link Function},
+	 *         {@link DsvMendCandidates} or the {@link DsvBudget} are {@code null}
+	 * @since 1.1.0
+	 */
+	void score(
+			final Iterator<String[]> children,
+			final Function<String[], OptionalDouble> scorer,
+			final DsvMendCandidates candidates,
+			final DsvBudget budget
+	) {
+		Ensure.notNull("children", children);
+		Ensure.notNull("scorer", scorer);
+		Ensure.notNull("candidates", candidates);
+		Ensure.notNull("budget", budget);
+		final var batches = new ArrayDeque<String[][]>(window);
+		final var futures = new ArrayDeque<CompletableFuture<OptionalDouble[]>>(window);
+		while (children.hasNext()) {
+			final var size = budget.acquire(batchSize);
+			if (0 == size) {
+				break;
+			}
+			final var batch = nextBatch(children, size);
+			if (futures.isEmpty() && !children.hasNext()) {
+				add(candidates, batch, score(batch, scorer));
+				return;
+			}
+			if (window == futures.size()) {
+				add(candidates, batches.poll(), join(futures.poll()));
+			}
+			batches.add(batch);
+			futures.add(CompletableFuture.supplyAsync(() -> score(batch, scorer), executor));
+		}
+		while (!futures.isEmpty()) {
+			add(candidates, batches.poll(), join(futures.poll()));
+		}
+	}
+
+	/**
+	 * Get the next batch of children.
+	 * @param children the {@link Iterator} of children
+	 * @param maxSize the maximum number of children of the batch
+	 * @return the next batch of at most the given number of children
+	 * @since 1.1.0
+	 */
+	private static String[][] nextBatch(final Iterator<String[]> children, final int maxSize) {
+		final var batch = new String[maxSize][];
+		var size = 0;
+		while (size < maxSize && children.hasNext()) {
+			batch[size++] = children.next();
+		}
+		return size < maxSize ? Arrays.copyOf(batch, size) : batch;
+	}
+
+	/**
+	 * Score a batch of children with the given scorer {@link Function}.
+	 * @param batch the batch of children
+	 * @param scorer the scorer {@link Function}
+	 * @return scores of children
+	 * @since 1.1.0
+	 */
+	private static OptionalDouble[] score(final String[][] batch, final Function<String[], OptionalDouble> scorer) {
+		final var scores = new OptionalDouble[batch.length];
+		for (var i = 0; i < batch.length; ++i) {
+			scores[i] = scorer.apply(batch[i]);
+		}
+		return scores;
+	}
+
+	/**
+	 * Add a batch of children that got a score to {@link DsvMendCandidates}.
+	 * @param candidates {@link DsvMendCandidates} to add to
+	 * @param batch the batch of children
+	 * @param scores scores of children
+	 * @since 1.1.0
+	 */
+	private static void add(final DsvMendCandidates candidates, final String[][] batch, final OptionalDouble[] scores) {
+		for (var i = 0; i < batch.length; ++i) {
+			if (scores[i].isPresent()) {
+				candidates.add(batch[i], scores[i].getAsDouble());
+			}
+		}
+	}
+
+	/**
+	 * Wait for the result of a {@link CompletableFuture}, rethrowing any {@link RuntimeException} or {@link Error}
+	 * that occurred while computing it.
+	 * @param future the {@link CompletableFuture}
+	 * @param <T> the result's type
+	 * @return the result
+	 * @since 1.1.0
+	 */
+	static <T> T join(final CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (final CompletionException e) {
+			final var cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+}
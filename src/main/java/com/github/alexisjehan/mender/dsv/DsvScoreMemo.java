@@ -0,0 +1,271 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.mender.api.evaluators.Evaluator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A scorer of children of a single {@link DsvMender#mend(String...)} operation, that memoizes scores of
+ * {@link Evaluator}s that each depend on a single column.
+ *
+ * <p>Across children of the same values, the same value lands in the same column again and again. Scores of the
+ * {@link Evaluator}s of a column are then computed once for each distinct value of this column, while other
+ * {@link Evaluator}s are called for every child.</p>
+ *
+ * <p>Scores are summed {@link Evaluator} by {@link Evaluator} in the given order, whether they are memoized or not,
+ * so that the score does not depend on memoization even by rounding, stopping as soon as the sum is {@code NaN} or,
+ * given a threshold, as soon as even the maximum scores of the remaining {@link Evaluator}s could not make the score
+ * greater than the threshold.</p>
+ * @since 1.1.0
+ */
+final class DsvScoreMemo implements Function<String[], OptionalDouble> {
+
+	/**
+	 * {@link Evaluator}s in the order their scores are summed.
+	 * @since 1.1.0
+	 */
+	private final List<Evaluator<String[]>> evaluators;
+
+	/**
+	 * Column of each {@link Evaluator}, or {@code -1} if it does not depend on a single column.
+	 * @since 1.1.0
+	 */
+	private final int[] columns;
+
+	/**
+	 * Index of each {@link Evaluator} among the {@link Evaluator}s of its column, or {@code -1} if it does not depend
+	 * on a single column.
+	 * @since 1.1.0
+	 */
+	private final int[] columnIndexes;
+
+	/**
+	 * {@link Evaluator}s of each column.
+	 * @since 1.1.0
+	 */
+	private final List<List<Evaluator<String[]>>> columnEvaluators;
+
+	/**
+	 * Memoized scores of the {@link Evaluator}s of each column, for each value.
+	 * @since 1.1.0
+	 */
+	private final List<Map<String, double[]>> columnScores;
+
+	/**
+	 * Relative slack of bounds, greater than rounding errors of sums.
+	 * @since 1.1.0
+	 */
+	private static final double BOUND_SLACK = 1.0e-9d;
+
+	/**
+	 * Maximum scores of {@link Evaluator}s.
+	 * @since 1.1.0
+	 */
+	private final double[] maxScores;
+
+	/**
+	 * Sum of maximum scores of all {@link Evaluator}s.
+	 * @since 1.1.0
+	 */
+	private final double maxScore;
+
+	/**
+	 * Aggregation {@link DoubleUnaryOperator} of the sum of scores, or {@code null} for the average score.
+	 * @since 1.1.0
+	 */
+	private final DoubleUnaryOperator aggregation;
+
+	/**
+	 * Constructor with {@link Evaluator}s, the number of columns and whether it could be used concurrently.
+	 * @param evaluators the {@link List} of {@link Evaluator}s in the order their scores are summed
+	 * @param length the number of columns
+	 * @param concurrent {@code true} if it could be used concurrently
+	 * @throws NullPointerException if the {@link List} of {@link Evaluator}s or any of them is {@code null}
+	 * @throws IllegalArgumentException if the number of columns is lower than {@code 0} or if any {@link Evaluator}'s
+	 *         column is not between {@code 0} and the number of columns minus {@code 1}
+	 * @since 1.1.0
+	 */
+	DsvScoreMemo(final List<Evaluator<String[]>> evaluators, final int length, final boolean concurrent) {
+		this(evaluators, length, null, concurrent);
+	}
+
+	/**
+	 * Constructor with {@link Evaluator}s, the number of columns, the aggregation {@link DoubleUnaryOperator} of the
+	 * sum of scores and whether it could be used concurrently.
+	 *
+	 * <p><b>Note</b>: The maximum score of an {@link Evaluator} is given by {@link DsvScoredEvaluator#maxScore}.</p>
+	 * @param evaluators the {@link List} of {@link Evaluator}s in the order their scores are summed
+	 * @param length the number of columns
+	 * @param aggregation the increasing aggregation {@link DoubleUnaryOperator} of the sum of scores, or {@code null}
+	 *        for the average score
+	 * @param concurrent {@code true} if it could be used concurrently
+	 * @throws NullPointerException if the {@link List} of {@link Evaluator}s or any of them is {@code null}
+	 * @throws IllegalArgumentException if the number of columns is lower than {@code 0} or if any {@link Evaluator}'s
+	 *         column is not between {@code 0} and the number of columns minus {@code 1}
+	 * @since 1.1.0
+	 */
+	DsvScoreMemo(
+			final List<Evaluator<String[]>> evaluators,
+			final int length,
+			final DoubleUnaryOperator aggregation,
+			final boolean concurrent
+	) {
+		Ensure.notNullAndNotNullElements("evaluators", evaluators);
+		Ensure.greaterThanOrEqualTo("length", length, 0);
+		final var columnEvaluators = new ArrayList<List<Evaluator<String[]>>>(length);
+		for (var c = 0; c < length; ++c) {
+			columnEvaluators.add(new ArrayList<>());
+		}
+		columns = new int[evaluators.size()];
+		columnIndexes = new int[evaluators.size()];
+		maxScores = new double[evaluators.size()];
+		var maxScore = 0.0d;
+		for (var i = 0; i < evaluators.size(); ++i) {
+			final var evaluator = evaluators.get(i);
+			final var column = evaluator.getColumn();
+			if (column.isPresent()) {
+				columns[i] = Ensure.between("evaluators column", column.getAsInt(), 0, length - 1);
+				columnIndexes[i] = columnEvaluators.get(columns[i]).size();
+				columnEvaluators.get(columns[i]).add(evaluator);
+			} else {
+				columns[i] = -1;
+				columnIndexes[i] = -1;
+			}
+			maxScores[i] = DsvScoredEvaluator.maxScore(evaluator);
+			maxScore += maxScores[i];
+		}
+		this.evaluators = List.copyOf(evaluators);
+		this.columnEvaluators = columnEvaluators;
+		columnScores = columnEvaluators.stream()
+				.<Map<String, double[]>>map(columnEvaluator -> concurrent ? new ConcurrentHashMap<>() : new HashMap<>())
+				.collect(Collectors.toList());
+		this.maxScore = maxScore;
+		this.aggregation = aggregation;
+	}
+
+	/**
+	 * Evaluate the given child as the aggregated score of all {@link Evaluator}s.
+	 * @param child the child to evaluate
+	 * @return an {@link OptionalDouble} of the score, empty if there is no {@link Evaluator}
+	 * @since 1.1.0
+	 */
+	@Override
+	public OptionalDouble apply(final String[] child) {
+		return apply(child, Double.NaN);
+	}
+
+	/**
+	 * Evaluate the given child as the aggregated score of all {@link Evaluator}s, unless it could not be greater than
+	 * the given threshold.
+	 * @param child the child to evaluate
+	 * @param threshold the threshold, or {@code NaN} for none
+	 * @return an {@link OptionalDouble} of the score, empty if there is no {@link Evaluator} or if the score could not
+	 *         be greater than the threshold
+	 * @since 1.1.0
+	 */
+	OptionalDouble apply(final String[] child, final double threshold) {
+		if (evaluators.isEmpty()) {
+			return OptionalDouble.empty();
+		}
+		final var bounded = !Double.isNaN(threshold);
+		final var childScores = new double[columnEvaluators.size()][];
+		var score = 0.0d;
+		var remainingMaxScore = maxScore;
+		for (var i = 0; i < maxScores.length; ++i) {
+			final var c = columns[i];
+			if (-1 == c) {
+				score += evaluators.get(i).evaluate(child);
+			} else {
+				if (null == childScores[c]) {
+					final var currentEvaluators = columnEvaluators.get(c);
+					childScores[c] = columnScores.get(c)
+							.computeIfAbsent(child[c], value -> evaluate(currentEvaluators, child));
+				}
+				score += childScores[c][columnIndexes[i]];
+			}
+			if (Double.isNaN(score)) {
+				return OptionalDouble.of(Double.NaN);
+			}
+			remainingMaxScore -= maxScores[i];
+			if (bounded && aggregate(bound(score, remainingMaxScore)) <= threshold) {
+				return OptionalDouble.empty();
+			}
+		}
+		return OptionalDouble.of(aggregate(score));
+	}
+
+	/**
+	 * Aggregate the given sum of scores.
+	 * @param score the sum of scores
+	 * @return the aggregated score
+	 * @since 1.1.0
+	 */
+	private double aggregate(final double score) {
+		return null != aggregation ? aggregation.applyAsDouble(score) : score / evaluators.size();
+	}
+
+	/**
+	 * Get an upper bound of the sum of scores, given the current sum and the sum of maximum scores of the remaining
+	 * {@link Evaluator}s.
+	 * @param score the current sum of scores
+	 * @param remainingMaxScore the sum of maximum scores of the remaining {@link Evaluator}s
+	 * @return the upper bound, or {@code NaN} if there is none
+	 * @since 1.1.0
+	 */
+	private static double bound(final double score, final double remainingMaxScore) {
+		final var bound = score + remainingMaxScore;
+		return bound + BOUND_SLACK * (1.0d + StrictMath.abs(score) + StrictMath.abs(remainingMaxScore));
+	}
+
+	/**
+	 * Evaluate the given child with each of the given {@link Evaluator}s, stopping at the first {@code NaN} score.
+	 * @param evaluators {@link Evaluator}s
+	 * @param child the child to evaluate
+	 * @return scores of {@link Evaluator}s, {@code NaN} from the first {@code NaN} one
+	 * @since 1.1.0
+	 */
+	private static double[] evaluate(final List<Evaluator<String[]>> evaluators, final String[] child) {
+		final var scores = new double[evaluators.size()];
+		for (var i = 0; i < scores.length; ++i) {
+			scores[i] = evaluators.get(i).evaluate(child);
+			if (Double.isNaN(scores[i])) {
+				Arrays.fill(scores, i + 1, scores.length, Double.NaN);
+				break;
+			}
+		}
+		return scores;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.mender.api.evaluators.ConstraintEvaluator;
+import com.github.alexisjehan.mender.api.evaluators.EstimationEvaluator;
+import com.github.alexisjehan.mender.api.evaluators.Evaluator;
+import com.github.alexisjehan.mender.api.evaluators.ScoreAggregator;
+
+import java.util.OptionalInt;
+
+/**
+ * An {@link Evaluator} whose score is the weighted term of the score of another {@link Evaluator} for a
+ * {@link ScoreAggregator}, so that aggregated scores are sums of scores whatever the {@link ScoreAggregator}.
+ * @since 1.1.0
+ */
+final class DsvScoredEvaluator implements Evaluator<String[]> {
+
+	/**
+	 * Other {@link Evaluator}.
+	 * @since 1.1.0
+	 */
+	private final Evaluator<String[]> evaluator;
+
+	/**
+	 * {@link ScoreAggregator}.
+	 * @since 1.1.0
+	 */
+	private final ScoreAggregator scoreAggregator;
+
+	/**
+	 * Weight of the other {@link Evaluator}.
+	 * @since 1.1.0
+	 */
+	private final double weight;
+
+	/**
+	 * Constructor with another {@link Evaluator} and a {@link ScoreAggregator}.
+	 * @param evaluator the other {@link Evaluator}
+	 * @param scoreAggregator the {@link ScoreAggregator}
+	 * @throws NullPointerException if the other {@link Evaluator} or the {@link ScoreAggregator} is {@code null}
+	 * @throws IllegalArgumentException if the weight of the other {@link Evaluator} is not positive and finite
+	 * @since 1.1.0
+	 */
+	DsvScoredEvaluator(final Evaluator<String[]> evaluator, final ScoreAggregator scoreAggregator) {
+		Ensure.notNull("evaluator", evaluator);
+		Ensure.notNull("scoreAggregator", scoreAggregator);
+		final var weight = scoreAggregator.weight(evaluator);
+		if (!(0.0d < weight && weight <= Double.MAX_VALUE)) {
+			throw new IllegalArgumentException("Invalid weight: " + weight + " (not positive and finite expected)");
+		}
+		this.evaluator = evaluator;
+		this.scoreAggregator = scoreAggregator;
+		this.weight = weight;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double evaluate(final String[] values) {
+		return weight * scoreAggregator.term(evaluator.evaluate(values));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public OptionalInt getColumn() {
+		return evaluator.getColumn();
+	}
+
+	/**
+	 * Get the weight of the other {@link Evaluator}.
+	 * @return the weight
+	 * @since 1.1.0
+	 */
+	double getWeight() {
+		return weight;
+	}
+
+	/**
+	 * Get the maximum score, which is the weighted term of a score of {@code 1} if the other {@link Evaluator}'s
+	 * scores are known to be at most {@code 1}.
+	 * @return the maximum score, or {@code +Infinity} if it is unknown
+	 * @since 1.1.0
+	 */
+	double getMaxScore() {
+		return isBounded(evaluator) ? weight * scoreAggregator.term(1.0d) : Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Get the maximum score of the given {@link Evaluator}.
+	 * @param evaluator the {@link Evaluator}
+	 * @return the maximum score, or {@code +Infinity} if it is unknown
+	 * @since 1.1.0
+	 */
+	static double maxScore(final Evaluator<String[]> evaluator) {
+		if (evaluator instanceof DsvScoredEvaluator) {
+			return ((DsvScoredEvaluator) evaluator).getMaxScore();
+		}
+		return isBounded(evaluator) ? 1.0d : Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Test if scores of the given {@link Evaluator} are known to be at most {@code 1}, which is the case of
+	 * {@link ConstraintEvaluator}s and {@link EstimationEvaluator}s.
+	 * @param evaluator the {@link Evaluator}
+	 * @return {@code true} if scores are known to be at most {@code 1}
+	 * @since 1.1.0
+	 */
+	private static boolean isBounded(final Evaluator<String[]> evaluator) {
+		return evaluator instanceof ConstraintEvaluator || evaluator instanceof EstimationEvaluator;
+	}
+}
@@ -0,0 +1,359 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.mender.api.evaluators.Evaluator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A dynamic programming search of the best child of some values, for {@link Evaluator}s that each depend on a single
+ * column only.
+ *
+ * <p>Because the score of a child is then the sum of the scores of its columns, the best child is the best
+ * segmentation of values into contiguous spans, one for each column. It is found in
+ * {@code O(length × values × span)} evaluations instead of evaluating every child.</p>
+ *
+ * <p><b>Note</b>: Among children with the same best score, the one that comes first in the {@link DsvChildIterator}
+ * order is chosen. As sums of scores are computed column by column from the last one, children whose sum is the best
+ * one up to rounding errors could also be searched, so that they are scored again the same way as enumerated ones.
+ * </p>
+ * @since 1.1.0
+ */
+final class DsvSegmentation {
+
+	/**
+	 * Relative slack of sums of scores, greater than rounding errors of sums computed in another order.
+	 * @since 1.1.0
+	 */
+	private static final double ROUNDING_SLACK = 1.0e-9d;
+
+	/**
+	 * Delimiter.
+	 * @since 1.1.0
+	 */
+	private final String delimiter;
+
+	/**
+	 * {@link Evaluator}s of each column.
+	 * @since 1.1.0
+	 */
+	private final Evaluator<String[]>[][] columnEvaluators;
+
+	/**
+	 * Constructor with a delimiter and the {@link Evaluator}s of each column.
+	 * @param delimiter the delimiter
+	 * @param columnEvaluators the {@link List} of {@link Evaluator}s of each column
+	 * @throws NullPointerException if the delimiter, the {@link List} of {@link Evaluator}s of each column or any of
+	 *         them is {@code null}
+	 * @throws IllegalArgumentException if there is less than {@code 2} columns
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	DsvSegmentation(final String delimiter, final List<List<Evaluator<String[]>>> columnEvaluators) {
+		Ensure.notNull("delimiter", delimiter);
+		Ensure.notNullAndNotNullElements("columnEvaluators", columnEvaluators);
+		Ensure.greaterThanOrEqualTo("columnEvaluators size", columnEvaluators.size(), 2);
+		this.delimiter = delimiter;
+		this.columnEvaluators = columnEvaluators.stream()
+				.map(evaluators -> Ensure.notNullAndNotNullElements("columnEvaluators", evaluators)
+						.toArray(Evaluator[]::new))
+				.toArray(Evaluator[][]::new);
+	}
+
+	/**
+	 * Search the best child of the given values, joining consecutive values with the delimiter if there are too many
+	 * of them or shifting them with empty ones if there are not enough.
+	 * @param values values to search the best child of
+	 * @return the best child, or {@code null} if every child got an invalid score
+	 * @throws NullPointerException if values are {@code null}
+	 * @throws IllegalArgumentException if values are as many as columns
+	 * @since 1.1.0
+	 */
+	String[] search(final String[] values) {
+		final var children = searchBest(values, 1);
+		return !children.isEmpty() ? children.get(0) : null;
+	}
+
+	/**
+	 * Search children of the given values whose sum of scores is the best one up to rounding errors, joining
+	 * consecutive values with the delimiter if there are too many of them or shifting them with empty ones if there
+	 * are not enough.
+	 *
+	 * <p><b>Note</b>: Because sums of scores depend on the order they are computed in, children are returned in the
+	 * {@link DsvChildIterator} order so that they could be scored again like any other child to choose the best one.
+	 * </p>
+	 * @param values values to search children of
+	 * @param maxChildren the maximum number of children
+	 * @return the {@link List} of at most the given number of children, empty if every child got an invalid score
+	 * @throws NullPointerException if values are {@code null}
+	 * @throws IllegalArgumentException if values are as many as columns or if the maximum number of children is lower
+	 *         than {@code 1}
+	 * @since 1.1.0
+	 */
+	List<String[]> searchBest(final String[] values, final int maxChildren) {
+		Ensure.notNull("values", values);
+		Ensure.greaterThanOrEqualTo("maxChildren", maxChildren, 1);
+		final var length = columnEvaluators.length;
+		final var children = new ArrayList<String[]>();
+		if (length < values.length) {
+			final var scores = scoreJoins(values);
+			if (Double.NEGATIVE_INFINITY != scores[0][0]) {
+				final var threshold = threshold(scores[0][0]);
+				collectJoins(values, scores, threshold, maxChildren, 0, 0, 0.0d, newRow(length), children);
+			}
+		} else if (length > values.length) {
+			final var scores = scoreShifts(values);
+			if (Double.NEGATIVE_INFINITY != scores[0][0]) {
+				final var threshold = threshold(scores[0][0]);
+				collectShifts(values, scores, threshold, maxChildren, 0, 0, 0.0d, newRow(length), children);
+			}
+		} else {
+			throw new IllegalArgumentException(
+					"Invalid values length: " + values.length + " (not " + length + " expected)"
+			);
+		}
+		return children;
+	}
+
+	/**
+	 * Compute best sums of scores of joining consecutive values, each column getting at least one of them.
+	 * @param values values to join
+	 * @return best sums of scores of columns from each column for values from each index
+	 * @since 1.1.0
+	 */
+	private double[][] scoreJoins(final String[] values) {
+		final var length = columnEvaluators.length;
+		final var surplus = values.length - length;
+		final var row = newRow(length);
+		final var scores = newScores(length, values.length);
+		scores[length][values.length] = 0.0d;
+		for (var c = length - 1; 0 <= c; --c) {
+			final var maxEnd = values.length - (length - c - 1);
+			for (var t = c; t <= c + surplus; ++t) {
+				final var builder = new StringBuilder();
+				for (var u = t + 1; u <= maxEnd; ++u) {
+					if (t + 1 < u) {
+						builder.append(delimiter);
+					}
+					builder.append(values[u - 1]);
+					if (Double.NEGATIVE_INFINITY != scores[c + 1][u]) {
+						final var score = evaluate(row, c, builder.toString()) + scores[c + 1][u];
+						if (!Double.isNaN(score) && scores[c][t] < score) {
+							scores[c][t] = score;
+						}
+					}
+				}
+			}
+		}
+		return scores;
+	}
+
+	/**
+	 * Collect children of joined values whose sum of scores is not lower than the threshold, depth-first with longer
+	 * spans for first columns, which is the {@link DsvChildIterator} order.
+	 * @param values values to join
+	 * @param scores best sums of scores of columns from each column for values from each index
+	 * @param threshold the threshold
+	 * @param maxChildren the maximum number of children
+	 * @param column the current column
+	 * @param offset the index of the first value of the current column
+	 * @param score the sum of scores of previous columns
+	 * @param child the child being collected
+	 * @param children the {@link List} of collected children
+	 * @since 1.1.0
+	 */
+	private void collectJoins(
+			final String[] values,
+			final double[][] scores,
+			final double threshold,
+			final int maxChildren,
+			final int column,
+			final int offset,
+			final double score,
+			final String[] child,
+			final List<String[]> children
+	) {
+		if (maxChildren == children.size()) {
+			return;
+		}
+		if (columnEvaluators.length == column) {
+			children.add(child.clone());
+			return;
+		}
+		final var maxEnd = values.length - (columnEvaluators.length - column - 1);
+		for (var u = maxEnd; u > offset; --u) {
+			if (Double.NEGATIVE_INFINITY == scores[column + 1][u]) {
+				continue;
+			}
+			final var value = DsvChildIterator.join(delimiter, values, offset, u);
+			final var valueScore = score + evaluate(child, column, value);
+			if (!Double.isNaN(valueScore) && threshold <= valueScore + scores[column + 1][u]) {
+				collectJoins(values, scores, threshold, maxChildren, column + 1, u, valueScore, child, children);
+			}
+		}
+	}
+
+	/**
+	 * Compute best sums of scores of shifting values with empty ones, each column getting either one of them or an
+	 * empty one.
+	 * @param values values to shift
+	 * @return best sums of scores of columns from each column for values from each index
+	 * @since 1.1.0
+	 */
+	private double[][] scoreShifts(final String[] values) {
+		final var length = columnEvaluators.length;
+		final var deficit = length - values.length;
+		final var row = newRow(length);
+		final var scores = newScores(length, values.length);
+		scores[length][values.length] = 0.0d;
+		for (var c = length - 1; 0 <= c; --c) {
+			for (var t = StrictMath.max(0, c - deficit); t <= StrictMath.min(c, values.length); ++t) {
+				if (c - t < deficit && Double.NEGATIVE_INFINITY != scores[c + 1][t]) {
+					final var score = evaluate(row, c, Strings.EMPTY) + scores[c + 1][t];
+					if (!Double.isNaN(score) && scores[c][t] < score) {
+						scores[c][t] = score;
+					}
+				}
+				if (t < values.length && Double.NEGATIVE_INFINITY != scores[c + 1][t + 1]) {
+					final var score = evaluate(row, c, values[t]) + scores[c + 1][t + 1];
+					if (!Double.isNaN(score) && scores[c][t] < score) {
+						scores[c][t] = score;
+					}
+				}
+			}
+		}
+		return scores;
+	}
+
+	/**
+	 * Collect children of shifted values whose sum of scores is not lower than the threshold, depth-first with empty
+	 * values for first columns, which is the {@link DsvChildIterator} order.
+	 * @param values values to shift
+	 * @param scores best sums of scores of columns from each column for values from each index
+	 * @param threshold the threshold
+	 * @param maxChildren the maximum number of children
+	 * @param column the current column
+	 * @param offset the index of the next value
+	 * @param score the sum of scores of previous columns
+	 * @param child the child being collected
+	 * @param children the {@link List} of collected children
+	 * @since 1.1.0
+	 */
+	private void collectShifts(
+			final String[] values,
+			final double[][] scores,
+			final double threshold,
+			final int maxChildren,
+			final int column,
+			final int offset,
+			final double score,
+			final String[] child,
+			final List<String[]> children
+	) {
+		if (maxChildren == children.size()) {
+			return;
+		}
+		if (columnEvaluators.length == column) {
+			children.add(child.clone());
+			return;
+		}
+		final var deficit = columnEvaluators.length - values.length;
+		if (column - offset < deficit && Double.NEGATIVE_INFINITY != scores[column + 1][offset]) {
+			final var valueScore = score + evaluate(child, column, Strings.EMPTY);
+			if (!Double.isNaN(valueScore) && threshold <= valueScore + scores[column + 1][offset]) {
+				collectShifts(values, scores, threshold, maxChildren, column + 1, offset, valueScore, child, children);
+			}
+		}
+		if (offset < values.length && Double.NEGATIVE_INFINITY != scores[column + 1][offset + 1]) {
+			final var valueScore = score + evaluate(child, column, values[offset]);
+			if (!Double.isNaN(valueScore) && threshold <= valueScore + scores[column + 1][offset + 1]) {
+				collectShifts(
+						values, scores, threshold, maxChildren, column + 1, offset + 1, valueScore, child, children
+				);
+			}
+		}
+	}
+
+	/**
+	 * Get the threshold of sums of scores that are the best one up to rounding errors.
+	 * @param bestScore the best sum of scores
+	 * @return the threshold
+	 * @since 1.1.0
+	 */
+	private static double threshold(final double bestScore) {
+		return bestScore - ROUNDING_SLACK * (1.0d + StrictMath.abs(bestScore));
+	}
+
+	/**
+	 * Evaluate the given value at the given column, as the sum of the scores of the column's {@link Evaluator}s.
+	 * @param row a row to evaluate the value in
+	 * @param column the column
+	 * @param value the value
+	 * @return the score, or {@code NaN} if any {@link Evaluator} returned {@code NaN}
+	 * @since 1.1.0
+	 */
+	private double evaluate(final String[] row, final int column, final String value) {
+		row[column] = value;
+		var score = 0.0d;
+		for (final var evaluator : columnEvaluators[column]) {
+			score += evaluator.evaluate(row);
+			if (Double.isNaN(score)) {
+				break;
+			}
+		}
+		return score;
+	}
+
+	/**
+	 * Create a new row of empty values.
+	 * @param length the length
+	 * @return the created row
+	 * @since 1.1.0
+	 */
+	private static String[] newRow(final int length) {
+		final var row = new String[length];
+		Arrays.fill(row, Strings.EMPTY);
+		return row;
+	}
+
+	/**
+	 * Create a new table of scores, filled with negative infinity.
+	 * @param length the length
+	 * @param count the number of values
+	 * @return the created table of scores
+	 * @since 1.1.0
+	 */
+	private static double[][] newScores(final int length, final int count) {
+		final var scores = new double[length + 1][count + 1];
+		for (final var columnScores : scores) {
+			Arrays.fill(columnScores, Double.NEGATIVE_INFINITY);
+		}
+		return scores;
+	}
+}
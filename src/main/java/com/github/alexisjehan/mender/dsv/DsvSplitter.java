@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+
+import java.util.Arrays;
+
+/**
+ * Utility class that splits DSV rows by scanning them for the delimiter, without any intermediate collection.
+ *
+ * <p><b>Note</b>: Delimiters are matched from left to right without overlapping, and an empty row has a single empty
+ * value.</p>
+ * @since 1.1.0
+ */
+final class DsvSplitter {
+
+	/**
+	 * Constructor not available.
+	 * @since 1.1.0
+	 */
+	private DsvSplitter() {}
+
+	/**
+	 * Count the number of values of the given row.
+	 * @param delimiter the delimiter
+	 * @param row the row
+	 * @return the number of values
+	 * @throws NullPointerException if the delimiter or the row is {@code null}
+	 * @throws IllegalArgumentException if the delimiter is empty
+	 * @since 1.1.0
+	 */
+	static int count(final String delimiter, final String row) {
+		Ensure.notNullAndNotEmpty("delimiter", delimiter);
+		Ensure.notNull("row", row);
+		var count = 1;
+		for (var index = indexOf(delimiter, row, 0); -1 != index; index = indexOf(delimiter, row, index)) {
+			index += delimiter.length();
+			++count;
+		}
+		return count;
+	}
+
+	/**
+	 * Split the given row into an exactly-sized array of values.
+	 * @param delimiter the delimiter
+	 * @param row the row to split
+	 * @return values of the row
+	 * @throws NullPointerException if the delimiter or the row is {@code null}
+	 * @throws IllegalArgumentException if the delimiter is empty
+	 * @since 1.1.0
+	 */
+	static String[] split(final String delimiter, final String row) {
+		final var values = new String[count(delimiter, row)];
+		split(delimiter, row, values);
+		return values;
+	}
+
+	/**
+	 * Split the given row into the given buffer, storing values from its first index.
+	 *
+	 * <p><b>Note</b>: If the buffer is too small, only its length of first values are stored, so that the returned
+	 * number of values could be used to get a large enough buffer.</p>
+	 * @param delimiter the delimiter
+	 * @param row the row to split
+	 * @param buffer the buffer to store values in
+	 * @return the number of values of the row
+	 * @throws NullPointerException if the delimiter, the row or the buffer is {@code null}
+	 * @throws IllegalArgumentException if the delimiter is empty
+	 * @since 1.1.0
+	 */
+	static int split(final String delimiter, final String row, final String[] buffer) {
+		Ensure.notNullAndNotEmpty("delimiter", delimiter);
+		Ensure.notNull("row", row);
+		Ensure.notNull("buffer", buffer);
+		var count = 0;
+		var from = 0;
+		for (var index = indexOf(delimiter, row, 0); -1 != index; index = indexOf(delimiter, row, from)) {
+			if (count < buffer.length) {
+				buffer[count] = row.substring(from, index);
+			}
+			++count;
+			from = index + delimiter.length();
+		}
+		if (count < buffer.length) {
+			buffer[count] = row.substring(from);
+		}
+		return count + 1;
+	}
+
+	/**
+	 * Get exactly-sized values of the given row that has already been split into the given buffer, reusing values
+	 * stored in the buffer so that only the rest of the row is scanned if the buffer is too small.
+	 * @param delimiter the delimiter
+	 * @param row the row that has been split
+	 * @param buffer the buffer values have been stored in
+	 * @param count the number of values of the row
+	 * @return values of the row
+	 * @throws NullPointerException if the delimiter, the row or the buffer is {@code null}
+	 * @throws IllegalArgumentException if the delimiter is empty or if the number of values is lower than {@code 1}
+	 * @since 1.1.0
+	 */
+	static String[] split(final String delimiter, final String row, final String[] buffer, final int count) {
+		Ensure.notNullAndNotEmpty("delimiter", delimiter);
+		Ensure.notNull("row", row);
+		Ensure.notNull("buffer", buffer);
+		Ensure.greaterThanOrEqualTo("count", count, 1);
+		final var values = Arrays.copyOf(buffer, count);
+		if (buffer.length < count) {
+			var from = 0;
+			for (final var value : buffer) {
+				from += value.length() + delimiter.length();
+			}
+			for (var i = buffer.length; i < count - 1; ++i) {
+				final var index = indexOf(delimiter, row, from);
+				values[i] = row.substring(from, index);
+				from = index + delimiter.length();
+			}
+			values[count - 1] = row.substring(from);
+		}
+		return values;
+	}
+
+	/**
+	 * Find the index of the next delimiter of the given row from an index, scanning characters if the delimiter is a
+	 * single one.
+	 * @param delimiter the delimiter
+	 * @param row the row
+	 * @param from the index to start from
+	 * @return the index of the next delimiter, or {@code -1} if there is none
+	 * @since 1.1.0
+	 */
+	private static int indexOf(final String delimiter, final String row, final int from) {
+		return 1 == delimiter.length()
+				? row.indexOf(delimiter.charAt(0), from)
+				: row.indexOf(delimiter, from);
+	}
+}
@@ -27,6 +27,7 @@ import com.github.alexisjehan.javanilla.lang.Strings;
 import com.github.alexisjehan.mender.dsv.DsvMender;
 
 import java.util.Arrays;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public final class OptimizeExample {
@@ -42,18 +43,34 @@ public final class OptimizeExample {
 				.withDelimiter(DELIMITER)
 				.withLength(LENGTH)
 				.withMaxDepth(Integer.MAX_VALUE)
-				.withConstraint("foo"::equals, 0) // values[0] must be "foo"
-				.withConstraint("bar"::equals, 2) // values[2] must be "bar"
+				.withEstimation(Function.identity(), 0) // Estimation on values[0]
+				.withEstimation(Function.identity(), 2) // Estimation on values[2]
 				.build();
 
+		// Fitting
+		mender.mend("foo", "", "bar");
+
 		final var row = "foo,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,,bar";
 
-		// Not optimized, out of memory
-		//printValues(mender.mend(row));
+		// Not optimized, 2016 candidates are evaluated
+		printValues(mender.mend(row));
 
-		// Optimized, can be computed
+		// Optimized, 6 candidates are evaluated
 		final var threshold = 1;
 		printValues(mender.mend(mender.optimize(threshold, row)));
+
+		// Optimized automatically, 6 candidates are evaluated
+		final var maxSearchSize = 10;
+		final var optimizingMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withMaxDepth(Integer.MAX_VALUE)
+				.withMaxSearchSize(maxSearchSize)
+				.withEstimation(Function.identity(), 0) // Estimation on values[0]
+				.withEstimation(Function.identity(), 2) // Estimation on values[2]
+				.build();
+		optimizingMender.mend("foo", "", "bar");
+		printValues(optimizingMender.mend(row));
 	}
 
 	private static void printValues(final String[] values) {
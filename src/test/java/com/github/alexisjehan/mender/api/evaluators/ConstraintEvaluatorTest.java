@@ -28,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 final class ConstraintEvaluatorTest {
@@ -52,4 +53,23 @@ final class ConstraintEvaluatorTest {
 		assertThat(constraintEvaluator.evaluate("foo")).isEqualTo(1.0d);
 		assertThat(constraintEvaluator.evaluate("bar")).isNaN();
 	}
-}
\ No newline at end of file
+
+	@Test
+	void testGetColumn() {
+		assertThat(constraintEvaluator.getColumn()).isEmpty();
+	}
+
+	@Test
+	void testOfColumn() {
+		final var columnConstraintEvaluator = ConstraintEvaluator.ofColumn(constraintEvaluator, 1);
+		assertThat(columnConstraintEvaluator.getColumn()).hasValue(1);
+		assertThat(columnConstraintEvaluator.isValid(new String[] {"bar", "foo"})).isTrue();
+		assertThat(columnConstraintEvaluator.isValid(new String[] {"foo", "bar"})).isFalse();
+	}
+
+	@Test
+	void testOfColumnInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> ConstraintEvaluator.ofColumn(null, 1));
+		assertThatIllegalArgumentException().isThrownBy(() -> ConstraintEvaluator.ofColumn(constraintEvaluator, -1));
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.StreamCorruptedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+final class CountMinSketchTest {
+
+	private static final int WIDTH = 100;
+
+	private static final int DEPTH = 4;
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new CountMinSketch(0, DEPTH));
+		assertThatIllegalArgumentException().isThrownBy(() -> new CountMinSketch(WIDTH, 0));
+	}
+
+	@Test
+	void testAddAndCount() {
+		final var countMinSketch = new CountMinSketch(WIDTH, DEPTH);
+		assertThat(countMinSketch.count("foo")).isZero();
+		assertThat(countMinSketch.size()).isZero();
+		countMinSketch.add("foo");
+		countMinSketch.add("foo");
+		countMinSketch.add(null);
+		assertThat(countMinSketch.count("foo")).isEqualTo(2L);
+		assertThat(countMinSketch.count(null)).isEqualTo(1L);
+		assertThat(countMinSketch.size()).isEqualTo(3L);
+	}
+
+	@Test
+	void testAddAndCountCollisions() {
+		final var countMinSketch = new CountMinSketch(1, DEPTH);
+		countMinSketch.add("foo");
+		countMinSketch.add("bar");
+		assertThat(countMinSketch.count("foo")).isEqualTo(2L);
+		assertThat(countMinSketch.count("baz")).isEqualTo(2L);
+	}
+
+	@Test
+	void testAddAndCountErrorBound() {
+		final var countMinSketch = new CountMinSketch(WIDTH, DEPTH);
+		for (var i = 0; i < 10_000; ++i) {
+			countMinSketch.add(i % 1_000 < 900 ? i % 10 : i);
+		}
+		final var maxError = (long) StrictMath.ceil(StrictMath.E / WIDTH * countMinSketch.size());
+		for (var i = 0; i < 10; ++i) {
+			assertThat(countMinSketch.count(i)).isBetween(900L, 900L + maxError);
+		}
+	}
+
+	@Test
+	void testWriteAndRead() throws Exception {
+		final var countMinSketch = new CountMinSketch(WIDTH, DEPTH);
+		for (var i = 0; i < 1_000; ++i) {
+			countMinSketch.add(i % 10);
+		}
+		final var outputStream = new ByteArrayOutputStream();
+		countMinSketch.write(new DataOutputStream(outputStream));
+		final var readCountMinSketch = new CountMinSketch(WIDTH, DEPTH);
+		readCountMinSketch.add(10);
+		readCountMinSketch.read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+		for (var i = 0; i < 11; ++i) {
+			assertThat(readCountMinSketch.count(i)).isEqualTo(countMinSketch.count(i));
+		}
+		assertThat(readCountMinSketch.size()).isEqualTo(countMinSketch.size());
+	}
+
+	@Test
+	void testReadInvalid() throws Exception {
+		final var outputStream = new ByteArrayOutputStream();
+		new CountMinSketch(WIDTH, DEPTH).write(new DataOutputStream(outputStream));
+		final var bytes = outputStream.toByteArray();
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> new CountMinSketch(WIDTH + 1, DEPTH).read(new DataInputStream(new ByteArrayInputStream(bytes)))
+		);
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> new CountMinSketch(WIDTH, DEPTH + 1).read(new DataInputStream(new ByteArrayInputStream(bytes)))
+		);
+	}
+
+	@Test
+	void testMerge() {
+		final var countMinSketch = new CountMinSketch(WIDTH, DEPTH);
+		final var otherCountMinSketch = new CountMinSketch(WIDTH, DEPTH);
+		countMinSketch.add("foo");
+		otherCountMinSketch.add("foo");
+		otherCountMinSketch.add("bar");
+		countMinSketch.merge(otherCountMinSketch);
+		assertThat(countMinSketch.count("foo")).isEqualTo(2L);
+		assertThat(countMinSketch.count("bar")).isEqualTo(1L);
+		assertThat(countMinSketch.size()).isEqualTo(3L);
+	}
+
+	@Test
+	void testMergeInvalid() {
+		final var countMinSketch = new CountMinSketch(WIDTH, DEPTH);
+		assertThatIllegalArgumentException().isThrownBy(() -> countMinSketch.merge(new CountMinSketch(WIDTH + 1, DEPTH)));
+		assertThatIllegalArgumentException().isThrownBy(() -> countMinSketch.merge(new CountMinSketch(WIDTH, DEPTH + 1)));
+	}
+}
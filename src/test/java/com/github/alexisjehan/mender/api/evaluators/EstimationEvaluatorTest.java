@@ -23,11 +23,22 @@
  */
 package com.github.alexisjehan.mender.api.evaluators;
 
+import com.github.alexisjehan.javanilla.lang.Strings;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 final class EstimationEvaluatorTest {
@@ -37,6 +48,48 @@ final class EstimationEvaluatorTest {
 		assertThatNullPointerException().isThrownBy(() -> new EstimationEvaluator<>(null));
 	}
 
+	@Test
+	void testOfConcurrentInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> EstimationEvaluator.ofConcurrent(null));
+	}
+
+	@Test
+	void testOfSketchInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> EstimationEvaluator.ofSketch(null, 100, 4));
+		assertThatIllegalArgumentException().isThrownBy(() -> EstimationEvaluator.ofSketch(Function.identity(), 0, 4));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> EstimationEvaluator.ofSketch(Function.identity(), 100, 0));
+	}
+
+	@Test
+	void testOfWindowInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> EstimationEvaluator.ofWindow(null, 2, 3));
+		assertThatIllegalArgumentException().isThrownBy(() -> EstimationEvaluator.ofWindow(Function.identity(), 0, 3));
+		assertThatIllegalArgumentException().isThrownBy(() -> EstimationEvaluator.ofWindow(Function.identity(), 2, 0));
+	}
+
+	@Test
+	void testOfIntInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> EstimationEvaluator.ofInt(null));
+	}
+
+	@Test
+	void testOfBooleanInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> EstimationEvaluator.ofBoolean(null));
+	}
+
+	@Test
+	void testOfColumnInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> EstimationEvaluator.ofColumn(null, 1));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> EstimationEvaluator.ofColumn(new EstimationEvaluator<>(Function.identity()), -1));
+	}
+
+	@Test
+	void testGetColumn() {
+		assertThat(new EstimationEvaluator<>(Function.identity()).getColumn()).isEmpty();
+	}
+
 	@Test
 	void testFitAndEvaluate() {
 		assertThat(new EstimationEvaluator<>(Function.identity()))
@@ -62,4 +115,237 @@ final class EstimationEvaluatorTest {
 					assertThat(estimationEvaluator.evaluate("fooo")).isEqualTo(0.5d);
 				});
 	}
-}
\ No newline at end of file
+
+	@Test
+	void testOfConcurrentFitAndEvaluate() {
+		assertThat(EstimationEvaluator.ofConcurrent(Function.identity()))
+				.satisfies(estimationEvaluator -> {
+					assertThat(estimationEvaluator.evaluate("foo")).isNaN();
+					assertThat(estimationEvaluator.evaluate("bar")).isNaN();
+					estimationEvaluator.fit("foo");
+					assertThat(estimationEvaluator.evaluate("foo")).isEqualTo(1.0d);
+					assertThat(estimationEvaluator.evaluate("bar")).isZero();
+					estimationEvaluator.fit("bar");
+					assertThat(estimationEvaluator.evaluate("foo")).isEqualTo(0.5d);
+					assertThat(estimationEvaluator.evaluate("bar")).isEqualTo(0.5d);
+				});
+	}
+
+	@Test
+	void testOfConcurrentFitConcurrently() {
+		final var estimationEvaluator = EstimationEvaluator.<Integer>ofConcurrent(value -> value % 2);
+		IntStream.range(0, 10_000).parallel().forEach(value -> {
+			estimationEvaluator.fit(value);
+			assertThat(estimationEvaluator.evaluate(value)).isBetween(0.0d, 1.0d);
+		});
+		assertThat(estimationEvaluator.evaluate(0)).isEqualTo(0.5d);
+		assertThat(estimationEvaluator.evaluate(1)).isEqualTo(0.5d);
+	}
+
+	@Test
+	void testOfSketchFitAndEvaluate() {
+		assertThat(EstimationEvaluator.ofSketch(Function.identity(), 100, 4))
+				.satisfies(estimationEvaluator -> {
+					assertThat(estimationEvaluator.evaluate("foo")).isNaN();
+					assertThat(estimationEvaluator.evaluate("bar")).isNaN();
+					estimationEvaluator.fit("foo");
+					assertThat(estimationEvaluator.evaluate("foo")).isEqualTo(1.0d);
+					assertThat(estimationEvaluator.evaluate("bar")).isZero();
+					estimationEvaluator.fit("bar");
+					assertThat(estimationEvaluator.evaluate("foo")).isEqualTo(0.5d);
+					assertThat(estimationEvaluator.evaluate("bar")).isEqualTo(0.5d);
+				});
+	}
+
+	@Test
+	void testOfSketchFitAndEvaluateAgainstExact() {
+		final var width = 200;
+		final var exactEstimationEvaluator = new EstimationEvaluator<Integer>(Function.identity());
+		final var sketchEstimationEvaluator = EstimationEvaluator.<Integer>ofSketch(Function.identity(), width, 5);
+		for (var i = 0; i < 100_000; ++i) {
+			final var value = 0 == i % 2 ? i % 20 : i;
+			exactEstimationEvaluator.fit(value);
+			sketchEstimationEvaluator.fit(value);
+		}
+		for (var value = 0; value < 1_000; ++value) {
+			final var exactScore = exactEstimationEvaluator.evaluate(value);
+			assertThat(sketchEstimationEvaluator.evaluate(value))
+					.isGreaterThanOrEqualTo(exactScore)
+					.isLessThanOrEqualTo(exactScore + StrictMath.E / width);
+		}
+	}
+
+	@Test
+	void testOfWindowFitAndEvaluate() {
+		assertThat(EstimationEvaluator.ofWindow(Function.identity(), 1, 2))
+				.satisfies(estimationEvaluator -> {
+					assertThat(estimationEvaluator.evaluate("foo")).isNaN();
+					assertThat(estimationEvaluator.evaluate("bar")).isNaN();
+					estimationEvaluator.fit("foo");
+					assertThat(estimationEvaluator.evaluate("foo")).isEqualTo(1.0d);
+					assertThat(estimationEvaluator.evaluate("bar")).isZero();
+					estimationEvaluator.fit("bar");
+					assertThat(estimationEvaluator.evaluate("foo")).isEqualTo(0.5d);
+					assertThat(estimationEvaluator.evaluate("bar")).isEqualTo(0.5d);
+					estimationEvaluator.fit("bar");
+					assertThat(estimationEvaluator.evaluate("foo")).isZero();
+					assertThat(estimationEvaluator.evaluate("bar")).isEqualTo(1.0d);
+				});
+	}
+
+	@Test
+	void testOfIntFitAndEvaluate() {
+		assertThat(EstimationEvaluator.<String>ofInt(String::length))
+				.satisfies(estimationEvaluator -> {
+					assertThat(estimationEvaluator.evaluate("foo")).isNaN();
+					assertThat(estimationEvaluator.evaluate("fooo")).isNaN();
+					estimationEvaluator.fit("foo");
+					assertThat(estimationEvaluator.evaluate("bar")).isEqualTo(1.0d);
+					assertThat(estimationEvaluator.evaluate("fooo")).isZero();
+					estimationEvaluator.fit("fooo");
+					assertThat(estimationEvaluator.evaluate("bar")).isEqualTo(0.5d);
+					assertThat(estimationEvaluator.evaluate("fooo")).isEqualTo(0.5d);
+				});
+	}
+
+	@Test
+	void testOfBooleanFitAndEvaluate() {
+		assertThat(EstimationEvaluator.<String>ofBoolean(String::isEmpty))
+				.satisfies(estimationEvaluator -> {
+					assertThat(estimationEvaluator.evaluate("foo")).isNaN();
+					assertThat(estimationEvaluator.evaluate(Strings.EMPTY)).isNaN();
+					estimationEvaluator.fit("foo");
+					assertThat(estimationEvaluator.evaluate("bar")).isEqualTo(1.0d);
+					assertThat(estimationEvaluator.evaluate(Strings.EMPTY)).isZero();
+					estimationEvaluator.fit(Strings.EMPTY);
+					assertThat(estimationEvaluator.evaluate("bar")).isEqualTo(0.5d);
+					assertThat(estimationEvaluator.evaluate(Strings.EMPTY)).isEqualTo(0.5d);
+				});
+	}
+
+	@Test
+	void testOfColumnFitAndEvaluate() {
+		assertThat(EstimationEvaluator.ofColumn(EstimationEvaluator.<String>ofInt(String::length), 1))
+				.satisfies(estimationEvaluator -> {
+					assertThat(estimationEvaluator.getColumn()).hasValue(1);
+					assertThat(estimationEvaluator.evaluate(new String[] {"foo", "foo"})).isNaN();
+					estimationEvaluator.fit(new String[] {"foo", "foo"});
+					assertThat(estimationEvaluator.evaluate(new String[] {"fooo", "bar"})).isEqualTo(1.0d);
+					assertThat(estimationEvaluator.evaluate(new String[] {"bar", "fooo"})).isZero();
+					estimationEvaluator.fit(new String[] {"foo", "fooo"});
+					assertThat(estimationEvaluator.evaluate(new String[] {"fooo", "bar"})).isEqualTo(0.5d);
+					assertThat(estimationEvaluator.evaluate(new String[] {"bar", "fooo"})).isEqualTo(0.5d);
+				});
+	}
+
+	@Test
+	void testWriteAndRead() throws Exception {
+		final var factories = List.<Supplier<EstimationEvaluator<String>>>of(
+				() -> new EstimationEvaluator<>(Function.identity()),
+				() -> EstimationEvaluator.ofConcurrent(Function.identity()),
+				() -> EstimationEvaluator.ofSketch(Function.identity(), 100, 4),
+				() -> EstimationEvaluator.ofWindow(Function.identity(), 2, 3),
+				() -> EstimationEvaluator.ofInt(String::length),
+				() -> EstimationEvaluator.ofBoolean(String::isEmpty)
+		);
+		for (final var factory : factories) {
+			final var estimationEvaluator = factory.get();
+			estimationEvaluator.fit("foo");
+			estimationEvaluator.fit("fooo");
+			estimationEvaluator.fit("fooo");
+			estimationEvaluator.fit(Strings.EMPTY);
+			final var outputStream = new ByteArrayOutputStream();
+			estimationEvaluator.write(new DataOutputStream(outputStream));
+			final var readEstimationEvaluator = factory.get();
+			readEstimationEvaluator.fit("bar");
+			readEstimationEvaluator.read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+			for (final var value : List.of("foo", "fooo", Strings.EMPTY, "bar", "baz")) {
+				assertThat(readEstimationEvaluator.evaluate(value)).isEqualTo(estimationEvaluator.evaluate(value));
+			}
+		}
+	}
+
+	@Test
+	void testWriteInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> new EstimationEvaluator<>(Function.identity()).write(null));
+	}
+
+	@Test
+	void testReadInvalid() throws Exception {
+		assertThatNullPointerException().isThrownBy(() -> new EstimationEvaluator<>(Function.identity()).read(null));
+		final var outputStream = new ByteArrayOutputStream();
+		new EstimationEvaluator<>(Function.identity()).write(new DataOutputStream(outputStream));
+		final var bytes = outputStream.toByteArray();
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> EstimationEvaluator.ofConcurrent(Function.identity())
+						.read(new DataInputStream(new ByteArrayInputStream(bytes)))
+		);
+	}
+
+	@Test
+	void testMerge() {
+		final var factories = List.<Supplier<EstimationEvaluator<String>>>of(
+				() -> new EstimationEvaluator<>(Function.identity()),
+				() -> EstimationEvaluator.ofConcurrent(Function.identity()),
+				() -> EstimationEvaluator.ofSketch(Function.identity(), 100, 4),
+				() -> EstimationEvaluator.ofWindow(Function.identity(), 10, 3),
+				() -> EstimationEvaluator.ofInt(String::length),
+				() -> EstimationEvaluator.ofBoolean(String::isEmpty)
+		);
+		for (final var factory : factories) {
+			final var estimationEvaluator = factory.get();
+			estimationEvaluator.fit("foo");
+			estimationEvaluator.fit("fooo");
+			final var otherEstimationEvaluator = factory.get();
+			otherEstimationEvaluator.fit("fooo");
+			otherEstimationEvaluator.fit(Strings.EMPTY);
+			final var expectedEstimationEvaluator = factory.get();
+			expectedEstimationEvaluator.fit("foo");
+			expectedEstimationEvaluator.fit("fooo");
+			expectedEstimationEvaluator.fit("fooo");
+			expectedEstimationEvaluator.fit(Strings.EMPTY);
+			estimationEvaluator.merge(otherEstimationEvaluator);
+			for (final var value : List.of("foo", "fooo", Strings.EMPTY, "bar", "baz")) {
+				assertThat(estimationEvaluator.evaluate(value)).isEqualTo(expectedEstimationEvaluator.evaluate(value));
+			}
+		}
+	}
+
+	@Test
+	void testMergeColumn() {
+		final var estimationEvaluator = EstimationEvaluator.ofColumn(EstimationEvaluator.<String>ofInt(String::length), 0);
+		final var otherEstimationEvaluator = EstimationEvaluator.ofColumn(
+				EstimationEvaluator.<String>ofInt(String::length),
+				0
+		);
+		estimationEvaluator.fit(new String[] {"foo"});
+		otherEstimationEvaluator.fit(new String[] {"fooo"});
+		estimationEvaluator.merge(otherEstimationEvaluator);
+		assertThat(estimationEvaluator.evaluate(new String[] {"bar"})).isEqualTo(0.5d);
+		assertThat(estimationEvaluator.evaluate(new String[] {"baar"})).isEqualTo(0.5d);
+	}
+
+	@Test
+	void testMergeInvalid() {
+		final var estimationEvaluator = new EstimationEvaluator<String>(Function.identity());
+		assertThatNullPointerException().isThrownBy(() -> estimationEvaluator.merge(null));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> estimationEvaluator.merge(EstimationEvaluator.ofConcurrent(Function.identity())));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> estimationEvaluator.merge(EstimationEvaluator.ofInt(String::length)));
+	}
+
+	@Test
+	void testNewUnfitted() {
+		final var estimationEvaluator = EstimationEvaluator.ofColumn(EstimationEvaluator.<String>ofInt(String::length), 1);
+		estimationEvaluator.fit(new String[] {"foo", "foo"});
+		final var unfittedEstimationEvaluator = estimationEvaluator.newUnfitted();
+		assertThat(unfittedEstimationEvaluator.getColumn()).hasValue(1);
+		assertThat(unfittedEstimationEvaluator.evaluate(new String[] {"foo", "bar"})).isNaN();
+		unfittedEstimationEvaluator.fit(new String[] {"foo", "fooo"});
+		assertThat(unfittedEstimationEvaluator.evaluate(new String[] {"foo", "baar"})).isEqualTo(1.0d);
+		assertThat(estimationEvaluator.evaluate(new String[] {"foo", "baar"})).isZero();
+		unfittedEstimationEvaluator.merge(estimationEvaluator);
+		assertThat(unfittedEstimationEvaluator.evaluate(new String[] {"foo", "baar"})).isEqualTo(0.5d);
+	}
+}
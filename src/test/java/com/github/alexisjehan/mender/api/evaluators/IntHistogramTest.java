@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.StreamCorruptedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+final class IntHistogramTest {
+
+	@Test
+	void testAddAndCount() {
+		final var intHistogram = new IntHistogram();
+		assertThat(intHistogram.count(0)).isZero();
+		assertThat(intHistogram.size()).isZero();
+		intHistogram.add(0);
+		intHistogram.add(0);
+		intHistogram.add(-1);
+		intHistogram.add(Integer.MIN_VALUE);
+		assertThat(intHistogram.count(0)).isEqualTo(2L);
+		assertThat(intHistogram.count(-1)).isEqualTo(1L);
+		assertThat(intHistogram.count(Integer.MIN_VALUE)).isEqualTo(1L);
+		assertThat(intHistogram.count(1)).isZero();
+		assertThat(intHistogram.size()).isEqualTo(4L);
+	}
+
+	@Test
+	void testAddAndCountMany() {
+		final var intHistogram = new IntHistogram();
+		for (var i = 0; i < 1_000; ++i) {
+			for (var j = 0; j <= i % 3; ++j) {
+				intHistogram.add(i << 16);
+			}
+		}
+		for (var i = 0; i < 1_000; ++i) {
+			assertThat(intHistogram.count(i << 16)).isEqualTo(i % 3 + 1L);
+			assertThat(intHistogram.count((i << 16) + 1)).isZero();
+		}
+		assertThat(intHistogram.size()).isEqualTo(1_999L);
+	}
+
+	@Test
+	void testWriteAndRead() throws Exception {
+		final var intHistogram = new IntHistogram();
+		for (var i = 0; i < 1_000; ++i) {
+			for (var j = 0; j <= i % 3; ++j) {
+				intHistogram.add(i << 16);
+			}
+		}
+		final var outputStream = new ByteArrayOutputStream();
+		intHistogram.write(new DataOutputStream(outputStream));
+		final var readIntHistogram = new IntHistogram();
+		readIntHistogram.add(1);
+		readIntHistogram.read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+		for (var i = 0; i < 1_000; ++i) {
+			assertThat(readIntHistogram.count(i << 16)).isEqualTo(i % 3 + 1L);
+		}
+		assertThat(readIntHistogram.count(1)).isZero();
+		assertThat(readIntHistogram.size()).isEqualTo(1_999L);
+		readIntHistogram.add(1);
+		assertThat(readIntHistogram.count(1)).isEqualTo(1L);
+	}
+
+	@Test
+	void testReadInvalid() throws Exception {
+		final var outputStream = new ByteArrayOutputStream();
+		final var output = new DataOutputStream(outputStream);
+		output.writeInt(2);
+		output.writeInt(1);
+		output.writeLong(1L);
+		output.writeInt(1);
+		output.writeLong(1L);
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> new IntHistogram().read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())))
+		);
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> new IntHistogram().read(new DataInputStream(new ByteArrayInputStream(new byte[] {-1, -1, -1, -1})))
+		);
+	}
+
+	@Test
+	void testMerge() {
+		final var intHistogram = new IntHistogram();
+		final var otherIntHistogram = new IntHistogram();
+		for (var i = 0; i < 1_000; ++i) {
+			intHistogram.add(i);
+			otherIntHistogram.add(i + 500);
+		}
+		intHistogram.merge(otherIntHistogram);
+		assertThat(intHistogram.count(0)).isEqualTo(1L);
+		assertThat(intHistogram.count(500)).isEqualTo(2L);
+		assertThat(intHistogram.count(1_499)).isEqualTo(1L);
+		assertThat(intHistogram.count(1_500)).isZero();
+		assertThat(intHistogram.size()).isEqualTo(2_000L);
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
+
+final class ScoreAggregatorTest {
+
+	private static final Evaluator<String> EVALUATOR = value -> 1.0d;
+
+	@Test
+	void testMean() {
+		final var scoreAggregator = ScoreAggregator.mean();
+		assertThat(scoreAggregator.weight(EVALUATOR)).isEqualTo(1.0d);
+		assertThat(scoreAggregator.term(0.5d)).isEqualTo(0.5d);
+		assertThat(scoreAggregator.term(Double.NaN)).isNaN();
+		assertThat(scoreAggregator.aggregate(1.5d, 2.0d)).isEqualTo(0.75d);
+	}
+
+	@Test
+	void testWeightedMean() {
+		final var scoreAggregator = ScoreAggregator.weightedMean(evaluator -> EVALUATOR == evaluator ? 3.0d : 1.0d);
+		assertThat(scoreAggregator.weight(EVALUATOR)).isEqualTo(3.0d);
+		assertThat(scoreAggregator.weight(value -> 1.0d)).isEqualTo(1.0d);
+		assertThat(scoreAggregator.term(0.5d)).isEqualTo(0.5d);
+		assertThat(scoreAggregator.aggregate(3.0d * 0.5d + 1.0d, 4.0d)).isEqualTo(0.625d);
+	}
+
+	@Test
+	void testWeightedMeanInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> ScoreAggregator.weightedMean(null));
+	}
+
+	@Test
+	void testGeometricMean() {
+		final var scoreAggregator = ScoreAggregator.geometricMean();
+		assertThat(scoreAggregator.weight(EVALUATOR)).isEqualTo(1.0d);
+		assertThat(scoreAggregator.term(1.0d)).isZero();
+		assertThat(scoreAggregator.term(0.5d)).isEqualTo(StrictMath.log(0.5d));
+		assertThat(scoreAggregator.term(0.0d)).isEqualTo(StrictMath.log(Double.MIN_VALUE));
+		assertThat(scoreAggregator.term(Double.NaN)).isNaN();
+		assertThat(scoreAggregator.aggregate(StrictMath.log(0.25d) + StrictMath.log(0.04d), 2.0d))
+				.isCloseTo(0.1d, within(1.0e-12d));
+		assertThat(scoreAggregator.aggregate(StrictMath.log(Double.MIN_VALUE) * 1_000, 1_000.0d)).isPositive();
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.StreamCorruptedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+final class SlidingWindowTest {
+
+	private static final int BUCKET_SIZE = 2;
+
+	private static final int BUCKET_COUNT = 3;
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SlidingWindow(0, BUCKET_COUNT));
+		assertThatIllegalArgumentException().isThrownBy(() -> new SlidingWindow(BUCKET_SIZE, 0));
+	}
+
+	@Test
+	void testAddAndCount() {
+		final var slidingWindow = new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT);
+		assertThat(slidingWindow.count("foo")).isZero();
+		assertThat(slidingWindow.size()).isZero();
+		for (var i = 0; i < 6; ++i) {
+			slidingWindow.add("foo");
+		}
+		assertThat(slidingWindow.count("foo")).isEqualTo(6L);
+		assertThat(slidingWindow.size()).isEqualTo(6L);
+		slidingWindow.add("bar");
+		assertThat(slidingWindow.count("foo")).isEqualTo(4L);
+		assertThat(slidingWindow.count("bar")).isEqualTo(1L);
+		assertThat(slidingWindow.size()).isEqualTo(5L);
+		for (var i = 0; i < 5; ++i) {
+			slidingWindow.add("bar");
+		}
+		assertThat(slidingWindow.count("foo")).isZero();
+		assertThat(slidingWindow.count("bar")).isEqualTo(6L);
+		assertThat(slidingWindow.size()).isEqualTo(6L);
+		assertThat(slidingWindow.distinct()).isEqualTo(1L);
+	}
+
+	@Test
+	void testAddAndCountBounded() {
+		final var slidingWindow = new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT);
+		for (var i = 0; i < 10_000; ++i) {
+			slidingWindow.add(i);
+			assertThat(slidingWindow.size()).isLessThanOrEqualTo(BUCKET_SIZE * BUCKET_COUNT);
+			assertThat(slidingWindow.distinct()).isLessThanOrEqualTo(BUCKET_SIZE * BUCKET_COUNT);
+		}
+		assertThat(slidingWindow.count(9_999)).isEqualTo(1L);
+		assertThat(slidingWindow.count(0)).isZero();
+	}
+
+	@Test
+	void testWriteAndRead() throws Exception {
+		final var slidingWindow = new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT);
+		for (var i = 0; i < 7; ++i) {
+			slidingWindow.add(0 == i % 2 ? "foo" : "bar");
+		}
+		final var outputStream = new ByteArrayOutputStream();
+		slidingWindow.write(new DataOutputStream(outputStream));
+		final var readSlidingWindow = new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT);
+		readSlidingWindow.add("baz");
+		readSlidingWindow.read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+		assertThat(readSlidingWindow.count("foo")).isEqualTo(slidingWindow.count("foo"));
+		assertThat(readSlidingWindow.count("bar")).isEqualTo(slidingWindow.count("bar"));
+		assertThat(readSlidingWindow.count("baz")).isZero();
+		assertThat(readSlidingWindow.size()).isEqualTo(slidingWindow.size());
+		for (var i = 0; i < 3; ++i) {
+			slidingWindow.add("baz");
+			readSlidingWindow.add("baz");
+			assertThat(readSlidingWindow.count("foo")).isEqualTo(slidingWindow.count("foo"));
+			assertThat(readSlidingWindow.count("bar")).isEqualTo(slidingWindow.count("bar"));
+			assertThat(readSlidingWindow.count("baz")).isEqualTo(slidingWindow.count("baz"));
+			assertThat(readSlidingWindow.size()).isEqualTo(slidingWindow.size());
+		}
+	}
+
+	@Test
+	void testReadInvalid() throws Exception {
+		final var outputStream = new ByteArrayOutputStream();
+		new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT).write(new DataOutputStream(outputStream));
+		final var bytes = outputStream.toByteArray();
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> new SlidingWindow(BUCKET_SIZE + 1, BUCKET_COUNT)
+						.read(new DataInputStream(new ByteArrayInputStream(bytes)))
+		);
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT + 1)
+						.read(new DataInputStream(new ByteArrayInputStream(bytes)))
+		);
+	}
+
+	@Test
+	void testMerge() {
+		final var slidingWindow = new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT);
+		final var otherSlidingWindow = new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT);
+		for (var i = 0; i < 6; ++i) {
+			slidingWindow.add("foo");
+		}
+		otherSlidingWindow.add("bar");
+		slidingWindow.merge(otherSlidingWindow);
+		assertThat(slidingWindow.count("foo")).isEqualTo(6L);
+		assertThat(slidingWindow.count("bar")).isEqualTo(1L);
+		assertThat(slidingWindow.size()).isEqualTo(7L);
+		slidingWindow.add("baz");
+		assertThat(slidingWindow.count("foo")).isEqualTo(4L);
+		assertThat(slidingWindow.count("bar")).isEqualTo(1L);
+		assertThat(slidingWindow.size()).isEqualTo(6L);
+		for (var i = 0; i < 4; ++i) {
+			slidingWindow.add("baz");
+		}
+		assertThat(slidingWindow.count("foo")).isZero();
+		assertThat(slidingWindow.count("bar")).isZero();
+		assertThat(slidingWindow.count("baz")).isEqualTo(5L);
+	}
+
+	@Test
+	void testMergeWriteAndRead() throws Exception {
+		final var slidingWindow = new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT);
+		final var otherSlidingWindow = new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT);
+		for (var i = 0; i < 2; ++i) {
+			slidingWindow.add("foo");
+			otherSlidingWindow.add("bar");
+		}
+		slidingWindow.merge(otherSlidingWindow);
+		final var outputStream = new ByteArrayOutputStream();
+		slidingWindow.write(new DataOutputStream(outputStream));
+		final var readSlidingWindow = new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT);
+		readSlidingWindow.read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+		assertThat(readSlidingWindow.count("foo")).isEqualTo(2L);
+		assertThat(readSlidingWindow.count("bar")).isEqualTo(2L);
+		assertThat(readSlidingWindow.size()).isEqualTo(4L);
+		for (var i = 0; i < 5; ++i) {
+			slidingWindow.add("baz");
+			readSlidingWindow.add("baz");
+			assertThat(readSlidingWindow.count("foo")).isEqualTo(slidingWindow.count("foo"));
+			assertThat(readSlidingWindow.count("bar")).isEqualTo(slidingWindow.count("bar"));
+			assertThat(readSlidingWindow.count("baz")).isEqualTo(slidingWindow.count("baz"));
+			assertThat(readSlidingWindow.size()).isEqualTo(slidingWindow.size());
+		}
+	}
+
+	@Test
+	void testMergeInvalid() {
+		final var slidingWindow = new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT);
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> slidingWindow.merge(new SlidingWindow(BUCKET_SIZE, BUCKET_COUNT + 1)));
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import com.github.alexisjehan.javanilla.util.bag.MapBag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.NotSerializableException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+final class SnapshotsTest {
+
+	@Test
+	void testEnsure() {
+		assertThatExceptionOfType(StreamCorruptedException.class)
+				.isThrownBy(() -> Snapshots.ensure(false, "foo"))
+				.withMessage("foo");
+	}
+
+	@Test
+	void testReadKind() throws Exception {
+		Snapshots.readKind(new DataInputStream(new ByteArrayInputStream(new byte[] {1})), 1);
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> Snapshots.readKind(new DataInputStream(new ByteArrayInputStream(new byte[] {2})), 1)
+		);
+	}
+
+	@Test
+	void testReadCountInvalid() throws Exception {
+		final var outputStream = new ByteArrayOutputStream();
+		new DataOutputStream(outputStream).writeLong(0L);
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> Snapshots.readCount(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())))
+		);
+	}
+
+	@Test
+	void testWriteAndReadKey() throws Exception {
+		final var keys = Arrays.asList(
+				null,
+				"",
+				"fooé😀",
+				true,
+				'a',
+				(byte) 1,
+				(short) 2,
+				3,
+				4L,
+				5.0f,
+				6.0d
+		);
+		final var outputStream = new ByteArrayOutputStream();
+		final var output = new DataOutputStream(outputStream);
+		for (final var key : keys) {
+			Snapshots.writeKey(output, key);
+		}
+		final var input = new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray()));
+		for (final var key : keys) {
+			assertThat(Snapshots.readKey(input)).isEqualTo(key);
+		}
+		assertThat(input.available()).isZero();
+	}
+
+	@Test
+	void testWriteKeyInvalid() {
+		final var output = new DataOutputStream(new ByteArrayOutputStream());
+		assertThatExceptionOfType(NotSerializableException.class)
+				.isThrownBy(() -> Snapshots.writeKey(output, List.of()));
+		final var tooLongKey = "a".repeat((1 << 24) + 1);
+		assertThatExceptionOfType(NotSerializableException.class)
+				.isThrownBy(() -> Snapshots.writeKey(output, tooLongKey));
+	}
+
+	@Test
+	void testReadKeyInvalid() {
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> Snapshots.readKey(new DataInputStream(new ByteArrayInputStream(new byte[] {-1})))
+		);
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> Snapshots.readKey(new DataInputStream(new ByteArrayInputStream(new byte[] {1, -1, -1, -1, -1})))
+		);
+	}
+
+	@Test
+	void testReadKeyCorruptedStringLength() throws Exception {
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> Snapshots.readKey(new DataInputStream(new ByteArrayInputStream(new byte[] {1, 127, -1, -1, -1})))
+		);
+		final var outputStream = new ByteArrayOutputStream();
+		final var output = new DataOutputStream(outputStream);
+		output.writeByte(1);
+		output.writeInt(1 << 24);
+		output.write("foo".getBytes(StandardCharsets.UTF_8));
+		assertThatExceptionOfType(EOFException.class).isThrownBy(
+				() -> Snapshots.readKey(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())))
+		);
+		final var largeOutputStream = new ByteArrayOutputStream();
+		final var largeKey = "é".repeat(10_000);
+		Snapshots.writeKey(new DataOutputStream(largeOutputStream), largeKey);
+		assertThat(Snapshots.readKey(new DataInputStream(new ByteArrayInputStream(largeOutputStream.toByteArray()))))
+				.isEqualTo(largeKey);
+	}
+
+	@Test
+	void testWriteAndReadBag() throws Exception {
+		final var bag = new MapBag<Object>();
+		bag.add("foo", 2L);
+		bag.add(1);
+		bag.add(null);
+		final var outputStream = new ByteArrayOutputStream();
+		Snapshots.writeBag(new DataOutputStream(outputStream), bag);
+		final var readBag = new MapBag<Object>();
+		Snapshots.readBag(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())), readBag);
+		assertThat(readBag.toMap()).isEqualTo(bag.toMap());
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.api.evaluators;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.PatternSyntaxException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class ValidatorsTest {
+
+	@Test
+	void testPattern() {
+		final var validator = Validators.pattern("\\d{4}-\\d{2}");
+		assertThat(validator).accepts("2020-01", "0000-00");
+		assertThat(validator).rejects(Strings.EMPTY, "2020-1", "2020-01-01", "x2020-01");
+	}
+
+	@Test
+	void testPatternInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> Validators.pattern(null));
+		assertThatExceptionOfType(PatternSyntaxException.class).isThrownBy(() -> Validators.pattern("("));
+	}
+
+	@Test
+	void testNumeric() {
+		final var validator = Validators.numeric();
+		assertThat(validator).accepts("0", "42", "+42", "-42", "4.2", "-.5", "5.");
+		assertThat(validator).rejects(Strings.EMPTY, "+", "-", ".", "4.2.0", "4e2", "1 ", "foo", "--1");
+	}
+
+	@Test
+	void testIsoDate() {
+		final var validator = Validators.isoDate();
+		assertThat(validator).accepts("2020-01-01", "2020-02-29", "2000-02-29", "2019-12-31", "2019-04-30");
+		assertThat(validator).rejects(
+				Strings.EMPTY,
+				"2019-02-29",
+				"1900-02-29",
+				"2019-04-31",
+				"2019-13-01",
+				"2019-00-01",
+				"2019-01-00",
+				"2019-01-32",
+				"2019/01/01",
+				"2019-1-01",
+				"20x9-01-01",
+				"2019-01-01 "
+		);
+	}
+
+	@Test
+	void testLength() {
+		final var validator = Validators.length(1, 3);
+		assertThat(validator).accepts("a", "ab", "abc");
+		assertThat(validator).rejects(Strings.EMPTY, "abcd");
+	}
+
+	@Test
+	void testLengthInvalid() {
+		assertThatIllegalArgumentException().isThrownBy(() -> Validators.length(-1, 3));
+		assertThatIllegalArgumentException().isThrownBy(() -> Validators.length(3, 2));
+	}
+
+	@Test
+	void testOneOf() {
+		final var validator = Validators.oneOf(List.of("foo", "bar", "foo"));
+		assertThat(validator).accepts("foo", "bar");
+		assertThat(validator).rejects(Strings.EMPTY, "baz", "FOO");
+	}
+
+	@Test
+	void testOneOfInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> Validators.oneOf(null));
+		assertThatNullPointerException().isThrownBy(() -> Validators.oneOf(Collections.singleton(null)));
+		assertThatIllegalArgumentException().isThrownBy(() -> Validators.oneOf(Set.of()));
+	}
+}
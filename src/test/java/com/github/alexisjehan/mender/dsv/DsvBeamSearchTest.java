@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import com.github.alexisjehan.javanilla.lang.array.ObjectArrays;
+import com.github.alexisjehan.mender.api.evaluators.ConstraintEvaluator;
+import com.github.alexisjehan.mender.api.evaluators.EstimationEvaluator;
+import com.github.alexisjehan.mender.api.evaluators.Evaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class DsvBeamSearchTest {
+
+	private static final String DELIMITER = ",";
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvBeamSearch(null, 1, List.of(List.of(), List.of())));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DsvBeamSearch(DELIMITER, 0, List.of(List.of(), List.of())));
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvBeamSearch(DELIMITER, 1, null));
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvBeamSearch(DELIMITER, 1, Arrays.asList(List.of(), null)));
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvBeamSearch(DELIMITER, 1, List.of(List.of(), Collections.singletonList(null))));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DsvBeamSearch(DELIMITER, 1, List.of(List.of())));
+	}
+
+	@Test
+	void testSearchJoins() {
+		final var firstEstimationEvaluator = new EstimationEvaluator<String[]>(values -> values[0]);
+		firstEstimationEvaluator.fit(ObjectArrays.of("a", Strings.EMPTY, Strings.EMPTY));
+		final var secondEstimationEvaluator = new EstimationEvaluator<String[]>(values -> values[1]);
+		secondEstimationEvaluator.fit(ObjectArrays.of(Strings.EMPTY, "c", Strings.EMPTY));
+		final var thirdEstimationEvaluator = new EstimationEvaluator<String[]>(values -> values[1]);
+		thirdEstimationEvaluator.fit(ObjectArrays.of(Strings.EMPTY, "c", Strings.EMPTY));
+		final var columnEvaluators = List.<List<Evaluator<String[]>>>of(
+				List.of(firstEstimationEvaluator),
+				List.of(secondEstimationEvaluator, thirdEstimationEvaluator),
+				List.of()
+		);
+		assertThat(new DsvBeamSearch(DELIMITER, 1, columnEvaluators).search(ObjectArrays.of("a", "b", "c", "d")))
+				.containsExactly(
+						ObjectArrays.of("a", "b,c", "d")
+				);
+		assertThat(new DsvBeamSearch(DELIMITER, 2, columnEvaluators).search(ObjectArrays.of("a", "b", "c", "d")))
+				.containsExactly(
+						ObjectArrays.of("a,b", "c", "d"),
+						ObjectArrays.of("a", "b,c", "d")
+				);
+	}
+
+	@Test
+	void testSearchShifts() {
+		final var columnEvaluators = List.<List<Evaluator<String[]>>>of(
+				List.of(new ConstraintEvaluator<>(values -> values[0].startsWith("a"))),
+				List.of(),
+				List.of()
+		);
+		assertThat(new DsvBeamSearch(DELIMITER, 1, columnEvaluators).search(ObjectArrays.of("a", "b")))
+				.containsExactly(
+						ObjectArrays.of("a", Strings.EMPTY, "b")
+				);
+		assertThat(new DsvBeamSearch(DELIMITER, 3, columnEvaluators).search(ObjectArrays.of("a", "b")))
+				.containsExactly(
+						ObjectArrays.of("a", Strings.EMPTY, "b"),
+						ObjectArrays.of("a", "b", Strings.EMPTY)
+				);
+		assertThat(new DsvBeamSearch(DELIMITER, 3, columnEvaluators).search(ObjectArrays.of("b"))).isEmpty();
+	}
+
+	@Test
+	void testSearchInvalid() {
+		final var beamSearch = new DsvBeamSearch(
+				DELIMITER,
+				1,
+				List.<List<Evaluator<String[]>>>of(List.of(), List.of())
+		);
+		assertThatNullPointerException().isThrownBy(() -> beamSearch.search(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> beamSearch.search(ObjectArrays.of("a", "b")));
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class DsvBudgetTest {
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new DsvBudget(-1, null));
+		assertThatIllegalArgumentException().isThrownBy(() -> new DsvBudget(0, Duration.ZERO));
+		assertThatIllegalArgumentException().isThrownBy(() -> new DsvBudget(0, Duration.ofNanos(-1L)));
+		assertThatNullPointerException().isThrownBy(() -> new DsvBudget(0, null, null));
+	}
+
+	@Test
+	void testAcquireUnlimited() {
+		final var budget = new DsvBudget(0, null);
+		assertThat(budget.acquire(1)).isEqualTo(1);
+		assertThat(budget.acquire(Integer.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+		assertThat(budget.isExhausted()).isFalse();
+	}
+
+	@Test
+	void testAcquireMaxEvaluations() {
+		final var budget = new DsvBudget(5, null);
+		assertThat(budget.acquire(3)).isEqualTo(3);
+		assertThat(budget.isExhausted()).isFalse();
+		assertThat(budget.acquire(3)).isEqualTo(2);
+		assertThat(budget.isExhausted()).isFalse();
+		assertThat(budget.acquire(1)).isZero();
+		assertThat(budget.isExhausted()).isTrue();
+	}
+
+	@Test
+	void testAcquireTimeBudget() {
+		final var clock = new AtomicLong(-10L);
+		final var budget = new DsvBudget(0, Duration.ofNanos(10L), clock::get);
+		clock.addAndGet(9L);
+		assertThat(budget.acquire(5)).isEqualTo(5);
+		assertThat(budget.isExhausted()).isFalse();
+		clock.incrementAndGet();
+		assertThat(budget.acquire(5)).isZero();
+		assertThat(budget.isExhausted()).isTrue();
+		clock.set(-10L);
+		assertThat(budget.acquire(5)).isZero();
+	}
+
+	@Test
+	void testAcquireTimeBudgetOverflow() {
+		final var clock = new AtomicLong(Long.MAX_VALUE);
+		final var budget = new DsvBudget(0, Duration.ofDays(Long.MAX_VALUE / 86_400L), clock::get);
+		clock.set(Long.MIN_VALUE);
+		assertThat(budget.acquire(1)).isEqualTo(1);
+	}
+
+	@Test
+	void testIsElapsed() {
+		assertThat(new DsvBudget(1, null).isElapsed()).isFalse();
+		final var clock = new AtomicLong(-10L);
+		final var budget = new DsvBudget(0, Duration.ofNanos(10L), clock::get);
+		clock.addAndGet(9L);
+		assertThat(budget.isElapsed()).isFalse();
+		assertThat(budget.isExhausted()).isFalse();
+		clock.incrementAndGet();
+		assertThat(budget.isElapsed()).isTrue();
+		assertThat(budget.isExhausted()).isTrue();
+		assertThat(budget.acquire(1)).isZero();
+	}
+
+	@Test
+	void testAcquireInvalid() {
+		final var budget = new DsvBudget(0, null);
+		assertThatIllegalArgumentException().isThrownBy(() -> budget.acquire(0));
+	}
+}
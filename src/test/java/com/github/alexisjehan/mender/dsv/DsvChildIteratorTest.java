@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import com.github.alexisjehan.javanilla.lang.array.ObjectArrays;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class DsvChildIteratorTest {
+
+	private static final String DELIMITER = ",";
+
+	private static List<String[]> toList(final DsvChildIterator children) {
+		final var list = new ArrayList<String[]>();
+		while (children.hasNext()) {
+			list.add(children.next());
+		}
+		assertThat(children.hasNext()).isFalse();
+		return list;
+	}
+
+	@Test
+	void testOfJoins() {
+		assertThat(toList(DsvChildIterator.ofJoins(DELIMITER, ObjectArrays.of("a", "b", "c", "d"), 1))).containsExactly(
+				ObjectArrays.of("a,b", "c", "d"),
+				ObjectArrays.of("a", "b,c", "d"),
+				ObjectArrays.of("a", "b", "c,d")
+		);
+		assertThat(toList(DsvChildIterator.ofJoins(DELIMITER, ObjectArrays.of("a", "b", "c", "d"), 2))).containsExactly(
+				ObjectArrays.of("a,b,c", "d"),
+				ObjectArrays.of("a,b", "c,d"),
+				ObjectArrays.of("a", "b,c,d")
+		);
+		assertThat(toList(DsvChildIterator.ofJoins(DELIMITER, ObjectArrays.of("a", "b", "c", "d"), 3))).containsExactly(
+				ObjectArrays.of("a,b,c,d")
+		);
+	}
+
+	@Test
+	void testOfJoinsValidator() {
+		final var columns = new ArrayList<Integer>();
+		final var children = DsvChildIterator.ofJoins(
+				DELIMITER,
+				ObjectArrays.of("a", "b", "c", "d"),
+				2,
+				(child, column) -> {
+					columns.add(column);
+					return !child[column].startsWith("a,b");
+				}
+		);
+		assertThat(toList(children)).containsExactly(
+				ObjectArrays.of("a", "b,c,d")
+		);
+		assertThat(columns).containsExactly(0, 0, 0, 1);
+	}
+
+	@Test
+	void testOfJoinsInterrupted() {
+		final var parent = new String[200];
+		Arrays.fill(parent, "a");
+		final var calls = new AtomicInteger();
+		final DsvChildIterator.ColumnValidator validator = (child, column) -> {
+			calls.incrementAndGet();
+			return child.length - 1 != column;
+		};
+		assertThat(DsvChildIterator.ofJoins(DELIMITER, parent, 100, validator.interruptedBy(() -> true)).hasNext())
+				.isFalse();
+		assertThat(calls.get()).isLessThan(DsvChildIterator.INTERRUPTION_PERIOD);
+		assertThatNullPointerException().isThrownBy(() -> validator.interruptedBy(null));
+	}
+
+	@Test
+	void testOfJoinsInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> DsvChildIterator.ofJoins(null, ObjectArrays.of("a", "b"), 1));
+		assertThatNullPointerException()
+				.isThrownBy(() -> DsvChildIterator.ofJoins(DELIMITER, null, 1));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> DsvChildIterator.ofJoins(DELIMITER, ObjectArrays.of("a", "b"), 0));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> DsvChildIterator.ofJoins(DELIMITER, ObjectArrays.of("a", "b"), 2));
+		assertThatNullPointerException()
+				.isThrownBy(() -> DsvChildIterator.ofJoins(DELIMITER, ObjectArrays.of("a", "b"), 1, null));
+	}
+
+	@Test
+	void testOfShifts() {
+		assertThat(toList(DsvChildIterator.ofShifts(ObjectArrays.of("a", "b"), 1))).containsExactly(
+				ObjectArrays.of(Strings.EMPTY, "a", "b"),
+				ObjectArrays.of("a", Strings.EMPTY, "b"),
+				ObjectArrays.of("a", "b", Strings.EMPTY)
+		);
+		assertThat(toList(DsvChildIterator.ofShifts(ObjectArrays.of("a", "b"), 2))).containsExactly(
+				ObjectArrays.of(Strings.EMPTY, Strings.EMPTY, "a", "b"),
+				ObjectArrays.of(Strings.EMPTY, "a", Strings.EMPTY, "b"),
+				ObjectArrays.of(Strings.EMPTY, "a", "b", Strings.EMPTY),
+				ObjectArrays.of("a", Strings.EMPTY, Strings.EMPTY, "b"),
+				ObjectArrays.of("a", Strings.EMPTY, "b", Strings.EMPTY),
+				ObjectArrays.of("a", "b", Strings.EMPTY, Strings.EMPTY)
+		);
+	}
+
+	@Test
+	void testOfShiftsValidator() {
+		final var columns = new ArrayList<Integer>();
+		final var children = DsvChildIterator.ofShifts(
+				ObjectArrays.of("a", "b"),
+				2,
+				(child, column) -> {
+					columns.add(column);
+					return 0 != column || !child[column].isEmpty();
+				}
+		);
+		assertThat(toList(children)).containsExactly(
+				ObjectArrays.of("a", Strings.EMPTY, Strings.EMPTY, "b"),
+				ObjectArrays.of("a", Strings.EMPTY, "b", Strings.EMPTY),
+				ObjectArrays.of("a", "b", Strings.EMPTY, Strings.EMPTY)
+		);
+		assertThat(columns).containsExactly(0, 0, 1, 2, 3, 2, 3, 1, 2, 3);
+	}
+
+	@Test
+	void testOfShiftsInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> DsvChildIterator.ofShifts(null, 1));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> DsvChildIterator.ofShifts(ObjectArrays.of("a", "b"), 0));
+		assertThatNullPointerException()
+				.isThrownBy(() -> DsvChildIterator.ofShifts(ObjectArrays.of("a", "b"), 1, null));
+	}
+
+	@Test
+	void testOfJoinsThenShifts() {
+		final var children = DsvChildIterator.ofJoinsThenShifts(DELIMITER, ObjectArrays.of("a", "b", "c"));
+		assertThat(toList(children)).containsExactly(
+				ObjectArrays.of(Strings.EMPTY, "a,b", "c"),
+				ObjectArrays.of("a,b", Strings.EMPTY, "c"),
+				ObjectArrays.of("a,b", "c", Strings.EMPTY),
+				ObjectArrays.of(Strings.EMPTY, "a", "b,c"),
+				ObjectArrays.of("a", Strings.EMPTY, "b,c"),
+				ObjectArrays.of("a", "b,c", Strings.EMPTY)
+		);
+	}
+
+	@Test
+	void testOfJoinsThenShiftsValidator() {
+		final var children = DsvChildIterator.ofJoinsThenShifts(
+				DELIMITER,
+				ObjectArrays.of("a", "b", "c"),
+				(child, column) -> !child[column].isEmpty() || 2 == column
+		);
+		assertThat(toList(children)).containsExactly(
+				ObjectArrays.of("a,b", "c", Strings.EMPTY),
+				ObjectArrays.of("a", "b,c", Strings.EMPTY)
+		);
+		assertThat(
+				DsvChildIterator.ofJoinsThenShifts(DELIMITER, ObjectArrays.of("a", "b"), (child, column) -> false)
+		).isExhausted();
+	}
+
+	@Test
+	void testOfJoinsThenShiftsInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> DsvChildIterator.ofJoinsThenShifts(null, ObjectArrays.of("a", "b")));
+		assertThatNullPointerException()
+				.isThrownBy(() -> DsvChildIterator.ofJoinsThenShifts(DELIMITER, null));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> DsvChildIterator.ofJoinsThenShifts(DELIMITER, ObjectArrays.of("a")));
+		assertThatNullPointerException()
+				.isThrownBy(() -> DsvChildIterator.ofJoinsThenShifts(DELIMITER, ObjectArrays.of("a", "b"), null));
+	}
+
+	@Test
+	void testOf() {
+		final var children = List.of(ObjectArrays.of("a", "b"), ObjectArrays.of("c", "d"));
+		assertThat(toList(DsvChildIterator.of(children))).containsExactly(
+				ObjectArrays.of("a", "b"),
+				ObjectArrays.of("c", "d")
+		);
+		assertThat(DsvChildIterator.of(children).nextShared()).isSameAs(children.get(0));
+		assertThat(DsvChildIterator.of(children).next()).isNotSameAs(children.get(0));
+	}
+
+	@Test
+	void testOfInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> DsvChildIterator.of(null));
+	}
+
+	@Test
+	void testNextShared() {
+		final var children = DsvChildIterator.ofShifts(ObjectArrays.of("a"), 1);
+		final var first = children.nextShared();
+		assertThat(first).containsExactly(Strings.EMPTY, "a");
+		assertThat(children.hasNext()).isTrue();
+		final var second = children.nextShared();
+		assertThat(second).isSameAs(first).containsExactly("a", Strings.EMPTY);
+		assertThat(children.hasNext()).isFalse();
+		assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(children::nextShared);
+	}
+
+	@Test
+	void testNextInvalid() {
+		final var children = DsvChildIterator.ofJoins(DELIMITER, ObjectArrays.of("a", "b"), 1);
+		assertThat(children.next()).containsExactly("a,b");
+		assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(children::next);
+	}
+
+	@Test
+	void testJoin() {
+		final var values = ObjectArrays.of("a", Strings.EMPTY, "c");
+		assertThat(DsvChildIterator.join(DELIMITER, values, 0, 1)).isEqualTo("a");
+		assertThat(DsvChildIterator.join(DELIMITER, values, 0, 2)).isEqualTo("a,");
+		assertThat(DsvChildIterator.join(DELIMITER, values, 0, 3)).isEqualTo("a,,c");
+		assertThat(DsvChildIterator.join(DELIMITER, values, 1, 3)).isEqualTo(",c");
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.lang.array.ObjectArrays;
+import com.github.alexisjehan.mender.api.evaluators.ConstraintEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class DsvConstraintOrderTest {
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvConstraintOrder(null));
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvConstraintOrder(Collections.singletonList(null)));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DsvConstraintOrder(List.of(), 0, 1, 1));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DsvConstraintOrder(List.of(), 1, 0, 1));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DsvConstraintOrder(List.of(), 1, 1, 0));
+	}
+
+	@Test
+	void testIsValid() {
+		final var calls = new ArrayList<String>();
+		final var permissiveConstraintEvaluator = new ConstraintEvaluator<String[]>(values -> calls.add("permissive"));
+		final var selectiveConstraintEvaluator = new ConstraintEvaluator<String[]>(values -> {
+			calls.add("selective");
+			return "foo".equals(values[0]);
+		});
+		final var constraintOrder = new DsvConstraintOrder(
+				List.of(permissiveConstraintEvaluator, selectiveConstraintEvaluator),
+				1,
+				1,
+				2
+		);
+		assertThat(constraintOrder.isValid(ObjectArrays.of("foo"))).isTrue();
+		assertThat(calls).containsExactly("permissive", "selective");
+		assertThat(constraintOrder.getStatistics())
+				.extracting(DsvConstraintStatistics::getConstraintEvaluator)
+				.containsExactly(permissiveConstraintEvaluator, selectiveConstraintEvaluator);
+		calls.clear();
+		assertThat(constraintOrder.isValid(ObjectArrays.of("bar"))).isFalse();
+		assertThat(calls).containsExactly("permissive", "selective");
+		assertThat(constraintOrder.getStatistics()).satisfiesExactly(
+				statistics -> {
+					assertThat(statistics.getConstraintEvaluator()).isSameAs(selectiveConstraintEvaluator);
+					assertThat(statistics.getValidations()).isEqualTo(2L);
+					assertThat(statistics.getRejections()).isEqualTo(1L);
+				},
+				statistics -> {
+					assertThat(statistics.getConstraintEvaluator()).isSameAs(permissiveConstraintEvaluator);
+					assertThat(statistics.getValidations()).isEqualTo(2L);
+					assertThat(statistics.getRejections()).isZero();
+				}
+		);
+		calls.clear();
+		assertThat(constraintOrder.isValid(ObjectArrays.of("bar"))).isFalse();
+		assertThat(calls).containsExactly("selective", "permissive");
+	}
+
+	@Test
+	void testIsValidNotSampled() {
+		final var calls = new ArrayList<String>();
+		final var constraintOrder = new DsvConstraintOrder(
+				List.of(
+						new ConstraintEvaluator<>(values -> {
+							calls.add("first");
+							return "foo".equals(values[0]);
+						}),
+						new ConstraintEvaluator<>(values -> calls.add("second"))
+				),
+				Integer.MAX_VALUE,
+				1,
+				1
+		);
+		assertThat(constraintOrder.isValid(ObjectArrays.of("bar"))).isFalse();
+		assertThat(calls).containsExactly("first");
+		assertThat(constraintOrder.isValid(ObjectArrays.of("foo"))).isTrue();
+		assertThat(calls).containsExactly("first", "first", "second");
+	}
+
+	@Test
+	void testIsValidBatch() {
+		final var calls = new ArrayList<String>();
+		final var constraintEvaluator = new ConstraintEvaluator<String[]>(values -> {
+			calls.add(values[0]);
+			return "foo".equals(values[0]);
+		});
+		final var constraintOrder = new DsvConstraintOrder(List.of(constraintEvaluator), 2, 2, 1);
+		final var values = ObjectArrays.of("foo");
+		assertThat(constraintOrder.isValid(values)).isTrue();
+		values[0] = "bar";
+		assertThat(constraintOrder.isValid(values)).isFalse();
+		values[0] = "baz";
+		assertThat(constraintOrder.isValid(values)).isFalse();
+		assertThat(calls).containsExactly("foo", "bar", "baz");
+		assertThat(constraintOrder.getStatistics()).singleElement().satisfies(statistics -> {
+			assertThat(statistics.getValidations()).isZero();
+			assertThat(statistics.getRejections()).isZero();
+		});
+		calls.clear();
+		assertThat(constraintOrder.isValid(ObjectArrays.of("foo"))).isTrue();
+		assertThat(calls).containsExactly("bar", "foo");
+		assertThat(constraintOrder.getStatistics()).singleElement().satisfies(statistics -> {
+			assertThat(statistics.getValidations()).isEqualTo(2L);
+			assertThat(statistics.getRejections()).isEqualTo(1L);
+		});
+	}
+
+	@Test
+	void testIsValidEmpty() {
+		final var constraintOrder = new DsvConstraintOrder(List.of());
+		assertThat(constraintOrder.isValid(ObjectArrays.of("foo"))).isTrue();
+		assertThat(constraintOrder.getStatistics()).isEmpty();
+	}
+}
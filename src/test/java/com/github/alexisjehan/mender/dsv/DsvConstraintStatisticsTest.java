@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.mender.api.evaluators.ConstraintEvaluator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class DsvConstraintStatisticsTest {
+
+	private static final ConstraintEvaluator<String[]> CONSTRAINT_EVALUATOR = new ConstraintEvaluator<>(
+			values -> "foo".equals(values[0])
+	);
+
+	private static final long VALIDATIONS = 4L;
+
+	private static final long REJECTIONS = 2L;
+
+	private static final long NANOS = 100L;
+
+	private final DsvConstraintStatistics dsvConstraintStatistics = new DsvConstraintStatistics(
+			CONSTRAINT_EVALUATOR,
+			VALIDATIONS,
+			REJECTIONS,
+			NANOS
+	);
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvConstraintStatistics(null, VALIDATIONS, REJECTIONS, NANOS));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DsvConstraintStatistics(CONSTRAINT_EVALUATOR, -1L, REJECTIONS, NANOS));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DsvConstraintStatistics(CONSTRAINT_EVALUATOR, VALIDATIONS, -1L, NANOS));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DsvConstraintStatistics(CONSTRAINT_EVALUATOR, VALIDATIONS, 5L, NANOS));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DsvConstraintStatistics(CONSTRAINT_EVALUATOR, VALIDATIONS, REJECTIONS, -1L));
+	}
+
+	@Test
+	void testEqualsAndHashCodeAndToString() {
+		assertThat(dsvConstraintStatistics.equals(dsvConstraintStatistics)).isTrue();
+		assertThat(dsvConstraintStatistics).isNotEqualTo(new Object());
+		assertThat(new DsvConstraintStatistics(CONSTRAINT_EVALUATOR, VALIDATIONS, REJECTIONS, NANOS))
+				.satisfies(otherDsvConstraintStatistics -> {
+					assertThat(otherDsvConstraintStatistics).isNotSameAs(dsvConstraintStatistics);
+					assertThat(otherDsvConstraintStatistics).isEqualTo(dsvConstraintStatistics);
+					assertThat(otherDsvConstraintStatistics).hasSameHashCodeAs(dsvConstraintStatistics);
+					assertThat(otherDsvConstraintStatistics).hasToString(dsvConstraintStatistics.toString());
+				});
+		assertThat(new DsvConstraintStatistics(CONSTRAINT_EVALUATOR, VALIDATIONS, 1L, NANOS))
+				.satisfies(otherDsvConstraintStatistics -> {
+					assertThat(otherDsvConstraintStatistics).isNotSameAs(dsvConstraintStatistics);
+					assertThat(otherDsvConstraintStatistics).isNotEqualTo(dsvConstraintStatistics);
+					assertThat(otherDsvConstraintStatistics).doesNotHaveSameHashCodeAs(dsvConstraintStatistics);
+					assertThat(otherDsvConstraintStatistics).doesNotHaveToString(dsvConstraintStatistics.toString());
+				});
+		assertThat(new DsvConstraintStatistics(CONSTRAINT_EVALUATOR, VALIDATIONS, REJECTIONS, 200L))
+				.satisfies(otherDsvConstraintStatistics -> {
+					assertThat(otherDsvConstraintStatistics).isNotSameAs(dsvConstraintStatistics);
+					assertThat(otherDsvConstraintStatistics).isNotEqualTo(dsvConstraintStatistics);
+					assertThat(otherDsvConstraintStatistics).doesNotHaveSameHashCodeAs(dsvConstraintStatistics);
+					assertThat(otherDsvConstraintStatistics).doesNotHaveToString(dsvConstraintStatistics.toString());
+				});
+	}
+
+	@Test
+	void testGetters() {
+		assertThat(dsvConstraintStatistics.getConstraintEvaluator()).isSameAs(CONSTRAINT_EVALUATOR);
+		assertThat(dsvConstraintStatistics.getValidations()).isEqualTo(VALIDATIONS);
+		assertThat(dsvConstraintStatistics.getRejections()).isEqualTo(REJECTIONS);
+		assertThat(dsvConstraintStatistics.getNanos()).isEqualTo(NANOS);
+		assertThat(dsvConstraintStatistics.getMeanNanos()).isEqualTo(25.0d);
+		assertThat(dsvConstraintStatistics.getRejectionRatio()).isEqualTo(0.5d);
+		assertThat(dsvConstraintStatistics.getRank()).isEqualTo(50.0d);
+	}
+
+	@Test
+	void testGettersEmpty() {
+		final var emptyDsvConstraintStatistics = new DsvConstraintStatistics(CONSTRAINT_EVALUATOR, 0L, 0L, 0L);
+		assertThat(emptyDsvConstraintStatistics.getMeanNanos()).isNaN();
+		assertThat(emptyDsvConstraintStatistics.getRejectionRatio()).isNaN();
+		assertThat(emptyDsvConstraintStatistics.getRank()).isInfinite();
+	}
+}
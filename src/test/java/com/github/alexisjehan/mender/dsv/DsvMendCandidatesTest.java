@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.lang.array.ObjectArrays;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+final class DsvMendCandidatesTest {
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new DsvMendCandidates(-1));
+	}
+
+	@Test
+	void testAdd() {
+		final var candidates = new DsvMendCandidates(0);
+		assertThat(candidates.getBestCandidate()).isNull();
+		candidates.add(ObjectArrays.of("a"), Double.NaN);
+		candidates.add(ObjectArrays.of("b"), 1.0d);
+		candidates.add(ObjectArrays.of("c"), 2.0d);
+		candidates.add(ObjectArrays.of("c"), 2.0d);
+		candidates.add(ObjectArrays.of("d"), 2.0d);
+		assertThat(candidates.getCandidates()).containsExactlyInAnyOrder(
+				new DsvMendCandidate(ObjectArrays.of("a"), Double.NaN),
+				new DsvMendCandidate(ObjectArrays.of("b"), 1.0d),
+				new DsvMendCandidate(ObjectArrays.of("c"), 2.0d),
+				new DsvMendCandidate(ObjectArrays.of("d"), 2.0d)
+		);
+		assertThat(candidates.getBestCandidate()).isEqualTo(new DsvMendCandidate(ObjectArrays.of("c"), 2.0d));
+	}
+
+	@Test
+	void testAddBounded() {
+		final var candidates = new DsvMendCandidates(2);
+		candidates.add(ObjectArrays.of("a"), Double.NaN);
+		candidates.add(ObjectArrays.of("b"), 1.0d);
+		candidates.add(ObjectArrays.of("c"), 1.0d);
+		assertThat(candidates.getCandidates()).containsExactlyInAnyOrder(
+				new DsvMendCandidate(ObjectArrays.of("b"), 1.0d),
+				new DsvMendCandidate(ObjectArrays.of("c"), 1.0d)
+		);
+		candidates.add(ObjectArrays.of("d"), 1.0d);
+		candidates.add(ObjectArrays.of("e"), 0.5d);
+		candidates.add(ObjectArrays.of("f"), Double.NaN);
+		assertThat(candidates.getCandidates()).containsExactlyInAnyOrder(
+				new DsvMendCandidate(ObjectArrays.of("b"), 1.0d),
+				new DsvMendCandidate(ObjectArrays.of("c"), 1.0d)
+		);
+		candidates.add(ObjectArrays.of("g"), 2.0d);
+		candidates.add(ObjectArrays.of("g"), 2.0d);
+		assertThat(candidates.getCandidates()).containsExactlyInAnyOrder(
+				new DsvMendCandidate(ObjectArrays.of("b"), 1.0d),
+				new DsvMendCandidate(ObjectArrays.of("g"), 2.0d)
+		);
+		assertThat(candidates.getBestCandidate()).isEqualTo(new DsvMendCandidate(ObjectArrays.of("g"), 2.0d));
+	}
+
+	@Test
+	void testGetThreshold() {
+		final var candidates = new DsvMendCandidates(2);
+		assertThat(candidates.getThreshold()).isNaN();
+		candidates.add(ObjectArrays.of("a"), 1.0d);
+		assertThat(candidates.getThreshold()).isNaN();
+		candidates.add(ObjectArrays.of("b"), 2.0d);
+		assertThat(candidates.getThreshold()).isEqualTo(1.0d);
+		candidates.add(ObjectArrays.of("c"), 3.0d);
+		assertThat(candidates.getThreshold()).isEqualTo(2.0d);
+		assertThat(new DsvMendCandidates(0).getThreshold()).isNaN();
+	}
+
+	@Test
+	void testAddBest() {
+		final var candidates = new DsvMendCandidates(1);
+		candidates.add(ObjectArrays.of("a"), Double.NaN);
+		assertThat(candidates.getBestCandidate()).isNull();
+		candidates.add(ObjectArrays.of("b"), 1.0d);
+		candidates.add(ObjectArrays.of("c"), 1.0d);
+		assertThat(candidates.getCandidates()).containsExactly(new DsvMendCandidate(ObjectArrays.of("b"), 1.0d));
+		assertThat(candidates.getBestCandidate()).isEqualTo(new DsvMendCandidate(ObjectArrays.of("b"), 1.0d));
+	}
+}
@@ -132,6 +132,33 @@ final class DsvMendResultTest {
 			assertThat(otherDsvMendResult).doesNotHaveSameHashCodeAs(dsvMendResult);
 			assertThat(otherDsvMendResult).doesNotHaveToString(dsvMendResult.toString());
 		});
+		assertThat(
+				new DsvMendResult(
+						VALUE,
+						CANDIDATES,
+						BEST_CANDIDATE,
+						true
+				)
+		).satisfies(otherDsvMendResult -> {
+			assertThat(otherDsvMendResult).isNotSameAs(dsvMendResult);
+			assertThat(otherDsvMendResult).isNotEqualTo(dsvMendResult);
+			assertThat(otherDsvMendResult).doesNotHaveSameHashCodeAs(dsvMendResult);
+			assertThat(otherDsvMendResult).doesNotHaveToString(dsvMendResult.toString());
+		});
+		assertThat(
+				new DsvMendResult(
+						VALUE,
+						CANDIDATES,
+						BEST_CANDIDATE,
+						false,
+						true
+				)
+		).satisfies(otherDsvMendResult -> {
+			assertThat(otherDsvMendResult).isNotSameAs(dsvMendResult);
+			assertThat(otherDsvMendResult).isNotEqualTo(dsvMendResult);
+			assertThat(otherDsvMendResult).doesNotHaveSameHashCodeAs(dsvMendResult);
+			assertThat(otherDsvMendResult).doesNotHaveToString(dsvMendResult.toString());
+		});
 	}
 
 	@Test
@@ -139,6 +166,8 @@ final class DsvMendResultTest {
 		assertThat(dsvMendResult.getValue()).isEqualTo(VALUE);
 		assertThat(dsvMendResult.getCandidates()).isEqualTo(CANDIDATES);
 		assertThat(dsvMendResult.getBestCandidate()).isEqualTo(BEST_CANDIDATE);
+		assertThat(dsvMendResult.isBounded()).isFalse();
+		assertThat(dsvMendResult.isPartial()).isFalse();
 	}
 
 	@Test
@@ -26,10 +26,16 @@ package com.github.alexisjehan.mender.dsv;
 import com.github.alexisjehan.javanilla.lang.Strings;
 import com.github.alexisjehan.javanilla.lang.array.IntArrays;
 import com.github.alexisjehan.javanilla.lang.array.ObjectArrays;
+import com.github.alexisjehan.mender.api.evaluators.ScoreAggregator;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -43,6 +49,18 @@ final class DsvMenderBuilderTest {
 
 	private static final int MAX_DEPTH = 5;
 
+	private static final int BEAM_WIDTH = 10;
+
+	private static final int MAX_CANDIDATES = 1;
+
+	private static final Duration TIME_BUDGET = Duration.ofSeconds(1L);
+
+	private static final int MAX_EVALUATIONS = 100;
+
+	private static final int MAX_SEARCH_SIZE = 1_000;
+
+	private static final ScoreAggregator SCORE_AGGREGATOR = ScoreAggregator.geometricMean();
+
 	private static final Predicate<String> CONSTRAINT_VALIDATOR = "foo"::equals;
 
 	private static final int[] CONSTRAINT_INDEXES = IntArrays.singleton(0);
@@ -51,6 +69,18 @@ final class DsvMenderBuilderTest {
 
 	private static final int[] ESTIMATION_INDEXES = IntArrays.singleton(0);
 
+	private static final ToIntFunction<String> INT_ESTIMATION_TRANSFORMER = String::length;
+
+	private static final Predicate<String> BOOLEAN_ESTIMATION_TRANSFORMER = String::isEmpty;
+
+	private static final int SKETCH_WIDTH = 100;
+
+	private static final int SKETCH_DEPTH = 4;
+
+	private static final int WINDOW_BUCKET_SIZE = 1;
+
+	private static final int WINDOW_BUCKET_COUNT = 2;
+
 	@Test
 	void testDefaultMaxDepth() {
 		final var dsvMender = DsvMender.builder()
@@ -60,6 +90,70 @@ final class DsvMenderBuilderTest {
 		assertThat(dsvMender.getMaxDepth()).isEqualTo(DsvMender.Builder.DEFAULT_MAX_DEPTH);
 	}
 
+	@Test
+	void testDefaultBeamWidth() {
+		final var dsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.build();
+		assertThat(dsvMender.getBeamWidth()).isEqualTo(DsvMender.Builder.DEFAULT_BEAM_WIDTH);
+	}
+
+	@Test
+	void testDefaultSegmented() {
+		final var dsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.build();
+		assertThat(dsvMender.isSegmented()).isFalse();
+	}
+
+	@Test
+	void testDefaultMaxCandidates() {
+		final var dsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.build();
+		assertThat(dsvMender.getMaxCandidates()).isEqualTo(DsvMender.Builder.DEFAULT_MAX_CANDIDATES);
+	}
+
+	@Test
+	void testDefaultExecutor() {
+		final var dsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.build();
+		assertThat(dsvMender.getExecutor()).isEmpty();
+	}
+
+	@Test
+	void testDefaultBudget() {
+		final var dsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.build();
+		assertThat(dsvMender.getTimeBudget()).isEmpty();
+		assertThat(dsvMender.getMaxEvaluations()).isEqualTo(DsvMender.Builder.DEFAULT_MAX_EVALUATIONS);
+	}
+
+	@Test
+	void testDefaultMaxSearchSize() {
+		final var dsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.build();
+		assertThat(dsvMender.getMaxSearchSize()).isEqualTo(DsvMender.Builder.DEFAULT_MAX_SEARCH_SIZE);
+	}
+
+	@Test
+	void testDefaultScoreAggregator() {
+		final var dsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.build();
+		assertThat(dsvMender.getScoreAggregator()).isEmpty();
+	}
+
 	@Test
 	void testWithDelimiterChar() {
 		final var delimiterStep = DsvMender.builder();
@@ -101,6 +195,181 @@ final class DsvMenderBuilderTest {
 		assertThat(dsvMender.getMaxDepth()).isEqualTo(MAX_DEPTH);
 	}
 
+	@Test
+	void testWithBeamWidth() {
+		final var optionalBeamWidthStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withMaxDepth(MAX_DEPTH);
+		final var buildStep = optionalBeamWidthStep.withBeamWidth(BEAM_WIDTH);
+		assertThat(buildStep).isSameAs(optionalBeamWidthStep);
+		final var dsvMender = buildStep.build();
+		assertThat(dsvMender.getBeamWidth()).isEqualTo(BEAM_WIDTH);
+	}
+
+	@Test
+	void testWithBeamWidthInvalid() {
+		final var optionalBeamWidthStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalBeamWidthStep.withBeamWidth(0));
+	}
+
+	@Test
+	void testWithSegmentation() {
+		final var optionalBeamWidthStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withMaxDepth(MAX_DEPTH);
+		final var buildStep = optionalBeamWidthStep.withSegmentation();
+		assertThat(buildStep).isSameAs(optionalBeamWidthStep);
+		final var dsvMender = buildStep.build();
+		assertThat(dsvMender.isSegmented()).isTrue();
+	}
+
+	@Test
+	void testWithMaxCandidates() {
+		final var optionalMaxCandidatesStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withMaxDepth(MAX_DEPTH)
+				.withBeamWidth(BEAM_WIDTH);
+		final var buildStep = optionalMaxCandidatesStep.withMaxCandidates(MAX_CANDIDATES);
+		assertThat(buildStep).isSameAs(optionalMaxCandidatesStep);
+		final var dsvMender = buildStep.build();
+		assertThat(dsvMender.getMaxCandidates()).isEqualTo(MAX_CANDIDATES);
+	}
+
+	@Test
+	void testWithMaxCandidatesInvalid() {
+		final var optionalMaxCandidatesStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalMaxCandidatesStep.withMaxCandidates(0));
+	}
+
+	@Test
+	void testWithParallelism() {
+		final var optionalExecutorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withMaxDepth(MAX_DEPTH)
+				.withBeamWidth(BEAM_WIDTH)
+				.withMaxCandidates(MAX_CANDIDATES);
+		final var buildStep = optionalExecutorStep.withParallelism();
+		assertThat(buildStep).isSameAs(optionalExecutorStep);
+		final var dsvMender = buildStep.build();
+		assertThat(dsvMender.getExecutor()).contains(ForkJoinPool.commonPool());
+	}
+
+	@Test
+	void testWithExecutor() {
+		final var optionalExecutorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final Executor executor = Runnable::run;
+		final var buildStep = optionalExecutorStep.withExecutor(executor);
+		assertThat(buildStep).isSameAs(optionalExecutorStep);
+		final var dsvMender = buildStep.build();
+		assertThat(dsvMender.getExecutor()).contains(executor);
+	}
+
+	@Test
+	void testWithExecutorInvalid() {
+		final var optionalExecutorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatNullPointerException()
+				.isThrownBy(() -> optionalExecutorStep.withExecutor(null));
+	}
+
+	@Test
+	void testWithTimeBudget() {
+		final var optionalBudgetStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withParallelism();
+		final var buildStep = optionalBudgetStep.withTimeBudget(TIME_BUDGET);
+		assertThat(buildStep).isSameAs(optionalBudgetStep);
+		final var dsvMender = buildStep.build();
+		assertThat(dsvMender.getTimeBudget()).contains(TIME_BUDGET);
+	}
+
+	@Test
+	void testWithTimeBudgetInvalid() {
+		final var optionalBudgetStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatNullPointerException()
+				.isThrownBy(() -> optionalBudgetStep.withTimeBudget(null));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalBudgetStep.withTimeBudget(Duration.ZERO));
+	}
+
+	@Test
+	void testWithMaxEvaluations() {
+		final var optionalBudgetStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withTimeBudget(TIME_BUDGET);
+		final var buildStep = optionalBudgetStep.withMaxEvaluations(MAX_EVALUATIONS);
+		assertThat(buildStep).isSameAs(optionalBudgetStep);
+		final var dsvMender = buildStep.build();
+		assertThat(dsvMender.getTimeBudget()).contains(TIME_BUDGET);
+		assertThat(dsvMender.getMaxEvaluations()).isEqualTo(MAX_EVALUATIONS);
+	}
+
+	@Test
+	void testWithMaxEvaluationsInvalid() {
+		final var optionalBudgetStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalBudgetStep.withMaxEvaluations(0));
+	}
+
+	@Test
+	void testWithMaxSearchSize() {
+		final var optionalMaxSearchSizeStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final var buildStep = optionalMaxSearchSizeStep.withMaxSearchSize(MAX_SEARCH_SIZE);
+		assertThat(buildStep).isSameAs(optionalMaxSearchSizeStep);
+		final var dsvMender = buildStep.build();
+		assertThat(dsvMender.getMaxSearchSize()).isEqualTo(MAX_SEARCH_SIZE);
+	}
+
+	@Test
+	void testWithMaxSearchSizeInvalid() {
+		final var optionalMaxSearchSizeStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalMaxSearchSizeStep.withMaxSearchSize(0));
+	}
+
+	@Test
+	void testWithScoreAggregator() {
+		final var optionalScoreAggregatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final var buildStep = optionalScoreAggregatorStep.withScoreAggregator(SCORE_AGGREGATOR);
+		assertThat(buildStep).isSameAs(optionalScoreAggregatorStep);
+		final var dsvMender = buildStep.build();
+		assertThat(dsvMender.getScoreAggregator()).hasValue(SCORE_AGGREGATOR);
+	}
+
+	@Test
+	void testWithScoreAggregatorInvalid() {
+		final var optionalScoreAggregatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatNullPointerException()
+				.isThrownBy(() -> optionalScoreAggregatorStep.withScoreAggregator(null));
+	}
+
 	@Test
 	void testWithConstraint() {
 		final var optionalEvaluatorStep = DsvMender.builder()
@@ -158,6 +427,139 @@ final class DsvMenderBuilderTest {
 				.isThrownBy(() -> optionalEvaluatorStep.withConstraint(CONSTRAINT_VALIDATOR, LENGTH));
 	}
 
+	@Test
+	void testWithPatternConstraint() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThat(optionalEvaluatorStep.withPatternConstraint("fo+")).isSameAs(optionalEvaluatorStep);
+		assertThat(optionalEvaluatorStep.withPatternConstraint("f.o", CONSTRAINT_INDEXES)).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = optionalEvaluatorStep.build();
+		final var constraintEvaluators = dsvMender.getConstraintEvaluators();
+		assertThat(constraintEvaluators).hasSize(dsvMender.getLength() + 1);
+		for (final var constraintEvaluator : constraintEvaluators) {
+			assertThat(constraintEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isEqualTo(1.0d);
+			assertThat(constraintEvaluator.evaluate(ObjectArrays.of("bar", "bar", "bar")))
+					.isNaN();
+		}
+	}
+
+	@Test
+	void testWithPatternConstraintInvalid() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatNullPointerException()
+				.isThrownBy(() -> optionalEvaluatorStep.withPatternConstraint(null));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withPatternConstraint("("));
+		assertThatNullPointerException()
+				.isThrownBy(() -> optionalEvaluatorStep.withPatternConstraint("foo", (int[]) null));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withPatternConstraint("foo", LENGTH));
+	}
+
+	@Test
+	void testWithNumericConstraint() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThat(optionalEvaluatorStep.withNumericConstraint()).isSameAs(optionalEvaluatorStep);
+		assertThat(optionalEvaluatorStep.withNumericConstraint(CONSTRAINT_INDEXES)).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = optionalEvaluatorStep.build();
+		final var constraintEvaluators = dsvMender.getConstraintEvaluators();
+		assertThat(constraintEvaluators).hasSize(dsvMender.getLength() + 1);
+		for (final var constraintEvaluator : constraintEvaluators) {
+			assertThat(constraintEvaluator.evaluate(ObjectArrays.of("-1.5", "2", "3")))
+					.isEqualTo(1.0d);
+			assertThat(constraintEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isNaN();
+		}
+	}
+
+	@Test
+	void testWithDateConstraint() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThat(optionalEvaluatorStep.withDateConstraint()).isSameAs(optionalEvaluatorStep);
+		assertThat(optionalEvaluatorStep.withDateConstraint(CONSTRAINT_INDEXES)).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = optionalEvaluatorStep.build();
+		final var constraintEvaluators = dsvMender.getConstraintEvaluators();
+		assertThat(constraintEvaluators).hasSize(dsvMender.getLength() + 1);
+		for (final var constraintEvaluator : constraintEvaluators) {
+			assertThat(constraintEvaluator.evaluate(ObjectArrays.of("2020-02-29", "2020-02-29", "2020-02-29")))
+					.isEqualTo(1.0d);
+			assertThat(constraintEvaluator.evaluate(ObjectArrays.of("2019-02-29", "2019-02-29", "2019-02-29")))
+					.isNaN();
+		}
+	}
+
+	@Test
+	void testWithLengthConstraint() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThat(optionalEvaluatorStep.withLengthConstraint(1, 3)).isSameAs(optionalEvaluatorStep);
+		assertThat(optionalEvaluatorStep.withLengthConstraint(3, 3, CONSTRAINT_INDEXES))
+				.isSameAs(optionalEvaluatorStep);
+		final var dsvMender = optionalEvaluatorStep.build();
+		final var constraintEvaluators = dsvMender.getConstraintEvaluators();
+		assertThat(constraintEvaluators).hasSize(dsvMender.getLength() + 1);
+		for (final var constraintEvaluator : constraintEvaluators) {
+			assertThat(constraintEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isEqualTo(1.0d);
+			assertThat(constraintEvaluator.evaluate(ObjectArrays.of("fooo", "fooo", "fooo")))
+					.isNaN();
+		}
+	}
+
+	@Test
+	void testWithLengthConstraintInvalid() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withLengthConstraint(-1, 3));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withLengthConstraint(3, 2));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withLengthConstraint(1, 3, IntArrays.EMPTY));
+	}
+
+	@Test
+	void testWithEnumConstraint() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThat(optionalEvaluatorStep.withEnumConstraint(Set.of("foo", "bar"))).isSameAs(optionalEvaluatorStep);
+		assertThat(optionalEvaluatorStep.withEnumConstraint(Set.of("foo"), CONSTRAINT_INDEXES))
+				.isSameAs(optionalEvaluatorStep);
+		final var dsvMender = optionalEvaluatorStep.build();
+		final var constraintEvaluators = dsvMender.getConstraintEvaluators();
+		assertThat(constraintEvaluators).hasSize(dsvMender.getLength() + 1);
+		for (final var constraintEvaluator : constraintEvaluators) {
+			assertThat(constraintEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isEqualTo(1.0d);
+			assertThat(constraintEvaluator.evaluate(ObjectArrays.of("baz", "baz", "baz")))
+					.isNaN();
+		}
+	}
+
+	@Test
+	void testWithEnumConstraintInvalid() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatNullPointerException()
+				.isThrownBy(() -> optionalEvaluatorStep.withEnumConstraint(null));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withEnumConstraint(Set.of()));
+		assertThatNullPointerException()
+				.isThrownBy(() -> optionalEvaluatorStep.withEnumConstraint(Set.of("foo"), (int[]) null));
+	}
+
 	@Test
 	void testWithEstimation() {
 		final var optionalEvaluatorStep = DsvMender.builder()
@@ -243,6 +645,399 @@ final class DsvMenderBuilderTest {
 				.isThrownBy(() -> optionalEvaluatorStep.withEstimation(ESTIMATION_TRANSFORMER, LENGTH));
 	}
 
+	@Test
+	void testWithConcurrentEstimation() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final var buildStep = optionalEvaluatorStep.withConcurrentEstimation(ESTIMATION_TRANSFORMER);
+		assertThat(buildStep).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = buildStep.build();
+		final var estimationEvaluators = dsvMender.getEstimationEvaluators();
+		assertThat(estimationEvaluators).hasSize(dsvMender.getLength());
+		for (final var estimationEvaluator : estimationEvaluators) {
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isNaN();
+			estimationEvaluator.fit(ObjectArrays.of("foo", "foo", "foo"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isEqualTo(1.0d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "bar", "bar")))
+					.isZero();
+			estimationEvaluator.fit(ObjectArrays.of("bar", "bar", "bar"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isEqualTo(0.5d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "bar", "bar")))
+					.isEqualTo(0.5d);
+		}
+	}
+
+	@Test
+	void testWithConcurrentEstimationIndexes() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final var buildStep = optionalEvaluatorStep.withConcurrentEstimation(
+				ESTIMATION_TRANSFORMER,
+				ESTIMATION_INDEXES
+		);
+		assertThat(buildStep).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = buildStep.build();
+		final var estimationEvaluators = dsvMender.getEstimationEvaluators();
+		assertThat(estimationEvaluators).hasSize(1);
+		for (final var estimationEvaluator : estimationEvaluators) {
+			estimationEvaluator.fit(ObjectArrays.of("foo", "bar", "bar"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isEqualTo(1.0d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "foo", "foo")))
+					.isZero();
+		}
+	}
+
+	@Test
+	void testWithConcurrentEstimationInvalid() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatNullPointerException()
+				.isThrownBy(() -> optionalEvaluatorStep.withConcurrentEstimation(null));
+		assertThatNullPointerException().isThrownBy(
+				() -> optionalEvaluatorStep.withConcurrentEstimation(ESTIMATION_TRANSFORMER, (int[]) null)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> optionalEvaluatorStep.withConcurrentEstimation(ESTIMATION_TRANSFORMER, IntArrays.EMPTY)
+		);
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withConcurrentEstimation(ESTIMATION_TRANSFORMER, -1));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withConcurrentEstimation(ESTIMATION_TRANSFORMER, LENGTH));
+	}
+
+	@Test
+	void testWithSketchEstimation() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final var buildStep = optionalEvaluatorStep.withSketchEstimation(
+				ESTIMATION_TRANSFORMER,
+				SKETCH_WIDTH,
+				SKETCH_DEPTH
+		);
+		assertThat(buildStep).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = buildStep.build();
+		final var estimationEvaluators = dsvMender.getEstimationEvaluators();
+		assertThat(estimationEvaluators).hasSize(dsvMender.getLength());
+		for (final var estimationEvaluator : estimationEvaluators) {
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isNaN();
+			estimationEvaluator.fit(ObjectArrays.of("foo", "foo", "foo"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isEqualTo(1.0d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "bar", "bar")))
+					.isZero();
+			estimationEvaluator.fit(ObjectArrays.of("bar", "bar", "bar"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isEqualTo(0.5d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "bar", "bar")))
+					.isEqualTo(0.5d);
+		}
+	}
+
+	@Test
+	void testWithSketchEstimationIndexes() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final var buildStep = optionalEvaluatorStep.withSketchEstimation(
+				ESTIMATION_TRANSFORMER,
+				SKETCH_WIDTH,
+				SKETCH_DEPTH,
+				ESTIMATION_INDEXES
+		);
+		assertThat(buildStep).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = buildStep.build();
+		final var estimationEvaluators = dsvMender.getEstimationEvaluators();
+		assertThat(estimationEvaluators).hasSize(1);
+		for (final var estimationEvaluator : estimationEvaluators) {
+			estimationEvaluator.fit(ObjectArrays.of("foo", "bar", "bar"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isEqualTo(1.0d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "foo", "foo")))
+					.isZero();
+		}
+	}
+
+	@Test
+	void testWithSketchEstimationInvalid() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatNullPointerException()
+				.isThrownBy(() -> optionalEvaluatorStep.withSketchEstimation(null, SKETCH_WIDTH, SKETCH_DEPTH));
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> optionalEvaluatorStep.withSketchEstimation(ESTIMATION_TRANSFORMER, 0, SKETCH_DEPTH)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> optionalEvaluatorStep.withSketchEstimation(ESTIMATION_TRANSFORMER, SKETCH_WIDTH, 0)
+		);
+		assertThatNullPointerException().isThrownBy(
+				() -> optionalEvaluatorStep.withSketchEstimation(
+						ESTIMATION_TRANSFORMER,
+						SKETCH_WIDTH,
+						SKETCH_DEPTH,
+						(int[]) null
+				)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> optionalEvaluatorStep.withSketchEstimation(
+						ESTIMATION_TRANSFORMER,
+						SKETCH_WIDTH,
+						SKETCH_DEPTH,
+						IntArrays.EMPTY
+				)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> optionalEvaluatorStep.withSketchEstimation(ESTIMATION_TRANSFORMER, SKETCH_WIDTH, SKETCH_DEPTH, -1)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> optionalEvaluatorStep.withSketchEstimation(
+						ESTIMATION_TRANSFORMER,
+						SKETCH_WIDTH,
+						SKETCH_DEPTH,
+						LENGTH
+				)
+		);
+	}
+
+	@Test
+	void testWithWindowEstimation() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final var buildStep = optionalEvaluatorStep.withWindowEstimation(
+				ESTIMATION_TRANSFORMER,
+				WINDOW_BUCKET_SIZE,
+				WINDOW_BUCKET_COUNT
+		);
+		assertThat(buildStep).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = buildStep.build();
+		final var estimationEvaluators = dsvMender.getEstimationEvaluators();
+		assertThat(estimationEvaluators).hasSize(dsvMender.getLength());
+		for (final var estimationEvaluator : estimationEvaluators) {
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isNaN();
+			estimationEvaluator.fit(ObjectArrays.of("foo", "foo", "foo"));
+			estimationEvaluator.fit(ObjectArrays.of("bar", "bar", "bar"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isEqualTo(0.5d);
+			estimationEvaluator.fit(ObjectArrays.of("bar", "bar", "bar"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isZero();
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "bar", "bar")))
+					.isEqualTo(1.0d);
+		}
+	}
+
+	@Test
+	void testWithWindowEstimationIndexes() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final var buildStep = optionalEvaluatorStep.withWindowEstimation(
+				ESTIMATION_TRANSFORMER,
+				WINDOW_BUCKET_SIZE,
+				WINDOW_BUCKET_COUNT,
+				ESTIMATION_INDEXES
+		);
+		assertThat(buildStep).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = buildStep.build();
+		final var estimationEvaluators = dsvMender.getEstimationEvaluators();
+		assertThat(estimationEvaluators).hasSize(1);
+		for (final var estimationEvaluator : estimationEvaluators) {
+			estimationEvaluator.fit(ObjectArrays.of("foo", "bar", "bar"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isEqualTo(1.0d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "foo", "foo")))
+					.isZero();
+		}
+	}
+
+	@Test
+	void testWithWindowEstimationInvalid() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatNullPointerException().isThrownBy(
+				() -> optionalEvaluatorStep.withWindowEstimation(null, WINDOW_BUCKET_SIZE, WINDOW_BUCKET_COUNT)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> optionalEvaluatorStep.withWindowEstimation(ESTIMATION_TRANSFORMER, 0, WINDOW_BUCKET_COUNT)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> optionalEvaluatorStep.withWindowEstimation(ESTIMATION_TRANSFORMER, WINDOW_BUCKET_SIZE, 0)
+		);
+		assertThatNullPointerException().isThrownBy(
+				() -> optionalEvaluatorStep.withWindowEstimation(
+						ESTIMATION_TRANSFORMER,
+						WINDOW_BUCKET_SIZE,
+						WINDOW_BUCKET_COUNT,
+						(int[]) null
+				)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> optionalEvaluatorStep.withWindowEstimation(
+						ESTIMATION_TRANSFORMER,
+						WINDOW_BUCKET_SIZE,
+						WINDOW_BUCKET_COUNT,
+						IntArrays.EMPTY
+				)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> optionalEvaluatorStep.withWindowEstimation(
+						ESTIMATION_TRANSFORMER,
+						WINDOW_BUCKET_SIZE,
+						WINDOW_BUCKET_COUNT,
+						-1
+				)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> optionalEvaluatorStep.withWindowEstimation(
+						ESTIMATION_TRANSFORMER,
+						WINDOW_BUCKET_SIZE,
+						WINDOW_BUCKET_COUNT,
+						LENGTH
+				)
+		);
+	}
+
+	@Test
+	void testWithIntEstimation() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final var buildStep = optionalEvaluatorStep.withIntEstimation(INT_ESTIMATION_TRANSFORMER);
+		assertThat(buildStep).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = buildStep.build();
+		final var estimationEvaluators = dsvMender.getEstimationEvaluators();
+		assertThat(estimationEvaluators).hasSize(dsvMender.getLength());
+		for (final var estimationEvaluator : estimationEvaluators) {
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isNaN();
+			estimationEvaluator.fit(ObjectArrays.of("foo", "foo", "foo"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "bar", "bar")))
+					.isEqualTo(1.0d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("fooo", "fooo", "fooo")))
+					.isZero();
+			estimationEvaluator.fit(ObjectArrays.of("fooo", "fooo", "fooo"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "bar", "bar")))
+					.isEqualTo(0.5d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("fooo", "fooo", "fooo")))
+					.isEqualTo(0.5d);
+		}
+	}
+
+	@Test
+	void testWithIntEstimationIndexes() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final var buildStep = optionalEvaluatorStep.withIntEstimation(INT_ESTIMATION_TRANSFORMER, ESTIMATION_INDEXES);
+		assertThat(buildStep).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = buildStep.build();
+		final var estimationEvaluators = dsvMender.getEstimationEvaluators();
+		assertThat(estimationEvaluators).hasSize(1);
+		for (final var estimationEvaluator : estimationEvaluators) {
+			estimationEvaluator.fit(ObjectArrays.of("foo", "fooo", "fooo"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "foo", "foo")))
+					.isEqualTo(1.0d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("fooo", "foo", "foo")))
+					.isZero();
+		}
+	}
+
+	@Test
+	void testWithIntEstimationInvalid() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatNullPointerException()
+				.isThrownBy(() -> optionalEvaluatorStep.withIntEstimation(null));
+		assertThatNullPointerException()
+				.isThrownBy(() -> optionalEvaluatorStep.withIntEstimation(INT_ESTIMATION_TRANSFORMER, (int[]) null));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withIntEstimation(INT_ESTIMATION_TRANSFORMER, IntArrays.EMPTY));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withIntEstimation(INT_ESTIMATION_TRANSFORMER, -1));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withIntEstimation(INT_ESTIMATION_TRANSFORMER, LENGTH));
+	}
+
+	@Test
+	void testWithBooleanEstimation() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final var buildStep = optionalEvaluatorStep.withBooleanEstimation(BOOLEAN_ESTIMATION_TRANSFORMER);
+		assertThat(buildStep).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = buildStep.build();
+		final var estimationEvaluators = dsvMender.getEstimationEvaluators();
+		assertThat(estimationEvaluators).hasSize(dsvMender.getLength());
+		for (final var estimationEvaluator : estimationEvaluators) {
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
+					.isNaN();
+			estimationEvaluator.fit(ObjectArrays.of("foo", "foo", "foo"));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "bar", "bar")))
+					.isEqualTo(1.0d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of(Strings.EMPTY, Strings.EMPTY, Strings.EMPTY)))
+					.isZero();
+			estimationEvaluator.fit(ObjectArrays.of(Strings.EMPTY, Strings.EMPTY, Strings.EMPTY));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", "bar", "bar")))
+					.isEqualTo(0.5d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of(Strings.EMPTY, Strings.EMPTY, Strings.EMPTY)))
+					.isEqualTo(0.5d);
+		}
+	}
+
+	@Test
+	void testWithBooleanEstimationIndexes() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		final var buildStep = optionalEvaluatorStep.withBooleanEstimation(
+				BOOLEAN_ESTIMATION_TRANSFORMER,
+				ESTIMATION_INDEXES
+		);
+		assertThat(buildStep).isSameAs(optionalEvaluatorStep);
+		final var dsvMender = buildStep.build();
+		final var estimationEvaluators = dsvMender.getEstimationEvaluators();
+		assertThat(estimationEvaluators).hasSize(1);
+		for (final var estimationEvaluator : estimationEvaluators) {
+			estimationEvaluator.fit(ObjectArrays.of("foo", Strings.EMPTY, Strings.EMPTY));
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of("bar", Strings.EMPTY, Strings.EMPTY)))
+					.isEqualTo(1.0d);
+			assertThat(estimationEvaluator.evaluate(ObjectArrays.of(Strings.EMPTY, "foo", "foo")))
+					.isZero();
+		}
+	}
+
+	@Test
+	void testWithBooleanEstimationInvalid() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH);
+		assertThatNullPointerException()
+				.isThrownBy(() -> optionalEvaluatorStep.withBooleanEstimation(null));
+		assertThatNullPointerException().isThrownBy(
+				() -> optionalEvaluatorStep.withBooleanEstimation(BOOLEAN_ESTIMATION_TRANSFORMER, (int[]) null)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> optionalEvaluatorStep.withBooleanEstimation(BOOLEAN_ESTIMATION_TRANSFORMER, IntArrays.EMPTY)
+		);
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withBooleanEstimation(BOOLEAN_ESTIMATION_TRANSFORMER, -1));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> optionalEvaluatorStep.withBooleanEstimation(BOOLEAN_ESTIMATION_TRANSFORMER, LENGTH));
+	}
+
 	@Test
 	void testBasic() {
 		assertThat(DsvMender.basic(Strings.toChar(DELIMITER), LENGTH)).satisfies(dsvMender -> {
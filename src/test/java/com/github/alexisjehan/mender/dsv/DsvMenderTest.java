@@ -28,11 +28,25 @@ import com.github.alexisjehan.javanilla.lang.array.ObjectArrays;
 import com.github.alexisjehan.mender.api.MendException;
 import com.github.alexisjehan.mender.api.evaluators.ConstraintEvaluator;
 import com.github.alexisjehan.mender.api.evaluators.EstimationEvaluator;
+import com.github.alexisjehan.mender.api.evaluators.ScoreAggregator;
+import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.StreamCorruptedException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -129,6 +143,100 @@ final class DsvMenderTest {
 						Collections.singleton(null)
 				)
 		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new DsvMender(
+						DELIMITER,
+						LENGTH,
+						MAX_DEPTH,
+						-1,
+						false,
+						0,
+						null,
+						null,
+						0,
+						0,
+						null,
+						CONSTRAINT_EVALUATORS_GENERATOR.get(),
+						ESTIMATION_EVALUATORS_GENERATOR.get()
+				)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new DsvMender(
+						DELIMITER,
+						LENGTH,
+						MAX_DEPTH,
+						0,
+						false,
+						-1,
+						null,
+						null,
+						0,
+						0,
+						null,
+						CONSTRAINT_EVALUATORS_GENERATOR.get(),
+						ESTIMATION_EVALUATORS_GENERATOR.get()
+				)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new DsvMender(
+						DELIMITER,
+						LENGTH,
+						MAX_DEPTH,
+						0,
+						false,
+						0,
+						null,
+						Duration.ZERO,
+						0,
+						0,
+						null,
+						CONSTRAINT_EVALUATORS_GENERATOR.get(),
+						ESTIMATION_EVALUATORS_GENERATOR.get()
+				)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new DsvMender(
+						DELIMITER,
+						LENGTH,
+						MAX_DEPTH,
+						0,
+						false,
+						0,
+						null,
+						null,
+						-1,
+						0,
+						null,
+						CONSTRAINT_EVALUATORS_GENERATOR.get(),
+						ESTIMATION_EVALUATORS_GENERATOR.get()
+				)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new DsvMender(
+						DELIMITER,
+						LENGTH,
+						MAX_DEPTH,
+						0,
+						false,
+						0,
+						null,
+						null,
+						0,
+						-1,
+						null,
+						CONSTRAINT_EVALUATORS_GENERATOR.get(),
+						ESTIMATION_EVALUATORS_GENERATOR.get()
+				)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new DsvMender(
+						DELIMITER,
+						LENGTH,
+						MAX_DEPTH,
+						CONSTRAINT_EVALUATORS_GENERATOR.get(),
+						Set.of(EstimationEvaluator.ofColumn(new EstimationEvaluator<String>(Function.identity()), LENGTH))
+				)
+		);
 	}
 
 	@Test
@@ -238,6 +346,70 @@ final class DsvMenderTest {
 		).containsExactly("foo", Strings.EMPTY, Strings.EMPTY, Strings.EMPTY, Strings.EMPTY, "bar");
 	}
 
+	@Test
+	void testOptimizeRuns() {
+		final var dsvMender = new DsvMender(
+				DELIMITER,
+				8,
+				MAX_DEPTH,
+				CONSTRAINT_EVALUATORS_GENERATOR.get(),
+				ESTIMATION_EVALUATORS_GENERATOR.get()
+		);
+		assertThat(
+				dsvMender.optimize(
+						0,
+						"foo",
+						Strings.EMPTY,
+						Strings.EMPTY,
+						"bar",
+						Strings.EMPTY,
+						Strings.EMPTY,
+						Strings.EMPTY,
+						"foo",
+						Strings.EMPTY
+				)
+		).containsExactly("foo", Strings.EMPTY, Strings.EMPTY, "bar", DELIMITER.repeat(2), "foo", Strings.EMPTY);
+		assertThat(
+				dsvMender.optimize(
+						0,
+						"foo",
+						Strings.EMPTY,
+						Strings.EMPTY,
+						"bar",
+						Strings.EMPTY,
+						Strings.EMPTY,
+						"foo",
+						Strings.EMPTY,
+						Strings.EMPTY,
+						"bar"
+				)
+		).containsExactly("foo", DELIMITER, "bar", DELIMITER, "foo", Strings.EMPTY, Strings.EMPTY, "bar");
+		assertThat(
+				dsvMender.optimize(
+						1,
+						Strings.EMPTY,
+						Strings.EMPTY,
+						Strings.EMPTY,
+						Strings.EMPTY,
+						"foo",
+						Strings.EMPTY,
+						Strings.EMPTY,
+						Strings.EMPTY,
+						Strings.EMPTY,
+						Strings.EMPTY
+				)
+		).containsExactly(
+				Strings.EMPTY,
+				Strings.EMPTY,
+				Strings.EMPTY,
+				Strings.EMPTY,
+				"foo",
+				Strings.EMPTY,
+				DELIMITER.repeat(2),
+				Strings.EMPTY
+		);
+	}
+
 	@Test
 	void testOptimizeInvalid() {
 		final var dsvMender = new DsvMender(
@@ -290,6 +462,16 @@ final class DsvMenderTest {
 					.containsExactly("foo", Strings.EMPTY, Strings.EMPTY);
 			assertThat(dsvMender.mend("foo", Strings.EMPTY, Strings.EMPTY, Strings.EMPTY, "bar"))
 					.containsExactly("foo", DELIMITER.repeat(2), "bar");
+			assertThat(dsvMender.mend("foo", "a", "b", "c", "d", "bar"))
+					.containsExactly("foo", String.join(DELIMITER, "a", "b", "c", "d"), "bar");
+			assertThat(dsvMender.getLastResult()).hasValueSatisfying(
+					lastResult -> assertThat(lastResult.getCandidates()).hasSize(10)
+			);
+			assertThat(dsvMender.mend("foo", "bar"))
+					.containsExactly("foo", Strings.EMPTY, "bar");
+			assertThat(dsvMender.getLastResult()).hasValueSatisfying(
+					lastResult -> assertThat(lastResult.getCandidates()).hasSize(3)
+			);
 			assertThatExceptionOfType(MendException.class)
 					.isThrownBy(() -> dsvMender.mend("bar", Strings.EMPTY, "foo"));
 		});
@@ -325,6 +507,709 @@ final class DsvMenderTest {
 		});
 	}
 
+	@Test
+	void testMendRow() {
+		final var dsvMender = new DsvMender(
+				DELIMITER,
+				LENGTH,
+				MAX_DEPTH,
+				Set.of(),
+				Set.of(
+						new EstimationEvaluator<>(values -> values[0]),
+						new EstimationEvaluator<>(values -> values[2])
+				)
+		);
+		assertThat(dsvMender.mend("foo" + DELIMITER.repeat(2) + "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+		assertThat(dsvMender.getLastResult()).isEmpty();
+		assertThat(dsvMender.mend("foo" + DELIMITER + "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+		assertThat(dsvMender.getLastResult()).isPresent();
+		assertThat(dsvMender.mend(DELIMITER.repeat(2))).containsExactly(Strings.EMPTY, Strings.EMPTY, Strings.EMPTY);
+		assertThat(dsvMender.getLastResult()).isEmpty();
+		assertThat(dsvMender.mend("foo" + DELIMITER + "x" + DELIMITER + "y" + DELIMITER + "bar"))
+				.containsExactly("foo", "x" + DELIMITER + "y", "bar");
+	}
+
+	@Test
+	void testMendSegmentation() {
+		final var exhaustiveDsvMender = new DsvMender(
+				DELIMITER,
+				LENGTH,
+				MAX_DEPTH,
+				CONSTRAINT_EVALUATORS_GENERATOR.get(),
+				ESTIMATION_EVALUATORS_GENERATOR.get()
+		);
+		final var dsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withMaxDepth(MAX_DEPTH)
+				.withSegmentation()
+				.withConstraint("foo"::equals, 0)
+				.withEstimation(Function.identity(), 2)
+				.build();
+		assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar"))
+				.containsExactly(exhaustiveDsvMender.mend("foo", Strings.EMPTY, "bar"));
+		for (final var values : List.of(
+				ObjectArrays.of("foo"),
+				ObjectArrays.of("foo", "bar"),
+				ObjectArrays.of("foo", Strings.EMPTY, Strings.EMPTY, Strings.EMPTY, "bar"),
+				ObjectArrays.of("foo", "a", "b", "c", "d", "bar")
+		)) {
+			assertThat(dsvMender.mend(values.clone())).containsExactly(exhaustiveDsvMender.mend(values.clone()));
+			assertThat(dsvMender.getLastResult()).hasValueSatisfying(lastResult -> {
+				assertThat(lastResult.getCandidates()).containsExactly(lastResult.getBestCandidate());
+				assertThat(lastResult.getBestCandidate())
+						.isEqualTo(exhaustiveDsvMender.getLastResult().orElseThrow().getBestCandidate());
+			});
+		}
+		assertThat(dsvMender.mend("foo" + DELIMITER.repeat(40) + "bar"))
+				.containsExactly("foo", DELIMITER.repeat(38), "bar");
+		assertThatExceptionOfType(MendException.class)
+				.isThrownBy(() -> dsvMender.mend("bar", "foo"));
+	}
+
+	@Test
+	void testMendSegmentationEnumerated() {
+		final var segmentedDsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withSegmentation()
+				.withConstraint("foo"::equals, 0)
+				.withEstimation(Function.identity(), 2)
+				.build();
+		assertThat(segmentedDsvMender.isSegmented()).isTrue();
+		assertThat(segmentedDsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+		assertThat(segmentedDsvMender.mend("foo", "a", "b", "bar")).containsExactly("foo", "a,b", "bar");
+		assertThat(segmentedDsvMender.getLastResult()).hasValueSatisfying(
+				lastResult -> assertThat(lastResult.getCandidates()).containsExactly(
+						new DsvMendCandidate(ObjectArrays.of("foo", "a,b", "bar"), 1.0d)
+				)
+		);
+		for (final var enumeratedDsvMender : List.of(
+				DsvMender.builder()
+						.withDelimiter(DELIMITER)
+						.withLength(LENGTH)
+						.withConstraint("foo"::equals, 0)
+						.withEstimation(Function.identity(), 2)
+						.build(),
+				DsvMender.builder()
+						.withDelimiter(DELIMITER)
+						.withLength(LENGTH)
+						.withSegmentation()
+						.withMaxCandidates(2)
+						.withConstraint("foo"::equals, 0)
+						.withEstimation(Function.identity(), 2)
+						.build()
+		)) {
+			assertThat(enumeratedDsvMender.mend("foo", Strings.EMPTY, "bar"))
+					.containsExactly("foo", Strings.EMPTY, "bar");
+			assertThat(enumeratedDsvMender.mend("foo", "a", "b", "bar")).containsExactly("foo", "a,b", "bar");
+			assertThat(enumeratedDsvMender.getLastResult()).hasValueSatisfying(
+					lastResult -> assertThat(lastResult.getCandidates()).containsExactlyInAnyOrder(
+							new DsvMendCandidate(ObjectArrays.of("foo", "a,b", "bar"), 1.0d),
+							new DsvMendCandidate(ObjectArrays.of("foo", "a", "b,bar"), 0.5d)
+					)
+			);
+		}
+	}
+
+	@Test
+	void testMendSegmentationRandom() {
+		final var random = new Random(42L);
+		final var length = 4;
+		final var randomValues = (Function<Integer, String[]>) count -> IntStream.range(0, count)
+				.mapToObj(i -> ObjectArrays.of(Strings.EMPTY, "a", "b", "ab")[random.nextInt(4)])
+				.toArray(String[]::new);
+		final var segmentedDsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(length)
+				.withMaxDepth(1)
+				.withSegmentation()
+				.withEstimation(Function.identity(), 0)
+				.withEstimation(String::length, 1)
+				.withEstimation(String::isEmpty, 2)
+				.withEstimation(Function.identity(), 3)
+				.build();
+		final var exhaustiveDsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(length)
+				.withMaxDepth(Integer.MAX_VALUE)
+				.withEstimation(Function.identity(), 0)
+				.withEstimation(String::length, 1)
+				.withEstimation(String::isEmpty, 2)
+				.withEstimation(Function.identity(), 3)
+				.build();
+		for (var i = 0; i < 1_000; ++i) {
+			final var row = randomValues.apply(length);
+			segmentedDsvMender.mend(row.clone());
+			exhaustiveDsvMender.mend(row.clone());
+		}
+		for (var i = 0; i < 1_000; ++i) {
+			var count = 1 + random.nextInt(2 * length);
+			if (length == count) {
+				++count;
+			}
+			final var values = randomValues.apply(count);
+			assertThat(segmentedDsvMender.mend(values.clone()))
+					.containsExactly(exhaustiveDsvMender.mend(values.clone()));
+			final var segmentedBestCandidate = segmentedDsvMender.getLastResult().orElseThrow().getBestCandidate();
+			final var exhaustiveBestCandidate = exhaustiveDsvMender.getLastResult().orElseThrow().getBestCandidate();
+			assertThat(segmentedBestCandidate.getValue()).containsExactly(exhaustiveBestCandidate.getValue());
+			assertThat(segmentedBestCandidate.getScore()).isEqualTo(exhaustiveBestCandidate.getScore());
+		}
+	}
+
+	@Test
+	void testMendPruning() {
+		final var dsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withMaxDepth(MAX_DEPTH)
+				.withConstraint(value -> value.startsWith("foo"), 0)
+				.withConstraint(String::isEmpty, 1)
+				.withEstimation(Function.identity(), 2)
+				.build();
+		assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+		assertThat(dsvMender.mend("foo", "x", "bar")).containsExactly("foo,x", Strings.EMPTY, "bar");
+		assertThat(dsvMender.getLastResult()).hasValueSatisfying(lastResult -> {
+			assertThat(lastResult.getCandidates()).containsExactlyInAnyOrder(
+					new DsvMendCandidate(ObjectArrays.of("foo,x", Strings.EMPTY, "bar"), 1.0d),
+					new DsvMendCandidate(ObjectArrays.of("foo", Strings.EMPTY, "x,bar"), 2.0d / 3.0d)
+			);
+		});
+		assertThatExceptionOfType(MendException.class)
+				.isThrownBy(() -> dsvMender.mend("x", "foo", "bar"));
+	}
+
+	@Test
+	void testMendBeamSearch() {
+		final var dsvMender = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withMaxDepth(MAX_DEPTH)
+				.withBeamWidth(1)
+				.withConstraint("foo"::equals, 0)
+				.withEstimation(Function.identity(), 2)
+				.build();
+		assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+		assertThat(dsvMender.mend("foo", "a", "b", "bar")).containsExactly("foo", "a,b", "bar");
+		assertThat(dsvMender.getLastResult()).hasValueSatisfying(lastResult -> {
+			assertThat(lastResult.getCandidates()).containsExactly(
+					new DsvMendCandidate(ObjectArrays.of("foo", "a,b", "bar"), 1.0d)
+			);
+			assertThat(lastResult.isBounded()).isTrue();
+		});
+		assertThat(dsvMender.mend("foo" + DELIMITER.repeat(40) + "bar"))
+				.containsExactly("foo", DELIMITER.repeat(38), "bar");
+		assertThatExceptionOfType(MendException.class)
+				.isThrownBy(() -> dsvMender.mend("bar", "foo"));
+	}
+
+	@Test
+	void testMendMaxCandidates() {
+		for (final var maxCandidates : new int[] {1, 2, 3}) {
+			final var dsvMender = new DsvMender(
+					DELIMITER,
+					LENGTH,
+					MAX_DEPTH,
+					0,
+					false,
+					maxCandidates,
+					null,
+					null,
+					0,
+					0,
+					null,
+					CONSTRAINT_EVALUATORS_GENERATOR.get(),
+					ESTIMATION_EVALUATORS_GENERATOR.get()
+			);
+			assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+			assertThat(dsvMender.mend("foo", "a", "b", "bar")).containsExactly("foo", "a,b", "bar");
+			assertThat(dsvMender.getLastResult()).hasValueSatisfying(lastResult -> {
+				assertThat(lastResult.getCandidates()).containsExactlyInAnyOrder(
+						List.of(
+								new DsvMendCandidate(ObjectArrays.of("foo", "a,b", "bar"), 1.0d),
+								new DsvMendCandidate(ObjectArrays.of("foo", "a", "b,bar"), 0.5d),
+								new DsvMendCandidate(ObjectArrays.of("foo,a", "b", "bar"), Double.NaN)
+						).subList(0, maxCandidates).toArray(DsvMendCandidate[]::new)
+				);
+				assertThat(lastResult.getBestCandidate())
+						.isEqualTo(new DsvMendCandidate(ObjectArrays.of("foo", "a,b", "bar"), 1.0d));
+			});
+		}
+	}
+
+	@Test
+	void testMendScoreAggregator() {
+		for (final var segmented : new boolean[] {false, true}) {
+			final var dsvMenders = new ArrayList<DsvMender>();
+			for (final var scoreAggregator : List.of(ScoreAggregator.mean(), ScoreAggregator.geometricMean())) {
+				dsvMenders.add(
+						new DsvMender(
+								DELIMITER,
+								LENGTH,
+								MAX_DEPTH,
+								0,
+								false,
+								1,
+								null,
+								null,
+								0,
+								0,
+								scoreAggregator,
+								segmented
+										? Set.of()
+										: Set.of(new ConstraintEvaluator<>(values -> !values[1].isEmpty())),
+								new LinkedHashSet<>(List.of(
+										EstimationEvaluator.ofColumn(new EstimationEvaluator<>(Function.identity()), 0),
+										EstimationEvaluator.ofColumn(new EstimationEvaluator<>(Function.identity()), 2)
+								))
+						)
+				);
+			}
+			for (final var dsvMender : dsvMenders) {
+				for (var i = 0; i < 9; ++i) {
+					dsvMender.mend(ObjectArrays.of("a,b", "y", "x"));
+				}
+				dsvMender.mend(ObjectArrays.of("a", "y", "c,d"));
+			}
+			final var meanDsvMender = dsvMenders.get(0);
+			assertThat(meanDsvMender.getScoreAggregator()).isPresent();
+			assertThat(meanDsvMender.mend("a", "b", "c", "d")).containsExactly("a,b", "c", "d");
+			assertThat(meanDsvMender.getLastResult()).hasValueSatisfying(
+					lastResult -> assertThat(lastResult.getBestCandidate().getScore())
+							.isCloseTo(segmented ? 0.45d : 1.9d / 3.0d, Offset.offset(1.0e-12d))
+			);
+			final var geometricMeanDsvMender = dsvMenders.get(1);
+			assertThat(geometricMeanDsvMender.mend("a", "b", "c", "d")).containsExactly("a", "b", "c,d");
+			assertThat(geometricMeanDsvMender.getLastResult()).hasValueSatisfying(
+					lastResult -> assertThat(lastResult.getBestCandidate().getScore())
+							.isCloseTo(segmented ? 0.1d : StrictMath.cbrt(0.01d), Offset.offset(1.0e-12d))
+			);
+		}
+	}
+
+	@Test
+	void testMendScoreAggregatorInvalid() {
+		final var optionalEvaluatorStep = DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withScoreAggregator(ScoreAggregator.weightedMean(evaluator -> 0.0d))
+				.withEstimation(Function.identity());
+		assertThatIllegalArgumentException().isThrownBy(optionalEvaluatorStep::build);
+	}
+
+	@Test
+	void testFitAllAndMendAll() {
+		final var rows = new ArrayList<String>();
+		for (var i = 0; i < 1_000; ++i) {
+			rows.add("foo," + "a".repeat(i % 3) + ",bar");
+			if (0 == i % 10) {
+				rows.add("foo,a,b,bar");
+			}
+		}
+		final var expectedDsvMender = DsvMender.basic(',', 3);
+		for (final var row : rows) {
+			if (2 == row.chars().filter(c -> ',' == c).count()) {
+				expectedDsvMender.mend(row);
+			}
+		}
+		final var expectedRows = new ArrayList<String[]>();
+		for (final var row : rows) {
+			expectedRows.add(expectedDsvMender.mend(row));
+		}
+		for (final var dsvMender : List.of(
+				DsvMender.basic(',', 3),
+				DsvMender.builder()
+						.withDelimiter(',')
+						.withLength(3)
+						.withExecutor(ForkJoinPool.commonPool())
+						.withEstimation(String::isEmpty)
+						.withEstimation(String::length)
+						.build()
+		)) {
+			assertThat(dsvMender.fitAll(rows)).isEqualTo(1_000L);
+			assertThat(dsvMender.mendAll(rows)).containsExactlyElementsOf(expectedRows);
+			assertThat(dsvMender.getLastResult()).isEmpty();
+		}
+	}
+
+	@Test
+	void testFitAllInvalid() {
+		final var dsvMender = DsvMender.basic(',', 3);
+		assertThatNullPointerException().isThrownBy(() -> dsvMender.fitAll(null));
+		assertThatNullPointerException().isThrownBy(() -> dsvMender.fitAll(Collections.singletonList(null)));
+	}
+
+	@Test
+	void testMendAllInvalid() {
+		final var dsvMender = DsvMender.basic(',', 3);
+		assertThatNullPointerException().isThrownBy(() -> dsvMender.mendAll(null));
+		assertThatNullPointerException().isThrownBy(() -> dsvMender.mendAll(Collections.singletonList(null)));
+		final var constrainedDsvMender = DsvMender.builder()
+				.withDelimiter(',')
+				.withLength(3)
+				.withConstraint("foo"::equals, 0)
+				.build();
+		assertThatExceptionOfType(MendException.class)
+				.isThrownBy(() -> constrainedDsvMender.mendAll(List.of("foo,a,bar", "bar,a,b,c")));
+	}
+
+	@Test
+	void testMerge() {
+		final var dsvMender = DsvMender.basic(',', 3);
+		dsvMender.mend("foo", "a", "bar");
+		final var otherDsvMender = DsvMender.basic(',', 3);
+		otherDsvMender.mend("foo", "ab", "bar");
+		otherDsvMender.mend("foo", Strings.EMPTY, "bar");
+		final var expectedDsvMender = DsvMender.basic(',', 3);
+		expectedDsvMender.mend("foo", "a", "bar");
+		expectedDsvMender.mend("foo", "ab", "bar");
+		expectedDsvMender.mend("foo", Strings.EMPTY, "bar");
+		dsvMender.merge(otherDsvMender);
+		assertThat(dsvMender.mend("foo", "a", "b", "bar")).isEqualTo(expectedDsvMender.mend("foo", "a", "b", "bar"));
+		assertThat(dsvMender.getLastResult()).isEqualTo(expectedDsvMender.getLastResult());
+	}
+
+	@Test
+	void testMergeInvalid() {
+		final var dsvMender = DsvMender.basic(',', 3);
+		assertThatNullPointerException().isThrownBy(() -> dsvMender.merge(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> dsvMender.merge(DsvMender.basic(',', 4)));
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> dsvMender.merge(
+						DsvMender.builder()
+								.withDelimiter(',')
+								.withLength(3)
+								.withEstimation(Function.identity(), 0, 1, 2)
+								.withEstimation(Function.identity(), 2, 1, 0)
+								.build()
+				)
+		);
+	}
+
+	@Test
+	void testWriteAndReadEstimations() throws Exception {
+		final var dsvMender = DsvMender.basic(',', 3);
+		dsvMender.mend("foo", "a", "bar");
+		dsvMender.mend("foo", "ab", "bar");
+		dsvMender.mend("foo", Strings.EMPTY, "bar");
+		final var outputStream = new ByteArrayOutputStream();
+		dsvMender.writeEstimations(outputStream);
+		final var readDsvMender = DsvMender.basic(',', 3);
+		readDsvMender.readEstimations(new ByteArrayInputStream(outputStream.toByteArray()));
+		assertThat(readDsvMender.mend("foo", "a", "b", "bar")).isEqualTo(dsvMender.mend("foo", "a", "b", "bar"));
+		assertThat(readDsvMender.getLastResult()).isEqualTo(dsvMender.getLastResult());
+	}
+
+	@Test
+	void testMergeWriteAndReadWindowEstimations() throws Exception {
+		final Supplier<DsvMender> dsvMenderSupplier = () -> DsvMender.builder()
+				.withDelimiter(',')
+				.withLength(3)
+				.withWindowEstimation(Function.identity(), 2, 3)
+				.build();
+		final var dsvMender = dsvMenderSupplier.get();
+		dsvMender.mend("foo", "a", "bar");
+		dsvMender.mend("foo", "a", "bar");
+		final var otherDsvMender = dsvMenderSupplier.get();
+		otherDsvMender.mend("foo", "ab", "bar");
+		otherDsvMender.mend("foo", "ab", "bar");
+		dsvMender.merge(otherDsvMender);
+		final var outputStream = new ByteArrayOutputStream();
+		dsvMender.writeEstimations(outputStream);
+		final var readDsvMender = dsvMenderSupplier.get();
+		readDsvMender.readEstimations(new ByteArrayInputStream(outputStream.toByteArray()));
+		assertThat(readDsvMender.mend("foo", "a", "b", "bar")).isEqualTo(dsvMender.mend("foo", "a", "b", "bar"));
+		assertThat(readDsvMender.getLastResult()).isEqualTo(dsvMender.getLastResult());
+	}
+
+	@Test
+	void testWriteEstimationsInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> DsvMender.basic(',', 3).writeEstimations(null));
+	}
+
+	@Test
+	void testReadEstimationsInvalid() throws Exception {
+		final var dsvMender = DsvMender.basic(',', 3);
+		assertThatNullPointerException().isThrownBy(() -> dsvMender.readEstimations(null));
+		final var outputStream = new ByteArrayOutputStream();
+		DsvMender.basic(',', 4).writeEstimations(outputStream);
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> dsvMender.readEstimations(new ByteArrayInputStream(outputStream.toByteArray()))
+		);
+		final var bytes = new ByteArrayOutputStream();
+		final var output = new DataOutputStream(bytes);
+		output.writeInt(0);
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> dsvMender.readEstimations(new ByteArrayInputStream(bytes.toByteArray()))
+		);
+		bytes.reset();
+		output.writeInt(0x4453564D);
+		output.writeInt(0);
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> dsvMender.readEstimations(new ByteArrayInputStream(bytes.toByteArray()))
+		);
+	}
+
+	@Test
+	void testMendMemoization() {
+		final var calls = new ArrayList<String>();
+		final var estimationEvaluator = EstimationEvaluator.ofColumn(
+				new EstimationEvaluator<String>(value -> {
+					calls.add(value);
+					return value;
+				}),
+				2
+		);
+		final var dsvMender = new DsvMender(
+				DELIMITER,
+				LENGTH,
+				MAX_DEPTH,
+				0,
+				false,
+				0,
+				null,
+				null,
+				0,
+				0,
+				null,
+				CONSTRAINT_EVALUATORS_GENERATOR.get(),
+				Set.of(estimationEvaluator)
+		);
+		assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+		calls.clear();
+		assertThat(dsvMender.mend("foo", "a", "b", "c", "bar")).containsExactly("foo", "a,b,c", "bar");
+		assertThat(dsvMender.getLastResult()).hasValueSatisfying(
+				lastResult -> assertThat(lastResult.getCandidates()).hasSize(6)
+		);
+		assertThat(calls).containsExactlyInAnyOrder("bar", "c,bar", "b,c,bar");
+	}
+
+	@Test
+	void testMendParallel() {
+		final Supplier<Set<EstimationEvaluator<String[]>>> estimationEvaluatorsGenerator = () -> Set.of(
+				new EstimationEvaluator<>(values -> values[0].length()),
+				new EstimationEvaluator<>(values -> values[1].length()),
+				new EstimationEvaluator<>(values -> values[5].isEmpty())
+		);
+		final var sequentialDsvMender = new DsvMender(
+				DELIMITER,
+				6,
+				20,
+				Set.of(),
+				estimationEvaluatorsGenerator.get()
+		);
+		final var parallelDsvMender = new DsvMender(
+				DELIMITER,
+				6,
+				20,
+				0,
+				false,
+				0,
+				ForkJoinPool.commonPool(),
+				null,
+				0,
+				0,
+				null,
+				Set.of(),
+				estimationEvaluatorsGenerator.get()
+		);
+		for (final var dsvMender : List.of(sequentialDsvMender, parallelDsvMender)) {
+			dsvMender.mend("a", "bb", "c", "d", "e", Strings.EMPTY);
+			dsvMender.mend("aa", "b", "c", "d", "e", Strings.EMPTY);
+		}
+		final var values = "a,b,c,d,e,f,g,h,i,j,k,l,m,n,o".split(DELIMITER);
+		assertThat(parallelDsvMender.mend(values)).containsExactly(sequentialDsvMender.mend(values));
+		assertThat(parallelDsvMender.getLastResult()).isEqualTo(sequentialDsvMender.getLastResult());
+		assertThat(parallelDsvMender.getLastResult()).hasValueSatisfying(
+				lastResult -> assertThat(lastResult.getCandidates()).hasSize(2002)
+		);
+	}
+
+	@Test
+	void testMendMaxEvaluations() {
+		final Function<Integer, DsvMender> dsvMenderGenerator = maxEvaluations -> new DsvMender(
+				DELIMITER,
+				LENGTH,
+				MAX_DEPTH,
+				0,
+				false,
+				0,
+				null,
+				null,
+				maxEvaluations,
+				0,
+				null,
+				CONSTRAINT_EVALUATORS_GENERATOR.get(),
+				ESTIMATION_EVALUATORS_GENERATOR.get()
+		);
+		assertThat(dsvMenderGenerator.apply(1)).satisfies(dsvMender -> {
+			assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+			assertThatExceptionOfType(MendException.class)
+					.isThrownBy(() -> dsvMender.mend("foo", "a", "b", "bar"));
+		});
+		assertThat(dsvMenderGenerator.apply(2)).satisfies(dsvMender -> {
+			assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+			assertThat(dsvMender.mend("foo", "a", "b", "bar")).containsExactly("foo", "a,b", "bar");
+			assertThat(dsvMender.getLastResult()).hasValueSatisfying(lastResult -> {
+				assertThat(lastResult.getCandidates()).containsExactlyInAnyOrder(
+						new DsvMendCandidate(ObjectArrays.of("foo,a", "b", "bar"), Double.NaN),
+						new DsvMendCandidate(ObjectArrays.of("foo", "a,b", "bar"), 1.0d)
+				);
+				assertThat(lastResult.isPartial()).isTrue();
+			});
+		});
+		assertThat(dsvMenderGenerator.apply(100)).satisfies(dsvMender -> {
+			assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+			assertThat(dsvMender.mend("foo", "a", "b", "bar")).containsExactly("foo", "a,b", "bar");
+			assertThat(dsvMender.getLastResult()).hasValueSatisfying(
+					lastResult -> assertThat(lastResult.isPartial()).isFalse()
+			);
+			assertThat(dsvMender.mend("foo,a,b,c,d,e,f,g,bar"))
+					.containsExactly("foo", "a,b,c,d,e,f,g", "bar");
+			assertThat(dsvMender.getLastResult()).hasValueSatisfying(lastResult -> {
+				assertThat(lastResult.getCandidates()).hasSize(28);
+				assertThat(lastResult.isPartial()).isFalse();
+			});
+		});
+	}
+
+	@Test
+	void testMendTimeBudget() {
+		final var dsvMender = new DsvMender(
+				DELIMITER,
+				LENGTH,
+				MAX_DEPTH,
+				0,
+				false,
+				0,
+				null,
+				Duration.ofMinutes(1L),
+				0,
+				0,
+				null,
+				CONSTRAINT_EVALUATORS_GENERATOR.get(),
+				ESTIMATION_EVALUATORS_GENERATOR.get()
+		);
+		assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+		assertThat(dsvMender.mend("foo,a,b,c,d,e,f,g,bar")).containsExactly("foo", "a,b,c,d,e,f,g", "bar");
+		assertThat(dsvMender.getLastResult()).hasValueSatisfying(lastResult -> {
+			assertThat(lastResult.getCandidates()).hasSize(28);
+			assertThat(lastResult.isPartial()).isFalse();
+		});
+	}
+
+	@Test
+	void testMendParallelMaxEvaluations() {
+		final var dsvMender = new DsvMender(
+				DELIMITER,
+				LENGTH,
+				MAX_DEPTH,
+				0,
+				false,
+				0,
+				ForkJoinPool.commonPool(),
+				null,
+				2,
+				0,
+				null,
+				CONSTRAINT_EVALUATORS_GENERATOR.get(),
+				ESTIMATION_EVALUATORS_GENERATOR.get()
+		);
+		assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+		assertThat(dsvMender.mend("foo", "a", "b", "bar")).containsExactly("foo", "a,b", "bar");
+		assertThat(dsvMender.getLastResult()).hasValueSatisfying(lastResult -> {
+			assertThat(lastResult.getCandidates()).hasSize(2);
+			assertThat(lastResult.isPartial()).isTrue();
+		});
+	}
+
+	@Test
+	void testMendMaxSearchSize() {
+		final Function<Integer, DsvMender> dsvMenderGenerator = maxSearchSize -> new DsvMender(
+				DELIMITER,
+				LENGTH,
+				MAX_DEPTH,
+				0,
+				false,
+				0,
+				null,
+				null,
+				0,
+				maxSearchSize,
+				null,
+				CONSTRAINT_EVALUATORS_GENERATOR.get(),
+				ESTIMATION_EVALUATORS_GENERATOR.get()
+		);
+		final var row = "foo" + DELIMITER.repeat(5) + "bar";
+		assertThat(dsvMenderGenerator.apply(100)).satisfies(dsvMender -> {
+			assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+			assertThat(dsvMender.mend(row)).containsExactly("foo", DELIMITER.repeat(3), "bar");
+			assertThat(dsvMender.getLastResult()).hasValueSatisfying(lastResult -> {
+				assertThat(lastResult.getValue()).hasSize(6);
+				assertThat(lastResult.getCandidates()).hasSize(10);
+			});
+		});
+		assertThat(dsvMenderGenerator.apply(6)).satisfies(dsvMender -> {
+			assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+			assertThat(dsvMender.mend(row)).containsExactly("foo", DELIMITER.repeat(3), "bar");
+			assertThat(dsvMender.getLastResult()).hasValueSatisfying(lastResult -> {
+				assertThat(lastResult.getValue()).hasSize(6);
+				assertThat(lastResult.getCandidates()).hasSize(6);
+			});
+		});
+		assertThat(dsvMenderGenerator.apply(1)).satisfies(dsvMender -> {
+			assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+			assertThat(dsvMender.mend(row)).containsExactly("foo", DELIMITER.repeat(3), "bar");
+			assertThat(dsvMender.getLastResult()).hasValueSatisfying(
+					lastResult -> assertThat(lastResult.getCandidates()).hasSize(1)
+			);
+			assertThat(dsvMender.mend("foo" + DELIMITER.repeat(40) + "bar"))
+					.containsExactly("foo", DELIMITER.repeat(38), "bar");
+		});
+		assertThat(dsvMenderGenerator.apply(1)).satisfies(
+				dsvMender -> assertThatIllegalArgumentException()
+						.isThrownBy(() -> dsvMender.mend("foo", "a", "b", "c", "d", "e", "f", "bar"))
+		);
+	}
+
+	@Test
+	void testMendMaxSearchSizeBuilder() {
+		final Function<Integer, DsvMender> dsvMenderGenerator = maxSearchSize -> DsvMender.builder()
+				.withDelimiter(DELIMITER)
+				.withLength(LENGTH)
+				.withMaxDepth(Integer.MAX_VALUE)
+				.withMaxSearchSize(maxSearchSize)
+				.withEstimation(Function.identity(), 0)
+				.withEstimation(Function.identity(), 2)
+				.build();
+		final var row = "foo" + DELIMITER.repeat(64) + "bar";
+		assertThat(dsvMenderGenerator.apply(Integer.MAX_VALUE)).satisfies(dsvMender -> {
+			assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+			assertThat(dsvMender.mend(row)).containsExactly("foo", DELIMITER.repeat(62), "bar");
+			assertThat(dsvMender.getLastResult()).hasValueSatisfying(
+					lastResult -> assertThat(lastResult.getCandidates()).hasSize(2016)
+			);
+		});
+		assertThat(dsvMenderGenerator.apply(10)).satisfies(dsvMender -> {
+			assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+			assertThat(dsvMender.mend(row)).containsExactly("foo", DELIMITER.repeat(62), "bar");
+			assertThat(dsvMender.getLastResult()).hasValueSatisfying(
+					lastResult -> assertThat(lastResult.getCandidates()).hasSize(6)
+			);
+		});
+	}
+
+	@Test
+	void testCountChildren() {
+		assertThat(DsvMender.countChildren(3, 3)).isEqualTo(1L);
+		assertThat(DsvMender.countChildren(6, 3)).isEqualTo(10L);
+		assertThat(DsvMender.countChildren(15, 3)).isEqualTo(91L);
+		assertThat(DsvMender.countChildren(2, 3)).isEqualTo(3L);
+		assertThat(DsvMender.countChildren(1, 3)).isEqualTo(3L);
+		assertThat(DsvMender.countChildren(1_000, 500)).isEqualTo(Long.MAX_VALUE);
+	}
+
 	@Test
 	void testMendInvalid() {
 		final var dsvMender = new DsvMender(
@@ -376,6 +1261,24 @@ final class DsvMenderTest {
 		);
 	}
 
+	@Test
+	void testGetLastResultConcurrent() {
+		final var dsvMender = new DsvMender(
+				DELIMITER,
+				LENGTH,
+				MAX_DEPTH,
+				CONSTRAINT_EVALUATORS_GENERATOR.get(),
+				ESTIMATION_EVALUATORS_GENERATOR.get()
+		);
+		assertThat(dsvMender.mend("foo", Strings.EMPTY, "bar")).containsExactly("foo", Strings.EMPTY, "bar");
+		IntStream.range(0, 1_000).parallel().forEach(
+				i -> assertThat(dsvMender.mend("foo", "bar")).containsExactly("foo", Strings.EMPTY, "bar")
+		);
+		assertThat(dsvMender.getLastResult()).hasValueSatisfying(
+				lastResult -> assertThat(lastResult.getValue()).containsExactly("foo", "bar")
+		);
+	}
+
 	@Test
 	void testGetters() {
 		final var dsvMender = new DsvMender(
@@ -388,8 +1291,18 @@ final class DsvMenderTest {
 		assertThat(dsvMender.getDelimiter()).isEqualTo(DELIMITER);
 		assertThat(dsvMender.getLength()).isEqualTo(LENGTH);
 		assertThat(dsvMender.getMaxDepth()).isEqualTo(MAX_DEPTH);
+		assertThat(dsvMender.getBeamWidth()).isZero();
+		assertThat(dsvMender.getMaxCandidates()).isZero();
+		assertThat(dsvMender.getExecutor()).isEmpty();
+		assertThat(dsvMender.getTimeBudget()).isEmpty();
+		assertThat(dsvMender.getMaxEvaluations()).isZero();
+		assertThat(dsvMender.getMaxSearchSize()).isZero();
+		assertThat(dsvMender.getScoreAggregator()).isEmpty();
 		final var constraintEvaluators = dsvMender.getConstraintEvaluators();
 		assertThat(constraintEvaluators).hasSize(CONSTRAINT_EVALUATORS_GENERATOR.get().size());
+		assertThat(dsvMender.getConstraintStatistics())
+				.extracting(DsvConstraintStatistics::getConstraintEvaluator)
+				.containsExactlyElementsOf(constraintEvaluators);
 		for (final var constraintEvaluator : constraintEvaluators) {
 			assertThat(constraintEvaluator.evaluate(ObjectArrays.of("foo", "foo", "foo")))
 					.isEqualTo(1.0d);
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.lang.array.ObjectArrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class DsvParallelScorerTest {
+
+	private static final Function<String[], OptionalDouble> SCORER = child -> OptionalDouble.of(
+			Integer.parseInt(child[0]) % 10
+	);
+
+	private ExecutorService executorService;
+
+	@BeforeEach
+	void setUp() {
+		executorService = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	private static List<String[]> children(final int count) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> ObjectArrays.of(Integer.toString(i)))
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> new DsvParallelScorer(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> new DsvParallelScorer(executorService, 0, 1));
+		assertThatIllegalArgumentException().isThrownBy(() -> new DsvParallelScorer(executorService, 1, 0));
+	}
+
+	@Test
+	void testScore() {
+		for (final var count : new int[] {0, 1, 3, 100}) {
+			final var sequentialCandidates = new DsvMendCandidates(5);
+			for (final var child : children(count)) {
+				sequentialCandidates.add(child, SCORER.apply(child).getAsDouble());
+			}
+			final var parallelCandidates = new DsvMendCandidates(5);
+			new DsvParallelScorer(executorService, 3, 2).score(
+					children(count).iterator(),
+					SCORER,
+					parallelCandidates,
+					new DsvBudget(0, null)
+			);
+			assertThat(parallelCandidates.getCandidates()).isEqualTo(sequentialCandidates.getCandidates());
+			assertThat(parallelCandidates.getBestCandidate()).isEqualTo(sequentialCandidates.getBestCandidate());
+		}
+	}
+
+	@Test
+	void testScoreBudget() {
+		final var sequentialCandidates = new DsvMendCandidates(0);
+		for (final var child : children(100).subList(0, 7)) {
+			sequentialCandidates.add(child, SCORER.apply(child).getAsDouble());
+		}
+		final var parallelCandidates = new DsvMendCandidates(0);
+		final var budget = new DsvBudget(7, null);
+		new DsvParallelScorer(executorService, 3, 2).score(children(100).iterator(), SCORER, parallelCandidates, budget);
+		assertThat(parallelCandidates.getCandidates()).isEqualTo(sequentialCandidates.getCandidates());
+		assertThat(budget.isExhausted()).isTrue();
+	}
+
+	@Test
+	void testScoreEmpty() {
+		final var candidates = new DsvMendCandidates(0);
+		new DsvParallelScorer(executorService, 3, 2)
+				.score(children(10).iterator(), child -> OptionalDouble.empty(), candidates, new DsvBudget(0, null));
+		assertThat(candidates.getCandidates()).isEmpty();
+	}
+
+	@Test
+	void testScoreException() {
+		final var parallelScorer = new DsvParallelScorer(executorService, 3, 2);
+		final var candidates = new DsvMendCandidates(0);
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(
+				() -> parallelScorer.score(
+						children(10).iterator(),
+						child -> {
+							throw new IllegalStateException();
+						},
+						candidates,
+						new DsvBudget(0, null)
+				)
+		);
+	}
+
+	@Test
+	void testScoreInvalid() {
+		final var parallelScorer = new DsvParallelScorer(executorService);
+		final var candidates = new DsvMendCandidates(0);
+		final var budget = new DsvBudget(0, null);
+		assertThatNullPointerException()
+				.isThrownBy(() -> parallelScorer.score(null, SCORER, candidates, budget));
+		assertThatNullPointerException()
+				.isThrownBy(() -> parallelScorer.score(children(1).iterator(), null, candidates, budget));
+		assertThatNullPointerException()
+				.isThrownBy(() -> parallelScorer.score(children(1).iterator(), SCORER, null, budget));
+		assertThatNullPointerException()
+				.isThrownBy(() -> parallelScorer.score(children(1).iterator(), SCORER, candidates, null));
+	}
+}
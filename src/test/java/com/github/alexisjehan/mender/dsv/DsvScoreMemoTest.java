@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import com.github.alexisjehan.javanilla.lang.array.ObjectArrays;
+import com.github.alexisjehan.mender.api.evaluators.ConstraintEvaluator;
+import com.github.alexisjehan.mender.api.evaluators.EstimationEvaluator;
+import com.github.alexisjehan.mender.api.evaluators.Evaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class DsvScoreMemoTest {
+
+	private static Evaluator<String[]> newColumnEvaluator(final int column, final Map<String, Double> scores) {
+		return new Evaluator<>() {
+
+			@Override
+			public double evaluate(final String[] values) {
+				return scores.get(values[column]);
+			}
+
+			@Override
+			public OptionalInt getColumn() {
+				return OptionalInt.of(column);
+			}
+		};
+	}
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvScoreMemo(null, 2, false));
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvScoreMemo(Collections.singletonList(null), 2, false));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DsvScoreMemo(List.of(), -1, false));
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new DsvScoreMemo(
+						List.of(EstimationEvaluator.ofColumn(new EstimationEvaluator<String>(Function.identity()), 2)),
+						2,
+						false
+				)
+		);
+	}
+
+	@Test
+	void testApply() {
+		for (final var concurrent : new boolean[] {false, true}) {
+			final var calls = new ArrayList<String>();
+			final var estimationEvaluator = EstimationEvaluator.ofColumn(
+					new EstimationEvaluator<String>(value -> {
+						calls.add(value);
+						return value;
+					}),
+					0
+			);
+			estimationEvaluator.fit(ObjectArrays.of("a", "b"));
+			calls.clear();
+			final var scoreMemo = new DsvScoreMemo(
+					List.of(estimationEvaluator, new ConstraintEvaluator<>(values -> !values[1].isEmpty())),
+					2,
+					concurrent
+			);
+			assertThat(scoreMemo.apply(ObjectArrays.of("a", "b"))).hasValue(1.0d);
+			assertThat(scoreMemo.apply(ObjectArrays.of("a", "c"))).hasValue(1.0d);
+			assertThat(scoreMemo.apply(ObjectArrays.of("b", "c"))).hasValue(0.5d);
+			assertThat(scoreMemo.apply(ObjectArrays.of("a", "")).orElseThrow()).isNaN();
+			assertThat(calls).containsExactly("a", "b");
+		}
+	}
+
+	@Test
+	void testApplyOrder() {
+		final var scoreMemo = new DsvScoreMemo(
+				List.of(
+						newColumnEvaluator(0, Map.of("a", 0.1d, "b", 0.1d)),
+						newColumnEvaluator(1, Map.of("a", 0.2d, "b", 0.6d)),
+						newColumnEvaluator(0, Map.of("a", 0.6d, "b", 0.2d))
+				),
+				2,
+				score -> score,
+				false
+		);
+		assertThat(scoreMemo.apply(ObjectArrays.of("a", "a"))).hasValue(0.1d + 0.2d + 0.6d);
+		assertThat(scoreMemo.apply(ObjectArrays.of("b", "b"))).hasValue(0.1d + 0.6d + 0.2d);
+		assertThat(scoreMemo.apply(ObjectArrays.of("a", "a")).orElseThrow())
+				.isGreaterThan(scoreMemo.apply(ObjectArrays.of("b", "b")).orElseThrow());
+	}
+
+	@Test
+	void testApplyThreshold() {
+		final var estimationEvaluator = EstimationEvaluator.ofColumn(new EstimationEvaluator<String>(Function.identity()), 0);
+		estimationEvaluator.fit(ObjectArrays.of("a", "x"));
+		estimationEvaluator.fit(ObjectArrays.of("a", "x"));
+		estimationEvaluator.fit(ObjectArrays.of("b", "x"));
+		final var calls = new ArrayList<String>();
+		final var scoreMemo = new DsvScoreMemo(
+				List.of(estimationEvaluator, new ConstraintEvaluator<>(values -> calls.add(values[0]))),
+				2,
+				false
+		);
+		assertThat(scoreMemo.apply(ObjectArrays.of("b", "x"), 0.7d)).isEmpty();
+		assertThat(calls).isEmpty();
+		assertThat(scoreMemo.apply(ObjectArrays.of("b", "x"), 0.6d)).hasValue(2.0d / 3.0d);
+		assertThat(scoreMemo.apply(ObjectArrays.of("a", "x"), 0.7d)).hasValue((2.0d / 3.0d + 1.0d) / 2.0d);
+		assertThat(scoreMemo.apply(ObjectArrays.of("b", "x"), Double.NaN)).hasValue(2.0d / 3.0d);
+		assertThat(calls).containsExactly("b", "a", "b");
+	}
+
+	@Test
+	void testApplyThresholdUnbounded() {
+		final var calls = new ArrayList<String>();
+		final var scoreMemo = new DsvScoreMemo(
+				List.of(new ConstraintEvaluator<>(values -> !values[0].isEmpty()), values -> {
+					calls.add(values[0]);
+					return 3.0d;
+				}),
+				2,
+				score -> score,
+				false
+		);
+		assertThat(scoreMemo.apply(ObjectArrays.of("a", "x"), 2.0d)).hasValue(4.0d);
+		assertThat(scoreMemo.apply(ObjectArrays.of(Strings.EMPTY, "x"), 2.0d).orElseThrow()).isNaN();
+		assertThat(calls).containsExactly("a");
+	}
+
+	@Test
+	void testApplyEmpty() {
+		final var scoreMemo = new DsvScoreMemo(List.of(), 2, false);
+		assertThat(scoreMemo.apply(ObjectArrays.of("a", "b"))).isEmpty();
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import com.github.alexisjehan.javanilla.lang.array.ObjectArrays;
+import com.github.alexisjehan.mender.api.evaluators.ConstraintEvaluator;
+import com.github.alexisjehan.mender.api.evaluators.EstimationEvaluator;
+import com.github.alexisjehan.mender.api.evaluators.Evaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class DsvSegmentationTest {
+
+	private static final String DELIMITER = ",";
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvSegmentation(null, List.of(List.of(), List.of())));
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvSegmentation(DELIMITER, null));
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvSegmentation(DELIMITER, Arrays.asList(List.of(), null)));
+		assertThatNullPointerException()
+				.isThrownBy(() -> new DsvSegmentation(DELIMITER, List.of(List.of(), Collections.singletonList(null))));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DsvSegmentation(DELIMITER, List.of(List.of())));
+	}
+
+	@Test
+	void testSearchJoins() {
+		final var estimationEvaluator = new EstimationEvaluator<String[]>(values -> values[1].length());
+		estimationEvaluator.fit(ObjectArrays.of(Strings.EMPTY, "foo", Strings.EMPTY));
+		final var segmentation = new DsvSegmentation(
+				DELIMITER,
+				List.of(
+						List.of(new ConstraintEvaluator<>(values -> values[0].startsWith("a"))),
+						List.of(estimationEvaluator),
+						List.of()
+				)
+		);
+		assertThat(segmentation.search(ObjectArrays.of("a", "b", "c", "d", "e")))
+				.containsExactly("a,b", "c,d", "e");
+		assertThat(segmentation.search(ObjectArrays.of("a", "b", "c", "d")))
+				.containsExactly("a", "b,c", "d");
+		assertThat(segmentation.search(ObjectArrays.of("a", "b", "c", "d", "e", "f")))
+				.containsExactly("a,b,c", "d,e", "f");
+		assertThat(segmentation.search(ObjectArrays.of("b", "a", "c", "d"))).isNull();
+	}
+
+	@Test
+	void testSearchShifts() {
+		final var estimationEvaluator = new EstimationEvaluator<String[]>(values -> values[1].length());
+		estimationEvaluator.fit(ObjectArrays.of("a", Strings.EMPTY, "b"));
+		final var segmentation = new DsvSegmentation(
+				DELIMITER,
+				List.of(
+						List.of(new ConstraintEvaluator<>(values -> values[0].startsWith("a"))),
+						List.of(estimationEvaluator),
+						List.of()
+				)
+		);
+		assertThat(segmentation.search(ObjectArrays.of("a", "b")))
+				.containsExactly("a", Strings.EMPTY, "b");
+		assertThat(segmentation.search(ObjectArrays.of("a")))
+				.containsExactly("a", Strings.EMPTY, Strings.EMPTY);
+		assertThat(segmentation.search(ObjectArrays.of("b"))).isNull();
+	}
+
+	@Test
+	void testSearchTies() {
+		final var segmentation = new DsvSegmentation(
+				DELIMITER,
+				List.<List<Evaluator<String[]>>>of(List.of(), List.of(), List.of())
+		);
+		assertThat(segmentation.search(ObjectArrays.of("a", "b", "c", "d", "e")))
+				.containsExactly("a,b,c", "d", "e");
+		assertThat(segmentation.search(ObjectArrays.of("a")))
+				.containsExactly(Strings.EMPTY, Strings.EMPTY, "a");
+	}
+
+	@Test
+	void testSearchBest() {
+		final var segmentation = new DsvSegmentation(
+				DELIMITER,
+				List.<List<Evaluator<String[]>>>of(List.of(), List.of(), List.of())
+		);
+		assertThat(segmentation.searchBest(ObjectArrays.of("a", "b", "c", "d", "e"), 64)).containsExactly(
+				ObjectArrays.of("a,b,c", "d", "e"),
+				ObjectArrays.of("a,b", "c,d", "e"),
+				ObjectArrays.of("a,b", "c", "d,e"),
+				ObjectArrays.of("a", "b,c,d", "e"),
+				ObjectArrays.of("a", "b,c", "d,e"),
+				ObjectArrays.of("a", "b", "c,d,e")
+		);
+		assertThat(segmentation.searchBest(ObjectArrays.of("a", "b", "c", "d", "e"), 2)).containsExactly(
+				ObjectArrays.of("a,b,c", "d", "e"),
+				ObjectArrays.of("a,b", "c,d", "e")
+		);
+		assertThat(segmentation.searchBest(ObjectArrays.of("a"), 64)).containsExactly(
+				ObjectArrays.of(Strings.EMPTY, Strings.EMPTY, "a"),
+				ObjectArrays.of(Strings.EMPTY, "a", Strings.EMPTY),
+				ObjectArrays.of("a", Strings.EMPTY, Strings.EMPTY)
+		);
+		final var estimationEvaluator = new EstimationEvaluator<String[]>(values -> values[1].length());
+		estimationEvaluator.fit(ObjectArrays.of(Strings.EMPTY, "foo", Strings.EMPTY));
+		final var estimatedSegmentation = new DsvSegmentation(
+				DELIMITER,
+				List.of(
+						List.of(new ConstraintEvaluator<>(values -> values[0].startsWith("a"))),
+						List.of(estimationEvaluator),
+						List.of()
+				)
+		);
+		assertThat(estimatedSegmentation.searchBest(ObjectArrays.of("a", "b", "c", "d", "e", "f"), 64)).containsExactly(
+				ObjectArrays.of("a,b,c", "d,e", "f"),
+				ObjectArrays.of("a,b", "c,d", "e,f"),
+				ObjectArrays.of("a", "b,c", "d,e,f")
+		);
+		assertThat(estimatedSegmentation.searchBest(ObjectArrays.of("b", "a", "c", "d"), 64)).isEmpty();
+	}
+
+	@Test
+	void testSearchBestInvalid() {
+		final var segmentation = new DsvSegmentation(
+				DELIMITER,
+				List.<List<Evaluator<String[]>>>of(List.of(), List.of())
+		);
+		assertThatNullPointerException().isThrownBy(() -> segmentation.searchBest(null, 1));
+		assertThatIllegalArgumentException().isThrownBy(() -> segmentation.searchBest(ObjectArrays.of("a", "b"), 1));
+		assertThatIllegalArgumentException().isThrownBy(() -> segmentation.searchBest(ObjectArrays.of("a"), 0));
+	}
+
+	@Test
+	void testSearchInvalid() {
+		final var segmentation = new DsvSegmentation(
+				DELIMITER,
+				List.<List<Evaluator<String[]>>>of(List.of(), List.of())
+		);
+		assertThatNullPointerException().isThrownBy(() -> segmentation.search(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> segmentation.search(ObjectArrays.of("a", "b")));
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2017-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mender.dsv;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import com.github.alexisjehan.javanilla.lang.array.ObjectArrays;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class DsvSplitterTest {
+
+	private static final String DELIMITER = ",";
+
+	private static final String MULTI_DELIMITER = "::";
+
+	@Test
+	void testCount() {
+		assertThat(DsvSplitter.count(DELIMITER, Strings.EMPTY)).isEqualTo(1);
+		assertThat(DsvSplitter.count(DELIMITER, "foo")).isEqualTo(1);
+		assertThat(DsvSplitter.count(DELIMITER, "foo,,bar")).isEqualTo(3);
+		assertThat(DsvSplitter.count(DELIMITER, ",foo,")).isEqualTo(3);
+		assertThat(DsvSplitter.count(MULTI_DELIMITER, "foo::bar:::")).isEqualTo(3);
+	}
+
+	@Test
+	void testCountInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> DsvSplitter.count(null, "foo"));
+		assertThatIllegalArgumentException().isThrownBy(() -> DsvSplitter.count(Strings.EMPTY, "foo"));
+		assertThatNullPointerException().isThrownBy(() -> DsvSplitter.count(DELIMITER, null));
+	}
+
+	@Test
+	void testSplit() {
+		assertThat(DsvSplitter.split(DELIMITER, Strings.EMPTY)).containsExactly(Strings.EMPTY);
+		assertThat(DsvSplitter.split(DELIMITER, "foo")).containsExactly("foo");
+		assertThat(DsvSplitter.split(DELIMITER, "foo,,bar")).containsExactly("foo", Strings.EMPTY, "bar");
+		assertThat(DsvSplitter.split(DELIMITER, ",foo,")).containsExactly(Strings.EMPTY, "foo", Strings.EMPTY);
+		assertThat(DsvSplitter.split(MULTI_DELIMITER, "foo::bar")).containsExactly("foo", "bar");
+		assertThat(DsvSplitter.split(MULTI_DELIMITER, "foo:::bar::")).containsExactly("foo", ":bar", Strings.EMPTY);
+	}
+
+	@Test
+	void testSplitBuffer() {
+		final var buffer = new String[3];
+		assertThat(DsvSplitter.split(DELIMITER, "foo,,bar", buffer)).isEqualTo(3);
+		assertThat(buffer).containsExactly("foo", Strings.EMPTY, "bar");
+		assertThat(DsvSplitter.split(DELIMITER, "bar", buffer)).isEqualTo(1);
+		assertThat(buffer).containsExactly("bar", Strings.EMPTY, "bar");
+		assertThat(DsvSplitter.split(DELIMITER, "a,b,c,d,e", buffer)).isEqualTo(5);
+		assertThat(buffer).containsExactly("a", "b", "c");
+		assertThat(DsvSplitter.split(DELIMITER, "foo", new String[0])).isEqualTo(1);
+	}
+
+	@Test
+	void testSplitRest() {
+		final var buffer = new String[3];
+		final var count = DsvSplitter.split(DELIMITER, "a,b,c,d,e", buffer);
+		assertThat(DsvSplitter.split(DELIMITER, "a,b,c,d,e", buffer, count)).containsExactly("a", "b", "c", "d", "e");
+		final var scannedBuffer = ObjectArrays.of("x", "y", "z");
+		assertThat(DsvSplitter.split(DELIMITER, "a,b,c,d,e", scannedBuffer, count))
+				.containsExactly("x", "y", "z", "d", "e");
+		final var multiBuffer = new String[2];
+		final var multiCount = DsvSplitter.split(MULTI_DELIMITER, "foo::::bar:::", multiBuffer);
+		assertThat(DsvSplitter.split(MULTI_DELIMITER, "foo::::bar:::", multiBuffer, multiCount))
+				.containsExactly("foo", Strings.EMPTY, "bar", ":");
+		final var largeBuffer = new String[5];
+		final var largeCount = DsvSplitter.split(DELIMITER, "foo,bar", largeBuffer);
+		assertThat(DsvSplitter.split(DELIMITER, "foo,bar", largeBuffer, largeCount)).containsExactly("foo", "bar");
+		assertThat(DsvSplitter.split(DELIMITER, "foo,bar", new String[0], 2)).containsExactly("foo", "bar");
+	}
+
+	@Test
+	void testSplitInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> DsvSplitter.split(null, "foo"));
+		assertThatIllegalArgumentException().isThrownBy(() -> DsvSplitter.split(Strings.EMPTY, "foo"));
+		assertThatNullPointerException().isThrownBy(() -> DsvSplitter.split(DELIMITER, null));
+		assertThatNullPointerException().isThrownBy(() -> DsvSplitter.split(DELIMITER, "foo", null));
+		assertThatNullPointerException().isThrownBy(() -> DsvSplitter.split(DELIMITER, "foo", null, 1));
+		assertThatIllegalArgumentException().isThrownBy(() -> DsvSplitter.split(DELIMITER, "foo", new String[1], 0));
+	}
+}